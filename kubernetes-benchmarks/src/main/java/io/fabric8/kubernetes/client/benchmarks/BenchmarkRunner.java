@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks;
+
+import io.fabric8.kubernetes.client.benchmarks.load.LoadTest;
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Delegates to the JMH launcher, defaulting the result format to JSON so every
+ * run leaves a machine-readable {@code jmh-result.json} (or the file given with {@code -rff}) that can be archived
+ * and compared across builds to track regressions. A first argument of {@code load} runs the {@link LoadTest}
+ * instead.
+ */
+public class BenchmarkRunner {
+
+  static final String RESULT_FORMAT_OPTION = "-rf";
+  static final String DEFAULT_RESULT_FORMAT = "json";
+  static final String LOAD_TEST = "load";
+
+  private BenchmarkRunner() { }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && LOAD_TEST.equals(args[0])) {
+      LoadTest.main(Arrays.copyOfRange(args, 1, args.length));
+    } else {
+      Main.main(withDefaults(args));
+    }
+  }
+
+  static String[] withDefaults(String[] args) {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    if (!arguments.contains(RESULT_FORMAT_OPTION)) {
+      arguments.add(0, RESULT_FORMAT_OPTION);
+      arguments.add(1, DEFAULT_RESULT_FORMAT);
+    }
+    return arguments.toArray(new String[0]);
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.PodSpecBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+
+/**
+ * Realistically sized resources shared by the benchmarks, so that payloads are comparable across suites.
+ */
+public class Resources {
+
+  private Resources() { }
+
+  public static PodList podList(int items) {
+    PodListBuilder list = new PodListBuilder().withNewMetadata().withResourceVersion("1000").endMetadata();
+    for (int i = 0; i < items; i++) {
+      list.addToItems(pod("pod-" + i, i));
+    }
+    return list.build();
+  }
+
+  public static Pod pod(String name, int index) {
+    return new PodBuilder().withMetadata(metadata(name)).withSpec(podSpec())
+      .withNewStatus().withPhase("Running").withPodIP("10.0.0." + (index % 250)).withHostIP("192.168.0.1")
+      .addNewCondition().withType("Ready").withStatus("True").endCondition()
+      .addNewContainerStatus().withName("app").withReady(true).withRestartCount(0).withImage("quay.io/app:1.0").endContainerStatus()
+      .endStatus()
+      .build();
+  }
+
+  public static ObjectMeta metadata(String name) {
+    return new ObjectMetaBuilder().withName(name).withNamespace("default").withResourceVersion("42")
+      .withUid("9c1d3f0e-2b7a-4e9f-8a51-" + String.format("%012d", name.hashCode() & 0x7fffffff))
+      .addToLabels("app", name).addToLabels("tier", "backend").addToLabels("version", "1.0")
+      .addToAnnotations("deployment.kubernetes.io/revision", "2")
+      .withCreationTimestamp("2021-04-01T10:00:00Z")
+      .build();
+  }
+
+  public static PodSpec podSpec() {
+    return new PodSpecBuilder()
+      .addToContainers(new ContainerBuilder().withName("app").withImage("quay.io/app:1.0")
+        .addToArgs("--port=8080", "--verbose")
+        .addNewEnv().withName("JAVA_OPTS").withValue("-Xmx512m").endEnv()
+        .addNewEnv().withName("POD_NAME").withNewValueFrom().withNewFieldRef().withFieldPath("metadata.name").endFieldRef().endValueFrom().endEnv()
+        .addNewPort().withContainerPort(8080).withName("http").withProtocol("TCP").endPort()
+        .withNewResources().addToRequests("cpu", new Quantity("100m")).addToRequests("memory", new Quantity("256Mi"))
+        .addToLimits("cpu", new Quantity("1")).addToLimits("memory", new Quantity("512Mi")).endResources()
+        .withNewReadinessProbe().withNewHttpGet().withPath("/health").withNewPort(8080).endHttpGet().endReadinessProbe()
+        .addNewVolumeMount().withName("config").withMountPath("/etc/config").endVolumeMount()
+        .build())
+      .addNewVolume().withName("config").withNewConfigMap().withName("app-config").endConfigMap().endVolume()
+      .withServiceAccountName("default").withNodeName("node-1").withRestartPolicy("Always")
+      .build();
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.dsl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.benchmarks.Resources;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full client round trips (request building, HTTP over loopback, serialization and the CRUD dispatcher)
+ * against a {@link KubernetesMockServer} in CRUD mode already holding the given number of pods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrudRoundTripBenchmark {
+
+  private static final String NAMESPACE = "default";
+
+  @Param({"0", "1000"})
+  public int stored;
+
+  private KubernetesMockServer server;
+  private NamespacedKubernetesClient client;
+  private Pod template;
+  private int counter;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    server = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(), new KubernetesCrudDispatcher(), false);
+    server.init();
+    client = server.createClient();
+    for (int i = 0; i < stored; i++) {
+      client.pods().inNamespace(NAMESPACE).create(Resources.pod("pod-" + i, i));
+    }
+    template = Resources.pod("round-trip", 0);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.destroy();
+  }
+
+  @Benchmark
+  public Boolean createGetDelete() {
+    Pod pod = new PodBuilder(template).editMetadata().withName("round-trip-" + counter++).endMetadata().build();
+    client.pods().inNamespace(NAMESPACE).create(pod);
+    client.pods().inNamespace(NAMESPACE).withName(pod.getMetadata().getName()).get();
+    return client.pods().inNamespace(NAMESPACE).withName(pod.getMetadata().getName()).delete();
+  }
+
+  @Benchmark
+  public Pod get() {
+    return client.pods().inNamespace(NAMESPACE).withName("pod-0").get();
+  }
+
+  @Benchmark
+  public PodList listByLabel() {
+    return client.pods().inNamespace(NAMESPACE).withLabel("app", "pod-0").list();
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.dsl;
+
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BaseOperation#getLabelQueryParam()}, which renders the label selector of every list, watch and
+ * informer request, for an operation combining equality, inequality, set and existence requirements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LabelQueryParamBenchmark {
+
+  @Param({"1", "10"})
+  public int labels;
+
+  private KubernetesClient client;
+  private BaseOperation<?, ?, ?> operation;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    client = new DefaultKubernetesClient(new ConfigBuilder().withMasterUrl("https://localhost:8443").build());
+    String[] values = {"a", "b", "c"};
+    operation = (BaseOperation<?, ?, ?>) client.pods().inNamespace("default");
+    for (int i = 0; i < labels; i++) {
+      operation.withLabel("label-" + i, "value-" + i);
+      operation.withoutLabel("excluded-" + i, "value-" + i);
+      operation.withLabelIn("in-" + i, values);
+      operation.withLabelNotIn("notin-" + i, values);
+      operation.withLabel("exists-" + i);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  public String getLabelQueryParam() {
+    return operation.getLabelQueryParam();
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.dsl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.benchmarks.Resources;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the delivery of Pod watch events through the public watch API, from the WebSocket frames sent by a
+ * {@link KubernetesMockServer} to {@link Watcher#eventReceived}, which is dominated by their decoding. Each
+ * invocation opens a watch receiving a burst of events, the time reported is per event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WatchEventBenchmark {
+
+  private static final String NAMESPACE = "default";
+  private static final int EVENTS = 1000;
+
+  private KubernetesMockServer server;
+  private NamespacedKubernetesClient client;
+  private Object[] events;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    server = new KubernetesMockServer(false);
+    server.init();
+    events = IntStream.range(0, EVENTS)
+      .mapToObj(i -> Serialization.asJson(new WatchEvent(Resources.pod("pod-" + i, i), "MODIFIED")))
+      .toArray();
+    client = server.createClient();
+  }
+
+  /**
+   * A mock WebSocket session can only be played once.
+   */
+  @Setup(Level.Invocation)
+  public void expectWatch() {
+    server.expect().withPath("/api/v1/namespaces/" + NAMESPACE + "/pods?watch=true")
+      .andUpgradeToWebSocket()
+      .open(events)
+      .done()
+      .once();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    server.destroy();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void watch() throws InterruptedException {
+    final CountDownLatch received = new CountDownLatch(EVENTS);
+    try (Watch ignored = client.pods().inNamespace(NAMESPACE).watch(new Watcher<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        received.countDown();
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+      }
+    })) {
+      if (!received.await(1, TimeUnit.MINUTES)) {
+        throw new IllegalStateException(received.getCount() + " events weren't received");
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.informers;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ConcurrentCache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the informer {@link Indexer} implementations under a mixed load of one writer applying
+ * watch events and several readers listing, querying by index and by key, as reconcilers do.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+  private static final int NAMESPACES = 20;
+
+  @Param({"Cache", "ConcurrentCache"})
+  public String implementation;
+
+  @Param({"1000", "10000"})
+  public int size;
+
+  private Indexer<Pod> indexer;
+  private List<Pod> pods;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    indexer = "Cache".equals(implementation) ? new Cache<>() : new ConcurrentCache<>();
+    pods = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      pods.add(pod("namespace-" + (i % NAMESPACES), "pod-" + i, "1"));
+    }
+    indexer.replace(new ArrayList<>(pods), "1");
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(1)
+  public Pod write() {
+    Pod pod = pods.get(ThreadLocalRandom.current().nextInt(size));
+    indexer.update(pod);
+    return pod;
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(3)
+  public List<Pod> byIndex() {
+    return indexer.byIndex(Cache.NAMESPACE_INDEX, "namespace-" + ThreadLocalRandom.current().nextInt(NAMESPACES));
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(3)
+  public Pod getByKey() {
+    int i = ThreadLocalRandom.current().nextInt(size);
+    return indexer.getByKey("namespace-" + (i % NAMESPACES) + "/pod-" + i);
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(1)
+  public List<Pod> list() {
+    return indexer.list();
+  }
+
+  private static Pod pod(String namespace, String name, String resourceVersion) {
+    return new PodBuilder()
+      .withNewMetadata().withNamespace(namespace).withName(name).withResourceVersion(resourceVersion).endMetadata()
+      .withNewSpec().withNodeName("node-" + name.hashCode() % 10).endSpec()
+      .build();
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.informers;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the single threaded cost of populating the informer {@link Cache}, applying an update to every
+ * object that moves it to another index bucket, and querying an index, with the default namespace index alone
+ * or together with node and label indexes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheIndexingBenchmark {
+
+  private static final int NAMESPACES = 20;
+  private static final int NODES = 10;
+
+  @Param({"1000", "10000"})
+  public int size;
+
+  @Param({"1", "3"})
+  public int indexes;
+
+  private List<Pod> pods;
+  private List<Pod> moved;
+  private Cache<Pod> cache;
+  private boolean flip;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    pods = new ArrayList<>(size);
+    moved = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      pods.add(pod(i, "node-" + (i % NODES), "1"));
+      moved.add(pod(i, "node-" + ((i + 1) % NODES), "2"));
+    }
+    cache = populate();
+  }
+
+  @Benchmark
+  public Cache<Pod> add() {
+    return populate();
+  }
+
+  @Benchmark
+  public Cache<Pod> update() {
+    List<Pod> next = flip ? pods : moved;
+    flip = !flip;
+    for (Pod pod : next) {
+      cache.update(pod);
+    }
+    return cache;
+  }
+
+  @Benchmark
+  public List<Pod> byIndex() {
+    return cache.byIndex(Cache.NAMESPACE_INDEX, "namespace-" + (size % NAMESPACES));
+  }
+
+  private Cache<Pod> populate() {
+    Cache<Pod> populated = new Cache<>();
+    if (indexes > 1) {
+      Map<String, Function<Pod, List<String>>> indexers = new HashMap<>();
+      indexers.put("node", pod -> Collections.singletonList(pod.getSpec().getNodeName()));
+      indexers.put("app", pod -> Collections.singletonList(pod.getMetadata().getLabels().get("app")));
+      populated.addIndexers(indexers);
+    }
+    for (Pod pod : pods) {
+      populated.add(pod);
+    }
+    return populated;
+  }
+
+  private static Pod pod(int index, String node, String resourceVersion) {
+    return new PodBuilder()
+      .withNewMetadata().withNamespace("namespace-" + (index % NAMESPACES)).withName("pod-" + index)
+      .withResourceVersion(resourceVersion).addToLabels("app", "app-" + (index % 100)).endMetadata()
+      .withNewSpec().withNodeName(node).endSpec()
+      .build();
+  }
+}
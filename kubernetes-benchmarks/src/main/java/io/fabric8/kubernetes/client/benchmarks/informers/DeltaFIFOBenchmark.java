@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.informers;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.DeltaFIFO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by the informer {@link DeltaFIFO} to queue a storm of watch events
+ * (one second worth of events at 10k events/s by default) spread over a number of keys, and to
+ * drain it in batches of the given size. Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeltaFIFOBenchmark {
+
+  @Param({"10000"})
+  public int events;
+
+  @Param({"100", "10000"})
+  public int keys;
+
+  @Param({"1", "100"})
+  public int batchSize;
+
+  private Cache<Pod> knownObjects;
+  private List<Pod> updates;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    knownObjects = new Cache<>();
+    updates = new ArrayList<>(events);
+    for (int i = 0; i < events; i++) {
+      int key = i % keys;
+      Pod pod = pod("pod-" + key, String.valueOf(i));
+      if (i < keys) {
+        knownObjects.add(pod);
+      }
+      updates.add(pod);
+    }
+  }
+
+  @Benchmark
+  public int storm(Blackhole blackhole) {
+    DeltaFIFO<Pod> fifo = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, knownObjects);
+    for (Pod pod : updates) {
+      fifo.update(pod);
+    }
+    int popped = 0;
+    int count;
+    while ((count = fifo.poll(batchSize, blackhole::consume)) > 0) {
+      popped += count;
+    }
+    return popped;
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder()
+      .withNewMetadata().withNamespace("default").withName(name).withResourceVersion(resourceVersion).endMetadata()
+      .build();
+  }
+}
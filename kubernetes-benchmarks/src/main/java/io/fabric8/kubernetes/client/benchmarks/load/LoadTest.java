@@ -0,0 +1,423 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.load;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Load generator running a {@link KubernetesMockServer} in CRUD mode and a single client in the same JVM.
+ * ConfigMaps are created, updated and deleted at fixed rates in a number of namespaces while shared informers and
+ * watches follow all of them. The latency of every client operation and the delay until each change reaches the
+ * informers and watches are reported together with the throughput.
+ * <p>
+ * Operations are started when they are due regardless of how long the previous ones took, and their latency is
+ * measured from that time, so that a saturated client shows up as growing latencies rather than as a lower rate.
+ */
+public class LoadTest {
+
+  static final String SENT_ANNOTATION = "load.fabric8.io/sent";
+  static final String NAMESPACE_PREFIX = "load-";
+
+  private static final String CREATE = "create";
+  private static final String UPDATE = "update";
+  private static final String DELETE = "delete";
+  private static final String WATCH = "watch event";
+  private static final String INFORMER = "informer event";
+  private static final long SYNC_TIMEOUT_SECONDS = 60;
+  private static final long SETTLE_MILLIS = 2000;
+
+  // held so that the level set on it isn't lost when the logger is garbage collected
+  private static final Logger MOCK_WEB_SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+  private final LoadTestOptions options;
+  private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+  private final Map<String, AtomicLong> counts = new LinkedHashMap<>();
+  private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+  // namespace/name of the objects no update or delete is in flight for, so that operations never conflict
+  private final List<String> idle = new ArrayList<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong closedWatches = new AtomicLong();
+  private final String payload;
+  private volatile long measuredFrom = Long.MAX_VALUE;
+
+  public LoadTest(LoadTestOptions options) {
+    this.options = options;
+    for (String metric : new String[] { CREATE, UPDATE, DELETE, WATCH, INFORMER }) {
+      latencies.put(metric, new LatencyHistogram());
+      counts.put(metric, new AtomicLong());
+      errors.put(metric, new AtomicLong());
+    }
+    this.payload = String.join("", Collections.nCopies(options.getSize(), "x"));
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (Arrays.asList(args).contains("--help")) {
+      System.out.println(LoadTestOptions.USAGE);
+      return;
+    }
+    LoadTestOptions options;
+    try {
+      options = LoadTestOptions.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(1);
+      return;
+    }
+    MOCK_WEB_SERVER_LOGGER.setLevel(Level.WARNING);
+    new LoadTest(options).run(System.out);
+  }
+
+  public void run(PrintStream out) throws InterruptedException, IOException {
+    MockWebServer webServer = new MockWebServer();
+    webServer.setServerSocketFactory(new NoDelayServerSocketFactory());
+    KubernetesMockServer server = new KubernetesMockServer(new Context(), webServer, new HashMap<>(), new KubernetesCrudDispatcher(), false);
+    server.init();
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    ExecutorService workers = Executors.newFixedThreadPool(options.getThreads());
+    List<SharedInformerFactory> informerFactories = new ArrayList<>();
+    List<Watch> watches = new ArrayList<>();
+    try (NamespacedKubernetesClient client = server.createClient()) {
+      out.printf("Preloading %d ConfigMaps of %d bytes in %d namespaces%n", options.getPreload(), options.getSize(), options.getNamespaces());
+      for (int i = 0; i < options.getPreload(); i++) {
+        create(client, System.nanoTime());
+      }
+      out.printf("Starting %d informers and %d watches%n", options.getInformers(), options.getWatches());
+      startInformers(client, informerFactories);
+      startWatches(client, watches);
+      measuredFrom = System.nanoTime();
+
+      out.printf("Running for %d s on %d processors: %.1f creates/s, %.1f updates/s, %.1f deletes/s with %d client threads%n",
+        options.getDuration(), Runtime.getRuntime().availableProcessors(),
+        options.getCreates(), options.getUpdates(), options.getDeletes(), options.getThreads());
+      schedule(scheduler, workers, options.getCreates(), due -> create(client, due));
+      schedule(scheduler, workers, options.getUpdates(), due -> update(client, due));
+      schedule(scheduler, workers, options.getDeletes(), due -> delete(client, due));
+      awaitEnd(out);
+      scheduler.shutdownNow();
+      workers.shutdown();
+      workers.awaitTermination(1, TimeUnit.MINUTES);
+      long elapsed = System.nanoTime() - measuredFrom;
+      awaitEvents();
+
+      report(out, elapsed);
+      if (options.getOutput() != null) {
+        write(new File(options.getOutput()), elapsed);
+        out.printf("Report written to %s%n", options.getOutput());
+      }
+    } finally {
+      scheduler.shutdownNow();
+      workers.shutdownNow();
+      watches.forEach(Watch::close);
+      informerFactories.forEach(factory -> factory.stopAllRegisteredInformers(false));
+      server.destroy();
+    }
+  }
+
+  private void startInformers(NamespacedKubernetesClient client, List<SharedInformerFactory> factories) throws InterruptedException {
+    List<SharedIndexInformer<ConfigMap>> informers = new ArrayList<>();
+    for (int i = 0; i < options.getInformers(); i++) {
+      SharedInformerFactory factory = client.informers();
+      SharedIndexInformer<ConfigMap> informer = factory.sharedIndexInformerFor(ConfigMap.class, 0);
+      informer.addEventHandler(new ResourceEventHandler<ConfigMap>() {
+        @Override
+        public void onAdd(ConfigMap obj) {
+          received(INFORMER, obj);
+        }
+
+        @Override
+        public void onUpdate(ConfigMap oldObj, ConfigMap newObj) {
+          received(INFORMER, newObj);
+        }
+
+        @Override
+        public void onDelete(ConfigMap obj, boolean deletedFinalStateUnknown) {
+          counts.get(INFORMER).incrementAndGet();
+        }
+      });
+      factory.startAllRegisteredInformers();
+      factories.add(factory);
+      informers.add(informer);
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SYNC_TIMEOUT_SECONDS);
+    for (SharedIndexInformer<ConfigMap> informer : informers) {
+      while (!informer.hasSynced()) {
+        if (System.nanoTime() > deadline) {
+          throw new IllegalStateException("Informers didn't sync within " + SYNC_TIMEOUT_SECONDS + " seconds");
+        }
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  private void startWatches(NamespacedKubernetesClient client, List<Watch> watches) {
+    String resourceVersion = client.configMaps().inAnyNamespace().list().getMetadata().getResourceVersion();
+    for (int i = 0; i < options.getWatches(); i++) {
+      watches.add(client.configMaps().inAnyNamespace().watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(),
+        new Watcher<ConfigMap>() {
+          @Override
+          public void eventReceived(Action action, ConfigMap resource) {
+            if (action == Action.DELETED) {
+              counts.get(WATCH).incrementAndGet();
+            } else if (action == Action.ADDED || action == Action.MODIFIED) {
+              received(WATCH, resource);
+            }
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+            closedWatches.incrementAndGet();
+          }
+        }));
+    }
+  }
+
+  private void schedule(ScheduledExecutorService scheduler, ExecutorService workers, double rate, LongConsumer operation) {
+    if (rate > 0) {
+      long period = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+      scheduler.scheduleAtFixedRate(() -> {
+        long due = System.nanoTime();
+        workers.execute(() -> operation.accept(due));
+      }, 0, period, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void awaitEnd(PrintStream out) throws InterruptedException {
+    long end = measuredFrom + TimeUnit.SECONDS.toNanos(options.getDuration());
+    long interval = options.getInterval() > 0 ? TimeUnit.SECONDS.toNanos(options.getInterval()) : Long.MAX_VALUE;
+    Map<String, Long> previous = snapshot();
+    long previousTime = measuredFrom;
+    long now;
+    while ((now = System.nanoTime()) < end) {
+      TimeUnit.NANOSECONDS.sleep(Math.min(interval, end - now));
+      now = System.nanoTime();
+      if (interval != Long.MAX_VALUE && now < end) {
+        Map<String, Long> current = snapshot();
+        StringBuilder line = new StringBuilder(String.format("%5ds", TimeUnit.NANOSECONDS.toSeconds(now - measuredFrom)));
+        for (Map.Entry<String, Long> entry : current.entrySet()) {
+          double rate = (entry.getValue() - previous.get(entry.getKey())) / ((now - previousTime) / 1e9);
+          line.append(String.format("  %s %.1f/s", entry.getKey(), rate));
+        }
+        synchronized (idle) {
+          line.append("  objects ").append(idle.size());
+        }
+        out.println(line);
+        previous = current;
+        previousTime = now;
+      }
+    }
+  }
+
+  private void awaitEvents() throws InterruptedException {
+    long lastProgress = System.nanoTime();
+    long last = -1;
+    while (received() < expected() && System.nanoTime() - lastProgress < TimeUnit.MILLISECONDS.toNanos(SETTLE_MILLIS)) {
+      long current = received();
+      if (current != last) {
+        last = current;
+        lastProgress = System.nanoTime();
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private long writes() {
+    return counts.get(CREATE).get() + counts.get(UPDATE).get() + counts.get(DELETE).get();
+  }
+
+  private long expected() {
+    return writes() * (options.getWatches() + options.getInformers());
+  }
+
+  private long received() {
+    return counts.get(WATCH).get() + counts.get(INFORMER).get();
+  }
+
+  private Map<String, Long> snapshot() {
+    Map<String, Long> snapshot = new LinkedHashMap<>();
+    counts.forEach((metric, count) -> snapshot.put(metric, count.get()));
+    return snapshot;
+  }
+
+  private void create(NamespacedKubernetesClient client, long due) {
+    long id = sequence.getAndIncrement();
+    String namespace = NAMESPACE_PREFIX + (id % options.getNamespaces());
+    String name = "config-" + id;
+    boolean created = timed(CREATE, due, () -> {
+      client.configMaps().inNamespace(namespace).create(new ConfigMapBuilder()
+        .withNewMetadata().withName(name).withNamespace(namespace)
+        .addToLabels("app", "load").addToAnnotations(SENT_ANNOTATION, Long.toString(System.nanoTime())).endMetadata()
+        .addToData("payload", payload)
+        .build());
+      return true;
+    });
+    if (created) {
+      release(namespace + "/" + name);
+    }
+  }
+
+  private void update(NamespacedKubernetesClient client, long due) {
+    String key = acquire();
+    if (key != null) {
+      String[] namespaceAndName = key.split("/");
+      timed(UPDATE, due, () -> {
+        client.configMaps().inNamespace(namespaceAndName[0]).withName(namespaceAndName[1]).edit(configMap -> new ConfigMapBuilder(configMap)
+          .editMetadata().addToAnnotations(SENT_ANNOTATION, Long.toString(System.nanoTime())).endMetadata()
+          .addToData("revision", Long.toString(sequence.getAndIncrement()))
+          .build());
+        return true;
+      });
+      release(key);
+    }
+  }
+
+  private void delete(NamespacedKubernetesClient client, long due) {
+    String key = acquire();
+    if (key != null) {
+      String[] namespaceAndName = key.split("/");
+      if (!timed(DELETE, due, () -> Boolean.TRUE.equals(client.configMaps().inNamespace(namespaceAndName[0]).withName(namespaceAndName[1]).delete()))) {
+        release(key);
+      }
+    }
+  }
+
+  private boolean timed(String operation, long due, BooleanSupplier call) {
+    boolean succeeded;
+    try {
+      succeeded = call.getAsBoolean();
+    } catch (RuntimeException e) {
+      succeeded = false;
+    }
+    if (due < measuredFrom) {
+      return succeeded;
+    }
+    if (succeeded) {
+      latencies.get(operation).record(System.nanoTime() - due);
+      counts.get(operation).incrementAndGet();
+    } else {
+      errors.get(operation).incrementAndGet();
+    }
+    return succeeded;
+  }
+
+  private String acquire() {
+    synchronized (idle) {
+      if (idle.isEmpty()) {
+        return null;
+      }
+      int index = ThreadLocalRandom.current().nextInt(idle.size());
+      String key = idle.get(index);
+      idle.set(index, idle.get(idle.size() - 1));
+      idle.remove(idle.size() - 1);
+      return key;
+    }
+  }
+
+  private void release(String key) {
+    synchronized (idle) {
+      idle.add(key);
+    }
+  }
+
+  private void received(String metric, ConfigMap configMap) {
+    long now = System.nanoTime();
+    String sent = configMap.getMetadata().getAnnotations() != null ? configMap.getMetadata().getAnnotations().get(SENT_ANNOTATION) : null;
+    if (sent != null && Long.parseLong(sent) >= measuredFrom) {
+      latencies.get(metric).record(now - Long.parseLong(sent));
+      counts.get(metric).incrementAndGet();
+    }
+  }
+
+  private void report(PrintStream out, long elapsed) {
+    out.println();
+    out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+      "", "count", "errors", "per sec", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (String metric : latencies.keySet()) {
+      LatencyHistogram histogram = latencies.get(metric);
+      out.printf("%-16s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f%n", metric,
+        counts.get(metric).get(), errors.get(metric).get(), counts.get(metric).get() / (elapsed / 1e9),
+        histogram.getMean() / 1e6, millis(histogram.getPercentile(50)), millis(histogram.getPercentile(90)),
+        millis(histogram.getPercentile(99)), millis(histogram.getPercentile(99.9)), millis(histogram.getMax()));
+    }
+    out.println();
+    out.printf("Events received %d of %d expected, %d watches closed%n", received(), expected(), closedWatches.get());
+    out.println("Event latencies are measured from the write of a change, deletions are only counted.");
+  }
+
+  private void write(File file, long elapsed) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("options", options);
+    report.put("elapsedSeconds", elapsed / 1e9);
+    report.put("eventsReceived", received());
+    report.put("eventsExpected", expected());
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    for (String metric : latencies.keySet()) {
+      LatencyHistogram histogram = latencies.get(metric);
+      Map<String, Object> values = new LinkedHashMap<>();
+      values.put("count", counts.get(metric).get());
+      values.put("errors", errors.get(metric).get());
+      values.put("perSecond", counts.get(metric).get() / (elapsed / 1e9));
+      values.put("meanMillis", histogram.getMean() / 1e6);
+      values.put("p50Millis", millis(histogram.getPercentile(50)));
+      values.put("p90Millis", millis(histogram.getPercentile(90)));
+      values.put("p99Millis", millis(histogram.getPercentile(99)));
+      values.put("p999Millis", millis(histogram.getPercentile(99.9)));
+      values.put("maxMillis", millis(histogram.getMax()));
+      values.put("histogramMillis", histogram.getBuckets());
+      metrics.put(metric, values);
+    }
+    report.put("metrics", metrics);
+    Serialization.jsonMapper().writerWithDefaultPrettyPrinter().writeValue(file, report);
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1e6;
+  }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.load;
+
+/**
+ * Settings of a {@link LoadTest} run, parsed from {@code --name=value} arguments.
+ */
+public class LoadTestOptions {
+
+  static final String USAGE = "Options (rates are operations per second, 0 disables the operation):\n" +
+    "  --duration=60     seconds of churn to measure\n" +
+    "  --namespaces=4    number of namespaces the objects are spread over\n" +
+    "  --creates=20      ConfigMap creations per second\n" +
+    "  --updates=50      ConfigMap updates per second, each a get and a patch\n" +
+    "  --deletes=20      ConfigMap deletions per second\n" +
+    "  --size=1024       bytes of data in each ConfigMap\n" +
+    "  --preload=500     ConfigMaps created before the informers and watches start\n" +
+    "  --informers=1     shared informers following all namespaces\n" +
+    "  --watches=1       watches following all namespaces\n" +
+    "  --threads=8       client threads issuing the operations\n" +
+    "  --interval=10     seconds between progress reports, 0 disables them\n" +
+    "  --output=<file>   also write the report and the latency histograms as JSON";
+
+  private int duration = 60;
+  private int namespaces = 4;
+  private double creates = 20;
+  private double updates = 50;
+  private double deletes = 20;
+  private int size = 1024;
+  private int preload = 500;
+  private int informers = 1;
+  private int watches = 1;
+  private int threads = 8;
+  private int interval = 10;
+  private String output;
+
+  public static LoadTestOptions parse(String... args) {
+    LoadTestOptions options = new LoadTestOptions();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Unexpected argument " + arg + "\n" + USAGE);
+      }
+      String name = arg.substring(2, separator);
+      String value = arg.substring(separator + 1);
+      try {
+        options.set(name, value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid value of --" + name + ": " + value, e);
+      }
+    }
+    if (options.duration <= 0 || options.namespaces <= 0 || options.threads <= 0) {
+      throw new IllegalArgumentException("--duration, --namespaces and --threads must be positive");
+    }
+    if (options.creates < 0 || options.updates < 0 || options.deletes < 0 || options.size < 0 || options.preload < 0
+      || options.informers < 0 || options.watches < 0 || options.interval < 0) {
+      throw new IllegalArgumentException("Rates and counts can't be negative");
+    }
+    return options;
+  }
+
+  private void set(String name, String value) {
+    switch (name) {
+      case "duration":
+        duration = Integer.parseInt(value);
+        break;
+      case "namespaces":
+        namespaces = Integer.parseInt(value);
+        break;
+      case "creates":
+        creates = Double.parseDouble(value);
+        break;
+      case "updates":
+        updates = Double.parseDouble(value);
+        break;
+      case "deletes":
+        deletes = Double.parseDouble(value);
+        break;
+      case "size":
+        size = Integer.parseInt(value);
+        break;
+      case "preload":
+        preload = Integer.parseInt(value);
+        break;
+      case "informers":
+        informers = Integer.parseInt(value);
+        break;
+      case "watches":
+        watches = Integer.parseInt(value);
+        break;
+      case "threads":
+        threads = Integer.parseInt(value);
+        break;
+      case "interval":
+        interval = Integer.parseInt(value);
+        break;
+      case "output":
+        output = value;
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown option --" + name + "\n" + USAGE);
+    }
+  }
+
+  public int getDuration() {
+    return duration;
+  }
+
+  public int getNamespaces() {
+    return namespaces;
+  }
+
+  public double getCreates() {
+    return creates;
+  }
+
+  public double getUpdates() {
+    return updates;
+  }
+
+  public double getDeletes() {
+    return deletes;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getPreload() {
+    return preload;
+  }
+
+  public int getInformers() {
+    return informers;
+  }
+
+  public int getWatches() {
+    return watches;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getInterval() {
+    return interval;
+  }
+
+  public String getOutput() {
+    return output;
+  }
+}
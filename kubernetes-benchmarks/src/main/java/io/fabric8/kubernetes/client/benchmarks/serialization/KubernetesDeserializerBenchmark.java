@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentList;
+import io.fabric8.kubernetes.api.model.apps.DeploymentListBuilder;
+import io.fabric8.kubernetes.client.benchmarks.Resources;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the polymorphic deserialization of PodList and DeploymentList payloads through the
+ * {@link KubernetesDeserializer} against the previous approach, which built the whole JSON tree to look up the
+ * kind before binding it ({@code tree}). Run with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KubernetesDeserializerBenchmark {
+
+  @Param({"PodList", "DeploymentList"})
+  public String kind;
+
+  @Param({"10", "500"})
+  public int items;
+
+  private ObjectMapper mapper;
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    mapper = Serialization.jsonMapper();
+    String json;
+    if ("PodList".equals(kind)) {
+      json = Serialization.asJson(Resources.podList(items));
+    } else {
+      DeploymentListBuilder list = new DeploymentListBuilder().withMetadata(new ListMetaBuilder().withResourceVersion("1000").build());
+      for (int i = 0; i < items; i++) {
+        list.addToItems(new DeploymentBuilder().withMetadata(Resources.metadata("deployment-" + i))
+          .withNewSpec().withReplicas(3)
+          .withNewSelector().addToMatchLabels("app", "deployment-" + i).endSelector()
+          .withNewTemplate().withMetadata(Resources.metadata("deployment-" + i)).withSpec(Resources.podSpec()).endTemplate()
+          .endSpec()
+          .withNewStatus().withReplicas(3).withReadyReplicas(3).withAvailableReplicas(3).withObservedGeneration(2L)
+          .addNewCondition().withType("Available").withStatus("True").withReason("MinimumReplicasAvailable").endCondition()
+          .endStatus()
+          .build());
+      }
+      json = Serialization.asJson(list.build());
+    }
+    payload = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public KubernetesResource singlePass() throws IOException {
+    return mapper.readValue(payload, KubernetesResource.class);
+  }
+
+  @Benchmark
+  public KubernetesResource tree() throws IOException {
+    JsonNode node = mapper.readTree(payload);
+    Class<? extends KubernetesResource> type = "PodList".equals(node.get("kind").textValue()) ? PodList.class : DeploymentList.class;
+    return mapper.treeToValue(node, type);
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.serialization;
+
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.benchmarks.Resources;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Serialization#unmarshal(java.io.InputStream, Class)} of large PodList payloads in JSON and YAML,
+ * as used by every list and by resources loaded from files, either to a known type ({@code typed}) or through the
+ * kind lookup ({@code untyped}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"json", "yaml"})
+  public String format;
+
+  @Param({"100", "5000"})
+  public int items;
+
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PodList list = Resources.podList(items);
+    String serialized = "json".equals(format) ? Serialization.asJson(list) : Serialization.asYaml(list);
+    payload = serialized.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public PodList typed() {
+    return Serialization.unmarshal(new ByteArrayInputStream(payload), PodList.class);
+  }
+
+  @Benchmark
+  public KubernetesResource untyped() {
+    return Serialization.unmarshal(new ByteArrayInputStream(payload));
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+  @Test
+  void smallValuesHaveTheirOwnBucket() {
+    for (int value = 0; value < 2 * LatencyHistogram.SUB_BUCKETS; value++) {
+      assertEquals(value, LatencyHistogram.index(value));
+      assertEquals(value, LatencyHistogram.upperBound(value));
+    }
+  }
+
+  @Test
+  void bucketsAreContiguous() {
+    int last = LatencyHistogram.index(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(last));
+    for (int index = 0; index < last; index++) {
+      long upperBound = LatencyHistogram.upperBound(index);
+      assertEquals(index, LatencyHistogram.index(upperBound));
+      assertEquals(index + 1, LatencyHistogram.index(upperBound + 1));
+    }
+  }
+
+  @Test
+  void upperBoundIsWithinRelativeErrorOfValue() {
+    for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+      long upperBound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+      assertTrue(upperBound >= value, () -> "upper bound below " + upperBound);
+      assertTrue(upperBound - value <= value / LatencyHistogram.SUB_BUCKETS, () -> "upper bound too far from " + upperBound);
+    }
+  }
+
+  @Test
+  void percentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getPercentile(50));
+    for (int millis = 1; millis <= 100; millis++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getMax());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(50) + TimeUnit.MICROSECONDS.toNanos(500), histogram.getMean(), 1);
+    assertWithin(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentile(50));
+    assertWithin(TimeUnit.MILLISECONDS.toNanos(99), histogram.getPercentile(99));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getPercentile(100));
+  }
+
+  @Test
+  void negativeValuesAreRecordedAsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+
+    Map<Double, Long> buckets = histogram.getBuckets();
+    assertEquals(1, buckets.size());
+    assertEquals(Long.valueOf(1), buckets.get(0d));
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue(actual >= expected && actual - expected <= expected / LatencyHistogram.SUB_BUCKETS,
+      () -> actual + " isn't within a bucket of " + expected);
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmarks.load;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestOptionsTest {
+
+  @Test
+  void defaults() {
+    LoadTestOptions options = LoadTestOptions.parse();
+
+    assertEquals(60, options.getDuration());
+    assertEquals(4, options.getNamespaces());
+    assertEquals(20, options.getCreates());
+    assertEquals(50, options.getUpdates());
+    assertEquals(20, options.getDeletes());
+    assertEquals(1024, options.getSize());
+    assertEquals(500, options.getPreload());
+    assertEquals(1, options.getInformers());
+    assertEquals(1, options.getWatches());
+    assertEquals(8, options.getThreads());
+    assertEquals(10, options.getInterval());
+    assertNull(options.getOutput());
+  }
+
+  @Test
+  void parse() {
+    LoadTestOptions options = LoadTestOptions.parse("--duration=5", "--namespaces=10", "--creates=0.5",
+      "--updates=0", "--deletes=2", "--size=4096", "--preload=0", "--informers=2", "--watches=0", "--threads=1",
+      "--interval=0", "--output=load-result.json");
+
+    assertEquals(5, options.getDuration());
+    assertEquals(10, options.getNamespaces());
+    assertEquals(0.5, options.getCreates());
+    assertEquals(0, options.getUpdates());
+    assertEquals(2, options.getDeletes());
+    assertEquals(4096, options.getSize());
+    assertEquals(0, options.getPreload());
+    assertEquals(2, options.getInformers());
+    assertEquals(0, options.getWatches());
+    assertEquals(1, options.getThreads());
+    assertEquals(0, options.getInterval());
+    assertEquals("load-result.json", options.getOutput());
+  }
+
+  @Test
+  void unknownOptionIsRejected() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--rate=1"));
+    assertTrue(e.getMessage().startsWith("Unknown option --rate"));
+  }
+
+  @Test
+  void argumentWithoutValueIsRejected() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--duration"));
+    assertTrue(e.getMessage().startsWith("Unexpected argument --duration"));
+  }
+
+  @Test
+  void invalidNumberIsRejected() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--threads=many"));
+    assertEquals("Invalid value of --threads: many", e.getMessage());
+  }
+
+  @Test
+  void nonPositiveDurationIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--duration=0"));
+  }
+
+  @Test
+  void negativeRateIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--updates=-1"));
+  }
+}
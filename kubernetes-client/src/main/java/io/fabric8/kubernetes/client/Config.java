@@ -26,7 +26,11 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -48,6 +52,7 @@ import io.fabric8.kubernetes.api.model.ExecConfig;
 import io.fabric8.kubernetes.api.model.ExecEnvVar;
 import io.fabric8.kubernetes.api.model.NamedContext;
 import io.fabric8.kubernetes.client.internal.CertUtils;
+import io.fabric8.kubernetes.client.internal.ExecCredentialCache;
 import io.fabric8.kubernetes.client.internal.KubeConfigUtils;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
 import io.fabric8.kubernetes.client.utils.IOHelpers;
@@ -308,7 +313,7 @@ public class Config {
     this.clientKeyAlgo = clientKeyAlgo;
     this.clientKeyPassphrase = clientKeyPassphrase;
 
-    this.requestConfig = new RequestConfig(username, password, oauthToken, watchReconnectLimit, watchReconnectInterval, connectionTimeout, rollingTimeout, requestTimeout, scaleTimeout, loggingInterval, websocketTimeout, websocketPingInterval, maxConcurrentRequests, maxConcurrentRequestsPerHost, oauthTokenProvider);
+    this.requestConfig = new RequestConfig(username, password, oauthToken, watchReconnectLimit, watchReconnectInterval, connectionTimeout, rollingTimeout, requestTimeout, scaleTimeout, loggingInterval, websocketTimeout, websocketPingInterval, maxConcurrentRequests, maxConcurrentRequestsPerHost, tokenProviderFor(oauthToken, oauthTokenProvider));
     this.requestConfig.setImpersonateUsername(impersonateUsername);
     this.requestConfig.setImpersonateGroups(impersonateGroups);
     this.requestConfig.setImpersonateExtras(impersonateExtras);
@@ -335,7 +340,7 @@ public class Config {
     this.trustStorePassphrase = trustStorePassphrase;
     this.keyStoreFile = keyStoreFile;
     this.keyStorePassphrase = keyStorePassphrase;
-    this.oauthTokenProvider = oauthTokenProvider;
+    this.oauthTokenProvider = this.requestConfig.getOauthTokenProvider();
     this.customHeaders = customHeaders;
   }
 
@@ -611,9 +616,13 @@ public class Config {
           } else if (config.getOauthTokenProvider() == null) {  // https://kubernetes.io/docs/reference/access-authn-authz/authentication/#client-go-credential-plugins
             ExecConfig exec = currentAuthInfo.getExec();
             if (exec != null) {
-              ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
-              if (ec != null && ec.status != null && ec.status.token != null) {
-                config.setOauthToken(ec.status.token);
+              // the plugin is only launched when there is no valid token for it yet
+              ExecCredentialCache.CachedCredential credential = ExecCredentialCache.getInstance()
+                .get(Arrays.asList(exec, configFile), () -> getCredentialFromExecConfig(exec, configFile));
+              String token = credential.getToken();
+              if (token != null) {
+                config.setOauthTokenProvider(credential);
+                config.setOauthToken(token);
               } else {
                 LOGGER.warn("No token returned");
               }
@@ -663,6 +672,22 @@ public class Config {
     return null;
   }
 
+  private static ExecCredentialCache.Credential getCredentialFromExecConfig(ExecConfig exec, File configFile) throws IOException, InterruptedException {
+    ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
+    if (ec == null || ec.status == null || ec.status.token == null) {
+      return null;
+    }
+    Instant expirationTimestamp = null;
+    if (Utils.isNotNullOrEmpty(ec.status.expirationTimestamp)) {
+      try {
+        expirationTimestamp = OffsetDateTime.parse(ec.status.expirationTimestamp).toInstant();
+      } catch (DateTimeParseException e) {
+        LOGGER.warn("Ignoring invalid expirationTimestamp {} of the exec credential", ec.status.expirationTimestamp);
+      }
+    }
+    return new ExecCredentialCache.Credential(ec.status.token, expirationTimestamp);
+  }
+
   protected static List<String> getAuthenticatorCommandFromExecConfig(ExecConfig exec, File configFile, String systemPathValue) {
     String command = exec.getCommand();
     if (command.contains(File.separator) && !command.startsWith(File.separator) && configFile != null) {
@@ -717,7 +742,8 @@ public class Config {
   @JsonIgnoreProperties(ignoreUnknown = true)
   private static final class ExecCredentialStatus {
     public String token;
-    // TODO clientCertificateData, clientKeyData, expirationTimestamp
+    public String expirationTimestamp;
+    // TODO clientCertificateData, clientKeyData
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -813,6 +839,19 @@ public class Config {
 
   public void setOauthToken(String oauthToken) {
     this.requestConfig.setOauthToken(oauthToken);
+    setOauthTokenProvider(tokenProviderFor(oauthToken, oauthTokenProvider));
+  }
+
+  /**
+   * A token that wasn't returned by the credential plugin of the kubeconfig, e.g. one set with
+   * new ConfigBuilder(config).withOauthToken(token), replaces the plugin instead of being ignored.
+   */
+  private static OAuthTokenProvider tokenProviderFor(String oauthToken, OAuthTokenProvider oauthTokenProvider) {
+    if (oauthTokenProvider instanceof ExecCredentialCache.CachedCredential && Utils.isNotNullOrEmpty(oauthToken)
+      && !((ExecCredentialCache.CachedCredential) oauthTokenProvider).isIssued(oauthToken)) {
+      return null;
+    }
+    return oauthTokenProvider;
   }
 
   @JsonProperty("password")
@@ -1226,6 +1265,7 @@ public class Config {
 
   public void setOauthTokenProvider(OAuthTokenProvider oauthTokenProvider) {
     this.oauthTokenProvider = oauthTokenProvider;
+    this.requestConfig.setOauthTokenProvider(oauthTokenProvider);
   }
 
   @JsonProperty("customHeaders")
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when some of the items of a resource list couldn't be applied or deleted. It reports the outcome of
+ * every item: the ones that were processed, the ones that failed and the ones that weren't attempted because
+ * a resource they may depend on failed.
+ */
+public class KubernetesClientApplyException extends KubernetesClientException {
+
+  private final List<HasMetadata> processed;
+  private final List<Failure> failures;
+  private final List<HasMetadata> skipped;
+
+  public KubernetesClientApplyException(Collection<HasMetadata> processed, Collection<Failure> failures, Collection<HasMetadata> skipped) {
+    super(failuresToString(failures, skipped), failures.isEmpty() ? null : failures.iterator().next().getCause());
+    this.processed = Collections.unmodifiableList(new ArrayList<>(processed));
+    this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    this.skipped = Collections.unmodifiableList(new ArrayList<>(skipped));
+  }
+
+  /**
+   * @return the items that were processed, as returned by the server
+   */
+  public List<HasMetadata> getProcessed() {
+    return processed;
+  }
+
+  /**
+   * @return the items that failed, along with the cause of each failure, in the order of the list
+   */
+  public List<Failure> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return the items that weren't attempted
+   */
+  public List<HasMetadata> getSkipped() {
+    return skipped;
+  }
+
+  private static String failuresToString(Collection<Failure> failures, Collection<HasMetadata> skipped) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Failed to process ").append(failures.size()).append(" resource(s): ");
+    boolean first = true;
+    for (Failure failure : failures) {
+      if (first) {
+        first = false;
+      } else {
+        sb.append(", ");
+      }
+      HasMetadata r = failure.getItem();
+      sb.append("[Kind:").append(r.getKind())
+        .append(" Name:").append(r.getMetadata().getName())
+        .append(" Namespace:").append(r.getMetadata().getNamespace())
+        .append(" Cause:").append(failure.getCause().getMessage())
+        .append("]");
+    }
+    if (!skipped.isEmpty()) {
+      sb.append(". Skipped ").append(skipped.size()).append(" resource(s) depending on them.");
+    }
+    return sb.toString();
+  }
+
+  /**
+   * An item of the list that failed. Items are kept as they are rather than as map keys, since the hash code of
+   * a resource changes with its content and distinct items of a list may be equal.
+   */
+  public static class Failure {
+
+    private final HasMetadata item;
+    private final Throwable cause;
+
+    public Failure(HasMetadata item, Throwable cause) {
+      this.item = item;
+      this.cause = cause;
+    }
+
+    /**
+     * @return the item, as it was sent
+     */
+    public HasMetadata getItem() {
+      return item;
+    }
+
+    /**
+     * @return why the item failed
+     */
+    public Throwable getCause() {
+      return cause;
+    }
+  }
+}
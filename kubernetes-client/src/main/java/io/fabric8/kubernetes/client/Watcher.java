@@ -43,6 +43,17 @@ public interface Watcher<T> {
    */
   void onClose(WatcherException cause);
 
+  /**
+   * Invoked when a bookmark event is received, which only happens when bookmarks were
+   * requested with allowWatchBookmarks. The watch can be resumed from the bookmark's
+   * resource version, even though no event was received for it.
+   *
+   * @param resourceVersion the resource version of the bookmark
+   */
+  default void onBookmark(String resourceVersion) {
+    LoggerFactory.getLogger(Watcher.class).trace("Bookmark received {}", resourceVersion);
+  }
+
   enum Action {
     ADDED, MODIFIED, DELETED, ERROR
   }
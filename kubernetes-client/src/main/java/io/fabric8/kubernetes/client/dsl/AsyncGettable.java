@@ -0,0 +1,30 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncGettable<T> {
+
+  /**
+   * Get the item without blocking the calling thread.
+   *
+   * @return a future completed with the item, or with null if the item doesn't exist. It completes exceptionally
+   * with a {@link io.fabric8.kubernetes.client.KubernetesClientException} if an error occurs.
+   */
+  CompletableFuture<T> getAsync();
+
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncListable<T> {
+
+  /**
+   * List resources from APIServer without blocking the calling thread.
+   *
+   * @return a future completed with the list of resources
+   */
+  default CompletableFuture<T> listAsync() {
+    return listAsync(new ListOptions());
+  }
+
+  /**
+   * List resources from APIServer without blocking the calling thread.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @return a future completed with the list of resources
+   */
+  CompletableFuture<T> listAsync(ListOptions listOptions);
+}
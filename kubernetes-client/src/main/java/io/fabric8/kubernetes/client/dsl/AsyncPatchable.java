@@ -0,0 +1,31 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPatchable<T> {
+
+  /**
+   * Patch the resource with the provided item without blocking the calling thread.
+   *
+   * @param item the updated item
+   * @return a future completed with the patched item returned in kubernetes api response, or with null if the
+   * resource doesn't exist
+   */
+  CompletableFuture<T> patchAsync(T item);
+
+}
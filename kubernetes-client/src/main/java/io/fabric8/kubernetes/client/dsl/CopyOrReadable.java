@@ -17,4 +17,38 @@ package io.fabric8.kubernetes.client.dsl;
 
 public interface CopyOrReadable<B, I, UB> extends Copiable<B>, Readable<I>, Uploadable<UB> {
 
+  /**
+   * Streams the raw bytes over the exec stdin/stdout channels, a tar archive for directories,
+   * instead of base64 encoding them in the container.
+   *
+   * @return the same selection, transferred in binary mode
+   */
+  CopyOrReadable<B, I, UB> binary();
+
+  /**
+   * Sets the gzip level used for transfers, from 0 (no compression) to 9. Nothing is compressed unless set,
+   * files transferred one by one are compressed separately. Implies {@link #binary()}.
+   *
+   * @param level the gzip compression level
+   * @return the same selection, transferred in binary mode
+   */
+  CopyOrReadable<B, I, UB> withCompressionLevel(int level);
+
+  /**
+   * Copies or uploads the files of a directory one by one, up to this many at a time, each over its own
+   * exec session. Implies {@link #binary()}.
+   *
+   * @param parallelism the maximum number of files transferred concurrently
+   * @return the same selection, transferred in binary mode
+   */
+  CopyOrReadable<B, I, UB> withParallelism(int parallelism);
+
+  /**
+   * Copies or uploads files in chunks of this size, each over its own exec session. When a chunk fails,
+   * the transfer resumes from the last byte that made it instead of starting over. Implies {@link #binary()}.
+   *
+   * @param chunkSize the size of a chunk in bytes
+   * @return the same selection, transferred in binary mode
+   */
+  CopyOrReadable<B, I, UB> withChunkSize(long chunkSize);
 }
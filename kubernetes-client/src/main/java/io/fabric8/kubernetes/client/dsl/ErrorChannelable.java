@@ -16,6 +16,8 @@
 
 package io.fabric8.kubernetes.client.dsl;
 
+import java.nio.channels.WritableByteChannel;
+
 /**
  * @param <O>   Where to write errorChannel to.
  * @param <P>   Where to read errorChannel from.
@@ -25,6 +27,14 @@ public interface ErrorChannelable<O, P, T> {
 
     T writingErrorChannel(O in);
 
+    /**
+     * Like {@link Outputable#writingOutput(WritableByteChannel)}, for the error channel.
+     *
+     * @param out the channel to write the error channel frames to
+     * @return the next step of the exec DSL
+     */
+    T writingErrorChannel(WritableByteChannel out);
+
     T readingErrorChannel(P in);
 
     T redirectingErrorChannel();
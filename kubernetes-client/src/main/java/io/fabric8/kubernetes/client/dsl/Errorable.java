@@ -16,6 +16,8 @@
 
 package io.fabric8.kubernetes.client.dsl;
 
+import java.nio.channels.WritableByteChannel;
+
 /**
  * @param <O>   Where to write err to.
  * @param <P>   Where to read err from.
@@ -25,6 +27,14 @@ public interface Errorable<O, P, T> {
 
     T writingError(O in);
 
+    /**
+     * Like {@link Outputable#writingOutput(WritableByteChannel)}, for stderr.
+     *
+     * @param out the channel to write stderr to
+     * @return the next step of the exec DSL
+     */
+    T writingError(WritableByteChannel out);
+
     T readingError(P in);
 
     T redirectingError();
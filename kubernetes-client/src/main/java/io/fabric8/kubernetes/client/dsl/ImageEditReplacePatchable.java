@@ -17,7 +17,7 @@ package io.fabric8.kubernetes.client.dsl;
 
 import java.util.Map;
 
-public interface ImageEditReplacePatchable<T> extends EditReplacePatchable<T> {
+public interface ImageEditReplacePatchable<T> extends EditReplacePatchable<T>, AsyncPatchable<T> {
 
   /**
    * Update existing container image(s) of resources
@@ -22,7 +22,20 @@ public interface Inputable<I, P, T> {
 
     T writingInput(P in);
 
+    /**
+     * Makes {@link ExecWatch#getInput()} send every write as a stdin frame straight over the WebSocket,
+     * without a pipe or a thread to pump it. Writes block until the WebSocket is open and while its send
+     * queue is full.
+     *
+     * @return the next step of the exec DSL
+     */
     T redirectingInput();
 
+    /**
+     * Like {@link #redirectingInput()}, with writes blocking while more than bufferSize bytes are queued for sending.
+     *
+     * @param bufferSize the number of stdin bytes that can be queued before writes block, null for the default
+     * @return the next step of the exec DSL
+     */
     T redirectingInput(Integer bufferSize);
 }
@@ -25,5 +25,6 @@ public interface ListVisitFromServerGetDeleteRecreateWaitApplicable<T> extends V
   FromServerGettable<List<T>>,
   Waitable<List<T>, T>,
   ListVisitFromServerWritable<T>,
-  DryRunable<ListVisitFromServerWritable<T>> {
+  DryRunable<ListVisitFromServerWritable<T>>,
+  Parallelizable<ListVisitFromServerGetDeleteRecreateWaitApplicable<T>> {
 }
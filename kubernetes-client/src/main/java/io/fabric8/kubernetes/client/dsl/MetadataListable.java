@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+
+public interface MetadataListable {
+
+  /**
+   * List the metadata of the resources from APIServer, without their spec and status.
+   *
+   * The server is asked for a {@link PartialObjectMetadataList}, which is much cheaper to
+   * transfer, deserialize and keep in memory than the full resources for large collections.
+   *
+   * @return list of the metadata of the resources
+   */
+  default PartialObjectMetadataList listMetadata() {
+    return listMetadata(new ListOptions());
+  }
+
+  /**
+   * List the metadata of the resources from APIServer, without their spec and status.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call.
+   * @return list of the metadata of the resources
+   */
+  PartialObjectMetadataList listMetadata(ListOptions listOptions);
+}
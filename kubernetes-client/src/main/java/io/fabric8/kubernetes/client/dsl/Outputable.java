@@ -16,6 +16,8 @@
 
 package io.fabric8.kubernetes.client.dsl;
 
+import java.nio.channels.WritableByteChannel;
+
 /**
  * @param <O>   Where to write err to.
  * @param <P>   Where to read err from.
@@ -25,6 +27,16 @@ public interface Outputable<O, P, T> {
 
     T writingOutput(O in);
 
+    /**
+     * Hands the stdout frames to the channel as read-only views of the received WebSocket messages,
+     * without copying them or going through a pipe. The channel must be in blocking mode. It is written
+     * from the WebSocket reader thread, so it should not block for long.
+     *
+     * @param out the channel to write stdout to
+     * @return the next step of the exec DSL
+     */
+    T writingOutput(WritableByteChannel out);
+
     T readingOutput(P in);
 
     T redirectingOutput();
@@ -0,0 +1,31 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+public interface Parallelizable<T> {
+
+  /**
+   * Process up to the given number of items concurrently. The items are processed in dependency order,
+   * Namespaces and CustomResourceDefinitions first, then RBAC resources, configuration and workloads (the
+   * other way around when deleting), and the items of each phase in parallel. CustomResourceDefinitions have to be
+   * established before the next phase is applied. The outcome of every item is
+   * reported by a {@link io.fabric8.kubernetes.client.KubernetesClientApplyException} if any of them fails.
+   *
+   * @param parallelism the maximum number of items processed at the same time
+   * @return the operation processing the items in parallel
+   */
+  T withParallelism(int parallelism);
+}
@@ -25,5 +25,8 @@ public interface Resource<T> extends CreateOrReplaceable<T>,
   CascadingEditReplacePatchDeletable<T>,
   VersionWatchAndWaitable<T>,
   DryRunable<WritableOperation<T>>,
-  Requirable<T>, Readiable {
+  Requirable<T>, Readiable,
+  AsyncGettable<T>,
+  AsyncCreateable<T>,
+  AsyncPatchable<T> {
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+
+import java.util.stream.Stream;
+
+public interface StreamListable<T> {
+
+  long DEFAULT_STREAM_PAGE_SIZE = 500L;
+
+  /**
+   * Stream the resources from APIServer, without materializing the whole list.
+   *
+   * The resources are fetched in pages of {@link #DEFAULT_STREAM_PAGE_SIZE} and deserialized one at a time while
+   * the stream is consumed, so that the memory footprint doesn't depend on the size of the collection.
+   * The stream should be closed when it isn't consumed to the end, in order to release the current response.
+   *
+   * @return stream of the resources
+   */
+  default Stream<T> stream() {
+    return stream(new ListOptions());
+  }
+
+  /**
+   * Stream the resources from APIServer, without materializing the whole list.
+   *
+   * @param listOptions ListOptions is the query options to a standard REST list call. Its limit is used as
+   *                    the page size, {@link #DEFAULT_STREAM_PAGE_SIZE} when not set.
+   * @return stream of the resources
+   */
+  Stream<T> stream(ListOptions listOptions);
+}
@@ -18,7 +18,7 @@ package io.fabric8.kubernetes.client.dsl;
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 import io.fabric8.kubernetes.client.PropagationPolicyConfigurable;
 
-public interface WatchListDeletable<T, L> extends VersionWatchAndWaitable<T>, Listable<L>, Deletable,
+public interface WatchListDeletable<T, L> extends VersionWatchAndWaitable<T>, Listable<L>, MetadataListable, StreamListable<T>, AsyncListable<L>, Deletable,
                                                         GracePeriodConfigurable<Deletable>,
                                                         PropagationPolicyConfigurable<EditReplacePatchDeletable<T>>,
                                                         StatusUpdatable<T>
@@ -24,5 +24,7 @@ public interface WritableOperation<T> extends
   Deletable,
   EditReplacePatchDeletable<T>,
   GracePeriodConfigurable<Deletable>,
-  PropagationPolicyConfigurable<EditReplacePatchDeletable<T>> {
+  PropagationPolicyConfigurable<EditReplacePatchDeletable<T>>,
+  AsyncCreateable<T>,
+  AsyncPatchable<T> {
 }
@@ -31,6 +31,7 @@ import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.RootPaths;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.autoscaling.v1.Scale;
@@ -54,6 +55,7 @@ import io.fabric8.kubernetes.client.dsl.internal.WatchConnectionManager;
 import io.fabric8.kubernetes.client.dsl.internal.WatchHTTPManager;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.utils.WatcherToggle;
@@ -67,19 +69,28 @@ import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import okhttp3.HttpUrl;
 import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
@@ -151,16 +162,22 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
    * @return list of corresponding Kubernetes Resources
    */
   private L listRequestHelper(URL url) {
-    try {
-      HttpUrl.Builder requestUrlBuilder = HttpUrl.get(url).newBuilder();
-
-      addQueryStringParam(requestUrlBuilder, "labelSelector", getLabelQueryParam());
-      addQueryStringParam(requestUrlBuilder, "fieldSelector", getFieldQueryParam());
+    L answer = listRequestHelper(url, listType);
+    updateApiVersion(answer);
+    return answer;
+  }
 
-      Request.Builder requestBuilder = new Request.Builder().get().url(requestUrlBuilder.build());
-      L answer = handleResponse(requestBuilder, listType);
-      updateApiVersion(answer);
-      return answer;
+  /**
+   * Helper method for the list() and listMetadata() methods, asking the server for the metadata only
+   * when a {@link PartialObjectMetadataList} is requested.
+   *
+   * @param url
+   * @param type the type of the list
+   * @return list of corresponding Kubernetes Resources
+   */
+  private <X> X listRequestHelper(URL url, Class<X> type) {
+    try {
+      return handleResponse(listRequest(url, type), type);
     } catch (InterruptedException ie) {
       Thread.currentThread().interrupt();
       throw KubernetesClientException.launderThrowable(forOperationType("list"), ie);
@@ -169,6 +186,19 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
  }
 
+  private Request.Builder listRequest(URL url, Class<?> type) {
+    HttpUrl.Builder requestUrlBuilder = HttpUrl.get(url).newBuilder();
+
+    addQueryStringParam(requestUrlBuilder, "labelSelector", getLabelQueryParam());
+    addQueryStringParam(requestUrlBuilder, "fieldSelector", getFieldQueryParam());
+
+    Request.Builder requestBuilder = new Request.Builder().get().url(requestUrlBuilder.build());
+    if (PartialObjectMetadataList.class.equals(type)) {
+      requestBuilder.header("Accept", PARTIAL_OBJECT_METADATA_LIST_ACCEPT);
+    }
+    return requestBuilder;
+  }
+
   protected URL fetchListUrl(URL url, ListOptions listOptions) throws MalformedURLException {
     return new URL(HttpClientUtils.appendListOptionParams(HttpUrl.get(url.toString()).newBuilder(), listOptions).toString());
   }
@@ -193,6 +223,28 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<T> getAsync() {
+    if (item != null && !reloadingFromServer) {
+      updateApiVersion(item);
+      return CompletableFuture.completedFuture(item);
+    }
+    try {
+      return handleGetAsync(getCompleteResourceUrl(), getType()).handle((answer, throwable) -> {
+        if (throwable == null) {
+          updateApiVersion(answer);
+          return answer;
+        } else if (throwable instanceof KubernetesClientException
+          && ((KubernetesClientException) throwable).getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+          return null;
+        }
+        throw KubernetesClientException.launderThrowable(forOperationType("get"), throwable);
+      });
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("get"), e));
+    }
+  }
+
   @Override
   public T require() {
     try {
@@ -375,6 +427,15 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   }
 
+  @Override
+  public CompletableFuture<T> createAsync(T resource) {
+    if (resource == null) {
+      return failedFuture(new IllegalArgumentException("Nothing to create."));
+    }
+    updateApiVersion(resource);
+    return handleCreateAsync(resource, getType());
+  }
+
   @SafeVarargs
   @Override
   public final T createOrReplace(T... items) {
@@ -679,6 +740,95 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public PartialObjectMetadataList listMetadata() {
+    try {
+      return listRequestHelper(getResourceUrl(namespace, name), PartialObjectMetadataList.class);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  @Override
+  public PartialObjectMetadataList listMetadata(ListOptions listOptions) {
+    try {
+      return listRequestHelper(fetchListUrl(getNamespacedUrl(), listOptions), PartialObjectMetadataList.class);
+    } catch (MalformedURLException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<L> listAsync() {
+    try {
+      return listAsync(getResourceUrl(namespace, name));
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("list"), e));
+    }
+  }
+
+  @Override
+  public CompletableFuture<L> listAsync(ListOptions listOptions) {
+    try {
+      return listAsync(fetchListUrl(getNamespacedUrl(), listOptions));
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("list"), e));
+    }
+  }
+
+  private CompletableFuture<L> listAsync(URL url) {
+    return handleResponseAsync(client, listRequest(url, listType), listType, Collections.<String, String>emptyMap())
+      .thenApply(answer -> {
+        updateApiVersion(answer);
+        return answer;
+      });
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return stream(new ListOptions());
+  }
+
+  @Override
+  public Stream<T> stream(ListOptions listOptions) {
+    ListOptionsBuilder pageOptions = new ListOptionsBuilder(listOptions);
+    if (listOptions.getLimit() == null) {
+      pageOptions.withLimit(DEFAULT_STREAM_PAGE_SIZE);
+    }
+    PaginatedListIterator<T> iterator = new PaginatedListIterator<>(Serialization.jsonMapper(), type,
+      continueVal -> listPage(continueVal != null ? pageOptions.withContinue(continueVal).build() : pageOptions.build()),
+      this::updateApiVersion);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+      .onClose(iterator::close);
+  }
+
+  /**
+   * Requests a page of the list for stream(), leaving the deserialization of its body to the caller.
+   *
+   * @param listOptions the options of the page
+   * @return the body of the response
+   */
+  private ResponseBody listPage(ListOptions listOptions) {
+    try {
+      HttpUrl.Builder requestUrlBuilder = HttpUrl.get(fetchListUrl(getNamespacedUrl(), listOptions)).newBuilder();
+
+      addQueryStringParam(requestUrlBuilder, "labelSelector", getLabelQueryParam());
+      addQueryStringParam(requestUrlBuilder, "fieldSelector", getFieldQueryParam());
+
+      Request request = new Request.Builder().get().url(requestUrlBuilder.build()).build();
+      Response response = client.newCall(request).execute();
+      try {
+        assertResponseCode(request, response);
+      } catch (KubernetesClientException e) {
+        response.close();
+        throw e;
+      }
+      return response.body();
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
   @Override
   public Boolean delete() {
     if (item != null || (name != null && !name.isEmpty())) {
@@ -793,6 +943,19 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public Watch watch(ListOptions options, final Watcher<T> watcher) {
+    return watch(options, watcher, null);
+  }
+
+  /**
+   * Watch resources, scheduling the reconnect attempts of the watch on the provided executor.
+   *
+   * @param options list options used for the watch
+   * @param watcher the watcher receiving the events
+   * @param executorService shared executor used for reconnects, not shut down when the watch is closed;
+   *                        null to use a dedicated executor per watch
+   * @return the watch
+   */
+  public Watch watch(ListOptions options, final Watcher<T> watcher, ScheduledExecutorService executorService) {
     WatcherToggle<T> watcherToggle = new WatcherToggle<>(watcher, true);
     options.setWatch(Boolean.TRUE);
     WatchConnectionManager<T, L> watch = null;
@@ -804,7 +967,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
         watcherToggle,
         config.getWatchReconnectInterval(),
         config.getWatchReconnectLimit(),
-        config.getWebsocketTimeout()
+        config.getWebsocketTimeout(),
+        // Default max 32x slowdown from base interval
+        5,
+        executorService
       );
       watch.waitUntilReady();
       return watch;
@@ -838,7 +1004,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
           watcher,
           config.getWatchReconnectInterval(),
           config.getWatchReconnectLimit(),
-          config.getConnectionTimeout()
+          config.getConnectionTimeout(),
+          // Default max 32x slowdown from base interval
+          5,
+          executorService
         );
       } catch (MalformedURLException e) {
         throw KubernetesClientException.launderThrowable(forOperationType("watch"), e);
@@ -856,6 +1025,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     throw new KubernetesClientException("Cannot update read-only resources");
   }
 
+  @Override
+  public CompletableFuture<T> patchAsync(T item) {
+    return failedFuture(new KubernetesClientException("Cannot update read-only resources"));
+  }
+
   @Override
   public boolean isResourceNamespaced() {
     return Utils.isResourceNamespaced(getType());
@@ -21,8 +21,11 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>> extends BaseOperation< T, L, R> {
@@ -144,4 +147,33 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     }
     throw KubernetesClientException.launderThrowable(forOperationType("patch"), caught);
   }
+
+  @Override
+  public CompletableFuture<T> patchAsync(T item) {
+    return patchAsync(item, 10);
+  }
+
+  private CompletableFuture<T> patchAsync(T item, int remainingTries) {
+    return newInstance(context.withReloadingFromServer(true)).getAsync()
+      .thenCompose(got -> {
+        if (got == null) {
+          return CompletableFuture.<T>completedFuture(null);
+        }
+        item.getMetadata().setResourceVersion(got.getMetadata() != null ? got.getMetadata().getResourceVersion() : null);
+        updateApiVersion(item);
+        return handlePatchAsync(got, item, getType());
+      })
+      .handle((patched, throwable) -> {
+        if (throwable == null) {
+          return CompletableFuture.completedFuture(patched);
+        }
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        // Only retry if there's a conflict, the resource version is fetched again so there's no need to back off
+        if (remainingTries > 1 && cause instanceof KubernetesClientException && ((KubernetesClientException) cause).getCode() == 409) {
+          return patchAsync(item, remainingTries - 1);
+        }
+        return BaseOperation.<T>failedFuture(KubernetesClientException.launderThrowable(forOperationType("patch"), cause));
+      })
+      .thenCompose(Function.identity());
+  }
 }
@@ -33,6 +33,8 @@ import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.zjsonpatch.JsonDiff;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -46,6 +48,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
@@ -55,6 +58,9 @@ public class OperationSupport {
   public static final MediaType JSON = MediaType.parse("application/json");
   public static final MediaType JSON_PATCH = MediaType.parse("application/json-patch+json");
   public static final MediaType STRATEGIC_MERGE_JSON_PATCH = MediaType.parse("application/strategic-merge-patch+json");
+  // Accept headers asking the server to only return the metadata of the resources
+  public static final String PARTIAL_OBJECT_METADATA_ACCEPT = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1";
+  public static final String PARTIAL_OBJECT_METADATA_LIST_ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1";
   protected static final ObjectMapper JSON_MAPPER = Serialization.jsonMapper();
   protected static final ObjectMapper YAML_MAPPER = Serialization.yamlMapper();
   private static final String CLIENT_STATUS_FLAG = "CLIENT_STATUS_FLAG";
@@ -263,6 +269,26 @@ public class OperationSupport {
     return handleResponse(requestBuilder, outputType, Collections.<String, String>emptyMap());
   }
 
+  /**
+   * Create a resource without blocking the calling thread.
+   *
+   * @param resource resource provided
+   * @param outputType resource type you want as output
+   * @param <T> template argument for output type
+   * @param <I> template argument for resource
+   *
+   * @return a future completed with the de-serialized version of apiserver response in form of type provided
+   */
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) {
+    try {
+      RequestBody body = RequestBody.create(JSON, JSON_MAPPER.writeValueAsString(resource));
+      Request.Builder requestBuilder = new Request.Builder().post(body).url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
+      return handleResponseAsync(client, requestBuilder, outputType, Collections.<String, String>emptyMap());
+    } catch (IOException | KubernetesClientException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(e));
+    }
+  }
+
 
   /**
    * Replace a resource.
@@ -325,6 +351,27 @@ public class OperationSupport {
     return handleResponse(requestBuilder, type, Collections.<String, String>emptyMap());
   }
 
+  /**
+   * Send an http patch without blocking the calling thread.
+   *
+   * @param current current object
+   * @param updated updated object
+   * @param type type of object
+   * @param <T> template argument provided
+   *
+   * @return a future completed with the de-serialized version of api server response
+   */
+  protected <T> CompletableFuture<T> handlePatchAsync(T current, T updated, Class<T> type) {
+    try {
+      JsonNode diff = JsonDiff.asJson(patchMapper().valueToTree(current), patchMapper().valueToTree(updated));
+      RequestBody body = RequestBody.create(JSON_PATCH, JSON_MAPPER.writeValueAsString(diff));
+      Request.Builder requestBuilder = new Request.Builder().patch(body).url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(updated), checkName(updated))));
+      return handleResponseAsync(client, requestBuilder, type, Collections.<String, String>emptyMap());
+    } catch (IOException | KubernetesClientException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(e));
+    }
+  }
+
   /**
    * Send an http patch and handle the response.
    *
@@ -415,6 +462,20 @@ public class OperationSupport {
     return handleResponse(requestBuilder, type, parameters);
   }
 
+  /**
+   * Send an http get without blocking the calling thread.
+   *
+   * @param resourceUrl resource URL to be processed
+   * @param type type of resource
+   * @param <T> template argument provided
+   *
+   * @return a future completed with the deserialized api server response of provided type.
+   */
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
+    Request.Builder requestBuilder = new Request.Builder().get().url(resourceUrl);
+    return handleResponseAsync(client, requestBuilder, type, Collections.<String, String>emptyMap());
+  }
+
   /**
    * Send an http request and handle the response.
    *
@@ -483,6 +544,55 @@ public class OperationSupport {
     VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
     Request request = requestBuilder.build();
     Response response = client.newCall(request).execute();
+    return handleResponse(request, response, type, parameters);
+  }
+
+  /**
+   * Send an http request without blocking the calling thread, and handle the response once it's received.
+   *
+   * The request is enqueued on the OkHttp dispatcher, so the number of requests in flight is bounded by
+   * {@link Config#getMaxConcurrentRequests()} and {@link Config#getMaxConcurrentRequestsPerHost()} rather than by
+   * the number of threads. The response is deserialized on the dispatcher thread, dependent stages that aren't
+   * async run there as well and shouldn't block. Cancelling the returned future cancels the call.
+   *
+   * @param client               OkHttp client provided
+   * @param requestBuilder       Request builder
+   * @param type                 Type of object provided
+   * @param parameters           A hashmap containing parameters
+   * @param <T>                  Template argument provided
+   *
+   * @return a future completed with the de-serialized api server response, or exceptionally with a
+   *         {@link KubernetesClientException}
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(OkHttpClient client, Request.Builder requestBuilder, Class<T> type, Map<String, String> parameters) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    final Request request = requestBuilder.build();
+    final Call call = client.newCall(request);
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        future.completeExceptionally(requestException(request, e));
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        try {
+          future.complete(handleResponse(request, response, type, parameters));
+        } catch (Exception e) {
+          future.completeExceptionally(e);
+        }
+      }
+    });
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return future;
+  }
+
+  private <T> T handleResponse(Request request, Response response, Class<T> type, Map<String, String> parameters) {
     try (ResponseBody body = response.body()) {
       assertResponseCode(request, response);
       if (type != null) {
@@ -494,7 +604,7 @@ public class OperationSupport {
       }
     } catch (Exception e) {
       if (e instanceof KubernetesClientException) {
-        throw e;
+        throw (KubernetesClientException) e;
       }
       throw requestException(request, e);
     } finally {
@@ -592,6 +702,12 @@ public class OperationSupport {
     return new KubernetesClientException(sb.toString(), e);
   }
 
+  protected static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
   protected static <T> T unmarshal(InputStream is) {
     return Serialization.unmarshal(is);
   }
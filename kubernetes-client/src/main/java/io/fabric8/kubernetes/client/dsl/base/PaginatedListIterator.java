@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Utils;
+import okhttp3.ResponseBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Iterates over the items of a paginated list response, one page and one item at a time.
+ *
+ * The items of the current page are bound as they are read off the response body, and the next page is only
+ * requested, with the continue token of the current one, once all of its items have been consumed. At most one
+ * item and one open response are held at any time, whatever the size of the collection.
+ *
+ * @param <T> the type of the items
+ */
+class PaginatedListIterator<T> implements Iterator<T>, Closeable {
+
+  private static final String METADATA_FIELD = "metadata";
+  private static final String ITEMS_FIELD = "items";
+
+  private final ObjectMapper mapper;
+  private final Class<T> type;
+  private final Function<String, ResponseBody> pageFetcher;
+  private final Consumer<T> itemProcessor;
+
+  private ResponseBody body;
+  private JsonParser parser;
+  private String continueVal;
+  private boolean inItems;
+  private boolean done;
+  private T next;
+
+  /**
+   * @param mapper the mapper used to bind the list metadata and the items
+   * @param type the type of the items
+   * @param pageFetcher requests the page for the given continue token (null for the first page)
+   * @param itemProcessor invoked on each item before it is returned
+   */
+  PaginatedListIterator(ObjectMapper mapper, Class<T> type, Function<String, ResponseBody> pageFetcher, Consumer<T> itemProcessor) {
+    this.mapper = mapper;
+    this.type = type;
+    this.pageFetcher = pageFetcher;
+    this.itemProcessor = itemProcessor;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        close();
+        throw KubernetesClientException.launderThrowable(e);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T answer = next;
+    next = null;
+    return answer;
+  }
+
+  @Override
+  public void close() {
+    done = true;
+    next = null;
+    closePage();
+  }
+
+  private T readNext() throws IOException {
+    while (!done) {
+      if (parser == null) {
+        openPage();
+      } else if (inItems) {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+          T item = mapper.readValue(parser, type);
+          itemProcessor.accept(item);
+          return item;
+        } else if (token == JsonToken.END_ARRAY || token == null) {
+          inItems = false;
+        } else {
+          parser.skipChildren();
+        }
+      } else {
+        // the list metadata, holding the continue token, may follow the items
+        seekItems();
+        if (!inItems) {
+          closePage();
+          done = Utils.isNullOrEmpty(continueVal);
+        }
+      }
+    }
+    return null;
+  }
+
+  private void openPage() throws IOException {
+    String currentContinue = continueVal;
+    continueVal = null;
+    body = pageFetcher.apply(currentContinue);
+    parser = mapper.getFactory().createParser(body.byteStream());
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new KubernetesClientException("Expected a list, but the response doesn't start with an object");
+    }
+    seekItems();
+  }
+
+  /**
+   * Reads the fields of the list up to the start of its items, or up to its end.
+   */
+  private void seekItems() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      token = parser.nextToken();
+      if (METADATA_FIELD.equals(fieldName) && token == JsonToken.START_OBJECT) {
+        continueVal = mapper.readValue(parser, ListMeta.class).getContinue();
+      } else if (ITEMS_FIELD.equals(fieldName) && token == JsonToken.START_ARRAY) {
+        inItems = true;
+        return;
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void closePage() {
+    inItems = false;
+    try {
+      if (parser != null) {
+        parser.close();
+      }
+    } catch (IOException e) {
+      // ignore, the body is closed below
+    } finally {
+      parser = null;
+      if (body != null) {
+        body.close();
+        body = null;
+      }
+    }
+  }
+}
@@ -37,6 +37,11 @@ public abstract class AbstractWatchManager<T> implements Watch {
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractWatchManager.class);
 
+  /**
+   * Type of the watch events only carrying the latest resource version, sent when allowWatchBookmarks is requested
+   */
+  static final String BOOKMARK_EVENT_TYPE = "BOOKMARK";
+
   final Watcher<T> watcher;
   final AtomicReference<String> resourceVersion;
 
@@ -46,6 +51,7 @@ public abstract class AbstractWatchManager<T> implements Watch {
   private final int maxIntervalExponent;
   final AtomicInteger currentReconnectAttempt;
   private final ScheduledExecutorService executorService;
+  private final boolean sharedExecutorService;
   
   private final RequestBuilder requestBuilder;
   protected ClientRunner runner;
@@ -53,6 +59,13 @@ public abstract class AbstractWatchManager<T> implements Watch {
 
   AbstractWatchManager(
     Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval, int maxIntervalExponent, RequestBuilder requestBuilder
+  ) {
+    this(watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, requestBuilder, null);
+  }
+
+  AbstractWatchManager(
+    Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval, int maxIntervalExponent, RequestBuilder requestBuilder,
+    ScheduledExecutorService sharedExecutorService
   ) {
     this.watcher = watcher;
     this.reconnectLimit = reconnectLimit;
@@ -61,11 +74,17 @@ public abstract class AbstractWatchManager<T> implements Watch {
     this.resourceVersion = new AtomicReference<>(listOptions.getResourceVersion());
     this.currentReconnectAttempt = new AtomicInteger(0);
     this.forceClosed = new AtomicBoolean();
-    this.executorService = Executors.newSingleThreadScheduledExecutor(r -> {
-      Thread ret = new Thread(r, "Executor for Watch " + System.identityHashCode(AbstractWatchManager.this));
-      ret.setDaemon(true);
-      return ret;
-    });
+    // a shared executor is used as is and never shut down by this watch
+    this.sharedExecutorService = sharedExecutorService != null;
+    if (this.sharedExecutorService) {
+      this.executorService = sharedExecutorService;
+    } else {
+      this.executorService = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread ret = new Thread(r, "Executor for Watch " + System.identityHashCode(AbstractWatchManager.this));
+        ret.setDaemon(true);
+        return ret;
+      });
+    }
     
     this.requestBuilder = requestBuilder;
   }
@@ -94,7 +113,7 @@ public abstract class AbstractWatchManager<T> implements Watch {
   }
 
   final void closeExecutorService() {
-    if (executorService != null && !executorService.isShutdown()) {
+    if (executorService != null && !sharedExecutorService && !executorService.isShutdown()) {
       logger.debug("Closing ExecutorService");
       try {
         executorService.shutdown();
@@ -148,6 +167,10 @@ public abstract class AbstractWatchManager<T> implements Watch {
   void onClose(WatcherException cause) {
     watcher.onClose(cause);
   }
+
+  void bookmarkReceived(String resourceVersion) {
+    watcher.onBookmark(resourceVersion);
+  }
   
   void updateResourceVersion(final String newResourceVersion) {
     resourceVersion.set(newResourceVersion);
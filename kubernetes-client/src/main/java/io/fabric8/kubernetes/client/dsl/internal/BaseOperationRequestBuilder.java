@@ -23,8 +23,10 @@ import java.util.Objects;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
+import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.HttpUrl;
@@ -75,6 +77,9 @@ class BaseOperationRequestBuilder<T extends HasMetadata, L extends KubernetesRes
       .get()
       .url(httpUrlBuilder.build())
       .addHeader("Origin", origin);
+    if (PartialObjectMetadata.class.equals(baseOperation.getType())) {
+      requestBuilder.addHeader("Accept", OperationSupport.PARTIAL_OBJECT_METADATA_ACCEPT);
+    }
 
     Config config = baseOperation.getConfig();
     if (Objects.nonNull(config)) {
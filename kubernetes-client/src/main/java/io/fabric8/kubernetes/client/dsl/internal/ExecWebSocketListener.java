@@ -29,11 +29,14 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
 import okio.ByteString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -65,6 +68,7 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecWebSocketListener.class);
     private static final String HEIGHT = "Height";
     private static final String WIDTH = "Width";
+    private static final long MAX_QUEUE_SIZE = 16 * 1024 * 1024L;
 
     private final Config config;
     private final InputStream in;
@@ -76,6 +80,11 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
     private final PipedInputStream output;
     private final PipedInputStream error;
     private final PipedInputStream errorChannel;
+    private final OutputStream directInput;
+
+    private final WritableByteChannel outByteChannel;
+    private final WritableByteChannel errByteChannel;
+    private final WritableByteChannel errChannelByteChannel;
 
     private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
@@ -110,7 +119,12 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
         this(config, in, out, err, errChannel, inputPipe, outputPipe, errorPipe, errorChannelPipe, listener, null);
     }
 
+    @Deprecated
     public ExecWebSocketListener(Config config, InputStream in, OutputStream out, OutputStream err, OutputStream errChannel, PipedOutputStream inputPipe, PipedInputStream outputPipe, PipedInputStream errorPipe, PipedInputStream errorChannelPipe, ExecListener listener, Integer bufferSize) {
+        this(config, in, out, err, errChannel, inputPipe, outputPipe, errorPipe, errorChannelPipe, false, null, null, null, listener, bufferSize);
+    }
+
+    public ExecWebSocketListener(Config config, InputStream in, OutputStream out, OutputStream err, OutputStream errChannel, PipedOutputStream inputPipe, PipedInputStream outputPipe, PipedInputStream errorPipe, PipedInputStream errorChannelPipe, boolean redirectingInput, WritableByteChannel outByteChannel, WritableByteChannel errByteChannel, WritableByteChannel errChannelByteChannel, ExecListener listener, Integer bufferSize) {
         this.config = config;
         this.listener = listener;
         this.in = inputStreamOrPipe(in, inputPipe, toClose, bufferSize);
@@ -122,7 +136,12 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
         this.output = outputPipe;
         this.error = errorPipe;
         this.errorChannel = errorChannelPipe;
-        this.pumper = new NonBlockingInputStreamPumper(this.in, data -> {
+        this.directInput = redirectingInput ? new InputFramingStream(bufferSize == null ? MAX_QUEUE_SIZE : bufferSize) : null;
+        this.outByteChannel = outByteChannel;
+        this.errByteChannel = errByteChannel;
+        this.errChannelByteChannel = errChannelByteChannel;
+        // stdin written through getInput() when redirecting is sent by the caller's thread, there's nothing to pump
+        this.pumper = this.in == null ? null : new NonBlockingInputStreamPumper(this.in, data -> {
             try {
                 send(data);
             } catch (Exception e) {
@@ -206,7 +225,9 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
 
             webSocketRef.set(webSocket);
             if (!executorService.isShutdown()) {
-              executorService.submit(pumper);
+              if (pumper != null) {
+                executorService.submit(pumper);
+              }
               started.set(true);
               queue.add(true);
             }
@@ -251,23 +272,16 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
     public void onMessage(WebSocket webSocket, ByteString bytes) {
         try {
             byte streamID = bytes.getByte(0);
-            ByteString byteString = bytes.substring(1);
-            if (byteString.size() > 0) {
+            if (bytes.size() > 1) {
                 switch (streamID) {
                     case 1:
-                        if (out != null) {
-                            out.write(byteString.toByteArray());
-                        }
+                        writePayload(bytes, outByteChannel, out);
                         break;
                     case 2:
-                        if (err != null) {
-                            err.write(byteString.toByteArray());
-                        }
+                        writePayload(bytes, errByteChannel, err);
                         break;
                     case 3:
-                        if (errChannel != null) {
-                            errChannel.write(byteString.toByteArray());
-                        }
+                        writePayload(bytes, errChannelByteChannel, errChannel);
                         break;
                     default:
                         throw new IOException("Unknown stream ID " + streamID);
@@ -302,7 +316,7 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
     }
 
     public OutputStream getInput() {
-        return input;
+        return directInput != null ? directInput : input;
     }
 
     public InputStream getOutput() {
@@ -333,21 +347,101 @@ public class ExecWebSocketListener extends WebSocketListener implements ExecWatc
     }
 
     private void send(byte[] bytes,byte flag) throws IOException {
-        if (bytes.length > 0) {
-            WebSocket ws = webSocketRef.get();
-            if (ws != null) {
-                byte[] toSend = new byte[bytes.length + 1];
-                toSend[0] = flag;
-                System.arraycopy(bytes, 0, toSend, 1, bytes.length);
-                ws.send(ByteString.of(toSend));
-            }
-        }
+        send(bytes, 0, bytes.length, flag);
     }
 
     private void send(byte[] bytes) throws IOException {
        send(bytes,(byte)0);
     }
 
+    /**
+     * Prepends the stream id while copying the payload into the frame, the only copy that OkHttp needs to own it.
+     *
+     * @return false if the WebSocket isn't open or refused the frame because its send queue is full
+     */
+    private boolean send(byte[] bytes, int offset, int length, byte flag) {
+        if (length == 0) {
+            return true;
+        }
+        WebSocket ws = webSocketRef.get();
+        if (ws == null) {
+            return false;
+        }
+        return ws.send(new Buffer().writeByte(flag).write(bytes, offset, length).readByteString());
+    }
+
+    /**
+     * Writes a received frame, minus its stream id. Channels get a read-only view of the frame, without a copy, and
+     * must be in blocking mode. Streams need the payload copied, which goes through pooled segments instead of a new
+     * array per frame.
+     */
+    private static void writePayload(ByteString frame, WritableByteChannel channel, OutputStream stream) throws IOException {
+        if (channel != null) {
+            ByteBuffer payload = frame.asByteBuffer();
+            payload.position(1);
+            while (payload.hasRemaining()) {
+                if (channel.write(payload) == 0) {
+                    throw new IOException("Unable to write the exec output, the channel is not in blocking mode");
+                }
+            }
+        } else if (stream != null) {
+            Buffer payload = new Buffer().write(frame);
+            payload.skip(1);
+            payload.writeTo(stream);
+        }
+    }
+
+    /**
+     * Sends every write as a stdin frame, so redirected stdin needs neither a pipe nor a pumping thread. Like a pipe,
+     * writes block until the WebSocket is open and while the frames queued for sending exceed the buffer size.
+     */
+    private class InputFramingStream extends OutputStream {
+
+        private final long maxQueueSize;
+
+        private InputFramingStream(long maxQueueSize) {
+            this.maxQueueSize = Math.max(1, Math.min(maxQueueSize, MAX_QUEUE_SIZE));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int written = 0;
+            while (written < len) {
+                int length = (int) Math.min(len - written, maxQueueSize);
+                waitForQueue(length);
+                if (!send(b, off + written, length, (byte) 0)) {
+                    throw new IOException("Unable to send stdin, the exec WebSocket is closed");
+                }
+                written += length;
+            }
+        }
+
+        private void waitForQueue(int length) throws IOException {
+            try {
+                WebSocket ws;
+                while ((ws = webSocketRef.get()) == null || ws.queueSize() + length > maxQueueSize) {
+                    checkOpen();
+                    Thread.sleep(50L);
+                }
+                checkOpen();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to send stdin");
+            }
+        }
+
+        private void checkOpen() throws IOException {
+            if (explicitlyClosed.get() || closed.get() || failed.get()) {
+                throw new IOException("Unable to send stdin, the exec WebSocket is closed");
+            }
+        }
+    }
+
 
     private static InputStream inputStreamOrPipe(InputStream stream, PipedOutputStream out, Set<Closeable> toClose, Integer bufferSize) {
         if (stream != null) {
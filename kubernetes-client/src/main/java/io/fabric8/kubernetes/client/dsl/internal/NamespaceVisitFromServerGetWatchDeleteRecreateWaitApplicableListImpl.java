@@ -27,6 +27,7 @@ import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.Handlers;
 import io.fabric8.kubernetes.client.HasMetadataVisitiableBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientApplyException;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.ResourceHandler;
@@ -34,6 +35,7 @@ import io.fabric8.kubernetes.client.dsl.*;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.handlers.KubernetesListHandler;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.fabric8.kubernetes.client.utils.ApplyOrder;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.Utils;
 
@@ -46,19 +48,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static io.fabric8.kubernetes.client.utils.CreateOrReplaceHelper.createOrReplaceItem;
 import static io.fabric8.kubernetes.client.utils.DeleteAndCreateHelper.deleteAndCreateItem;
@@ -67,6 +73,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl.class);
+    private static final long DEFINITION_ESTABLISHED_TIMEOUT_SECONDS = 60L;
     protected static final String EXPRESSION = "expression";
     protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -84,6 +91,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
     private final long gracePeriodSeconds;
     private final DeletionPropagation propagationPolicy;
     private final Boolean cascading;
+    private final int parallelism;
 
   @Override
   public List<HasMetadata> waitUntilReady(final long amount, final TimeUnit timeUnit) throws InterruptedException {
@@ -215,12 +223,12 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
   @Override
   public NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> withParameters(Map<String, String> parameters) {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, namespace, explicitNamespace, fromServer, deletingExisting, visitors, null, inputStream, parameters, -1, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, namespace, explicitNamespace, fromServer, deletingExisting, visitors, null, inputStream, parameters, -1, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   @Override
   public ListVisitFromServerWritable<HasMetadata> dryRun(boolean isDryRun) {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, namespace, explicitNamespace, fromServer, deletingExisting, visitors, item, inputStream, null, -1, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, isDryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, namespace, explicitNamespace, fromServer, deletingExisting, visitors, item, inputStream, null, -1, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, isDryRun, parallelism);
   }
 
   /**
@@ -257,6 +265,10 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
     }
 
     public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(OkHttpClient client, Config config, String namespace, String explicitNamespace, Boolean fromServer, Boolean deletingExisting, List<Visitor> visitors, Object item, InputStream inputStream, Map<String, String> parameters, long gracePeriodSeconds, DeletionPropagation propagationPolicy, Boolean cascading, long watchRetryInitialBackoffMillis, double watchRetryBackoffMultiplier, boolean dryRun) {
+        this(client, config, namespace, explicitNamespace, fromServer, deletingExisting, visitors, item, inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, 1);
+    }
+
+    public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(OkHttpClient client, Config config, String namespace, String explicitNamespace, Boolean fromServer, Boolean deletingExisting, List<Visitor> visitors, Object item, InputStream inputStream, Map<String, String> parameters, long gracePeriodSeconds, DeletionPropagation propagationPolicy, Boolean cascading, long watchRetryInitialBackoffMillis, double watchRetryBackoffMultiplier, boolean dryRun, int parallelism) {
         super(client, config);
         this.fallbackNamespace = namespace;
         this.explicitNamespace = explicitNamespace;
@@ -279,6 +291,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
         this.gracePeriodSeconds = gracePeriodSeconds;
         this.propagationPolicy = propagationPolicy;
         this.dryRun = dryRun;
+        this.parallelism = parallelism;
         this.visitors.add(new ChangeNamespace(explicitNamespace, fallbackNamespace));
     }
 
@@ -289,6 +302,15 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
   @Override
   public List<HasMetadata> createOrReplace() {
+    if (parallelism > 1) {
+      final List<HasMetadata> items = acceptVisitors(asHasMetadata(item, true), visitors);
+      // custom resources are rejected until the definitions applied before them are established
+      final boolean awaitDefinitions = !dryRun && items.stream().anyMatch(i -> ApplyOrder.phaseOf(i) > ApplyOrder.NAMESPACES_AND_DEFINITIONS);
+      return nonNull(inPhases(items, false, false, meta -> {
+        HasMetadata applied = createOrReplaceOrDeleteExisting(meta, handlerOf(meta), meta.getMetadata().getNamespace(), dryRun);
+        return awaitDefinitions && applied != null ? awaitEstablished(applied) : applied;
+      }));
+    }
     List<HasMetadata> result = new ArrayList<>();
     for (HasMetadata meta : acceptVisitors(asHasMetadata(item, true), visitors)) {
       ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
@@ -304,7 +326,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
   @Override
   public Waitable<List<HasMetadata>, HasMetadata> createOrReplaceAnd() {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, createOrReplace(), inputStream, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, createOrReplace(), inputStream, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   @Override
@@ -316,6 +338,13 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
             }
         }
 
+        if (parallelism > 1) {
+            // like the sequential deletion, false as soon as an item isn't deleted, and the next items aren't attempted
+            final HasMetadata[] deleted = inPhases(acceptVisitors(asHasMetadata(item, true), visitors), true, true,
+              meta -> handlerOf(meta).delete(client, config, meta.getMetadata().getNamespace(), propagationPolicy, gracePeriodSeconds, meta, dryRun) ? meta : null);
+            return Arrays.stream(deleted).allMatch(Objects::nonNull);
+        }
+
         //Second pass do delete
         for (HasMetadata meta :  acceptVisitors(asHasMetadata(item, true), visitors)) {
             ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
@@ -326,6 +355,85 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
         return true;
     }
 
+    /**
+     * Process the items with a bounded pool, phase by phase in dependency order, so that the Namespaces and
+     * CustomResourceDefinitions exist before the resources that live in them and the RBAC resources before the
+     * workloads using them. The next phase only starts once the current one is complete, and is skipped if any of
+     * its items failed.
+     *
+     * @param items the items to process
+     * @param reverse true to process the phases the other way around, as when deleting
+     * @param stopOnNull true to stop after the phase in which an item has no result, without failing
+     * @param operation the operation to perform on each item, returning null when there's nothing to report
+     * @return the results, at the index of their item, null for the items without result or not attempted
+     */
+    private HasMetadata[] inPhases(List<HasMetadata> items, boolean reverse, boolean stopOnNull, UnaryOperator<HasMetadata> operation) {
+      final HasMetadata[] results = new HasMetadata[items.size()];
+      final List<KubernetesClientApplyException.Failure> failures = new ArrayList<>();
+      final List<HasMetadata> skipped = new ArrayList<>();
+      final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, items.size())));
+      try {
+        boolean stopped = false;
+        for (List<Integer> phase : ApplyOrder.phases(items, reverse)) {
+          if (!failures.isEmpty()) {
+            phase.forEach(i -> skipped.add(items.get(i)));
+            continue;
+          } else if (stopped) {
+            continue;
+          }
+          final List<Future<HasMetadata>> futures = new ArrayList<>(phase.size());
+          for (Integer i : phase) {
+            futures.add(executor.submit(() -> operation.apply(items.get(i))));
+          }
+          for (int j = 0; j < phase.size(); j++) {
+            final int i = phase.get(j);
+            try {
+              results[i] = futures.get(j).get();
+              stopped |= stopOnNull && results[i] == null;
+            } catch (ExecutionException e) {
+              failures.add(new KubernetesClientApplyException.Failure(items.get(i), e.getCause()));
+            }
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw KubernetesClientException.launderThrowable(e);
+      } finally {
+        executor.shutdownNow();
+      }
+      if (!failures.isEmpty()) {
+        throw new KubernetesClientApplyException(nonNull(results), failures, skipped);
+      }
+      return results;
+    }
+
+    private static List<HasMetadata> nonNull(HasMetadata[] results) {
+      final List<HasMetadata> processed = new ArrayList<>();
+      for (HasMetadata result : results) {
+        if (result != null) {
+          processed.add(result);
+        }
+      }
+      return processed;
+    }
+
+    /**
+     * Waits until a CustomResourceDefinition is established, any other resource is returned as is.
+     */
+    private HasMetadata awaitEstablished(HasMetadata applied) {
+      if (ApplyOrder.isEstablished(applied)) {
+        return applied;
+      }
+      final ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(applied);
+      try {
+        return h.waitUntilCondition(client, config, applied.getMetadata().getNamespace(), applied,
+          ApplyOrder::isEstablished, DEFINITION_ESTABLISHED_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+
     @Override
     public List<HasMetadata> get() {
         if (fromServer) {
@@ -366,17 +474,17 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
     @Override
     public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> inNamespace(String explicitNamespace) {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
     }
 
     @Override
     public Gettable<List<HasMetadata>> fromServer() {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, true, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, true, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
     }
 
     @Override
     public Applicable<List<HasMetadata>> deletingExisting() {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
     }
 
     @Override
@@ -385,28 +493,36 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
         for (Visitor v : visitors) {
           newVisitors.add(v);
         }
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, newVisitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, newVisitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
     }
 
   @Override public CascadingDeletable<List<HasMetadata>> withGracePeriod(long gracePeriodSeconds)
   {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   @Override public CascadingDeletable<List<HasMetadata>> withPropagationPolicy(DeletionPropagation propagationPolicy)
   {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   @Override
   public Waitable<List<HasMetadata>, HasMetadata> withWaitRetryBackoff(long initialBackoff, TimeUnit backoffUnit, double backoffMultiplier) {
     long watchRetryInitialBackoffMillis = backoffUnit.toMillis(initialBackoff);
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, backoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, backoffMultiplier, dryRun, parallelism);
+  }
+
+  @Override
+  public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> withParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1, was " + parallelism);
+    }
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   @Override
   public Deletable cascading(boolean cascading) {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier, dryRun, parallelism);
   }
 
   protected Readiness getReadiness() {
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.dsl.internal;
 import java.net.MalformedURLException;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -33,21 +34,26 @@ import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
 import okhttp3.OkHttpClient;
 import okhttp3.WebSocket;
+import okio.ByteString;
 
-import static io.fabric8.kubernetes.client.dsl.internal.WatchHTTPManager.readWatchEvent;
 import static java.net.HttpURLConnection.HTTP_GONE;
 
 public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesResourceList<T>> extends AbstractWatchManager<T> {
   
   public WatchConnectionManager(final OkHttpClient client, final BaseOperation<T, L, ?> baseOperation, final ListOptions listOptions, final Watcher<T> watcher, final int reconnectInterval, final int reconnectLimit, long websocketTimeout, int maxIntervalExponent) throws MalformedURLException {
+    this(client, baseOperation, listOptions, watcher, reconnectInterval, reconnectLimit, websocketTimeout, maxIntervalExponent, null);
+  }
+
+  public WatchConnectionManager(final OkHttpClient client, final BaseOperation<T, L, ?> baseOperation, final ListOptions listOptions, final Watcher<T> watcher, final int reconnectInterval, final int reconnectLimit, long websocketTimeout, int maxIntervalExponent, ScheduledExecutorService executorService) throws MalformedURLException {
     super(
-      watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, new BaseOperationRequestBuilder<>(baseOperation, listOptions)
+      watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, new BaseOperationRequestBuilder<>(baseOperation, listOptions), executorService
     );
     
+    final WatchEventDecoder<T> decoder = new WatchEventDecoder<>(baseOperation.getType());
     initRunner(new WebSocketClientRunner<T>(client) {
       @Override
       WatcherWebSocketListener<T> newListener(BlockingQueue<Object> queue, AtomicReference<WebSocket> webSocketRef) {
-        return new TypedWatcherWebSocketListener<>(WatchConnectionManager.this, queue, webSocketRef);
+        return new TypedWatcherWebSocketListener<>(WatchConnectionManager.this, queue, webSocketRef, decoder);
       }
   
       @Override
@@ -66,19 +72,46 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
   }
   
   private static class TypedWatcherWebSocketListener<T extends HasMetadata> extends WatcherWebSocketListener<T> {
-    public TypedWatcherWebSocketListener(AbstractWatchManager<T> manager, BlockingQueue<Object> queue, AtomicReference<WebSocket> webSocketRef) {
+    private final WatchEventDecoder<T> decoder;
+
+    public TypedWatcherWebSocketListener(AbstractWatchManager<T> manager, BlockingQueue<Object> queue, AtomicReference<WebSocket> webSocketRef,
+      WatchEventDecoder<T> decoder) {
       super(manager, queue, webSocketRef);
+      this.decoder = decoder;
     }
-  
+
+    @Override
+    public void onMessage(WebSocket webSocket, ByteString bytes) {
+      try {
+        onEvent(decoder.decode(bytes), bytes);
+      } catch (Throwable e) {
+        logger.error("Unhandled exception encountered in watcher event handler", e);
+      }
+    }
+
     @Override
     public void onMessage(WebSocket webSocket, String message) {
       try {
-        WatchEvent event = readWatchEvent(message);
+        onEvent(decoder.decode(message), message);
+      } catch (Throwable e) {
+        logger.error("Unhandled exception encountered in watcher event handler", e);
+      }
+    }
+
+    private void onEvent(WatchEvent event, Object message) {
+      if (event == null) {
+        return;
+      }
+      try {
         Object object = event.getObject();
         if (object instanceof HasMetadata) {
           @SuppressWarnings("unchecked")
           T obj = (T) object;
           manager.updateResourceVersion(obj.getMetadata().getResourceVersion());
+          if (BOOKMARK_EVENT_TYPE.equals(event.getType())) {
+            manager.bookmarkReceived(obj.getMetadata().getResourceVersion());
+            return;
+          }
           Action action = Action.valueOf(event.getType());
           manager.eventReceived(action, obj);
         } else if (object instanceof KubernetesResourceList) {
@@ -114,8 +147,6 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
         logger.error("Received wrong type of object for watch", e);
       } catch (IllegalArgumentException e) {
         logger.error("Invalid event type", e);
-      } catch (Throwable e) {
-        logger.error("Unhandled exception encountered in watcher event handler", e);
       }
     }
   }
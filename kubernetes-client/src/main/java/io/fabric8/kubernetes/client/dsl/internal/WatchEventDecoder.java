@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Decodes the watch events of a typed watch in a single streaming pass.
+ *
+ * The object of ADDED, MODIFIED, DELETED and BOOKMARK events is deserialized straight into the watched type,
+ * without going through an intermediate String or JSON tree to find out its kind. The objects of other events
+ * (e.g. the Status of ERROR events) are decoded by kind, and messages which aren't watch events of a concrete
+ * type (e.g. lists sent when watching API groups) fall back to {@link WatchHTTPManager#readWatchEvent(String)}.
+ *
+ * @param <T> the watched type
+ */
+class WatchEventDecoder<T extends HasMetadata> {
+
+  private static final String TYPE_FIELD = "type";
+  private static final String OBJECT_FIELD = "object";
+  private static final Set<String> TYPED_EVENT_TYPES = new HashSet<>(Arrays.asList(
+    Watcher.Action.ADDED.name(), Watcher.Action.MODIFIED.name(), Watcher.Action.DELETED.name(), AbstractWatchManager.BOOKMARK_EVENT_TYPE));
+
+  private final ObjectMapper mapper;
+  private final Class<T> type;
+
+  WatchEventDecoder(Class<T> type) {
+    this.mapper = Serialization.jsonMapper();
+    this.type = type != null && !type.isInterface() && !Modifier.isAbstract(type.getModifiers()) ? type : null;
+  }
+
+  /**
+   * Decodes a binary frame or a line of a watch response, without decoding it to a String first.
+   *
+   * @param message the UTF-8 encoded event
+   * @return the event, null if the message is blank
+   */
+  WatchEvent decode(ByteString message) {
+    if (type == null) {
+      return WatchHTTPManager.readWatchEvent(message.utf8());
+    }
+    try (JsonParser parser = mapper.getFactory().createParser(new ByteBufferBackedInputStream(message.asByteBuffer()))) {
+      WatchEvent event = decode(parser);
+      return event != null || isBlank(message) ? event : WatchHTTPManager.readWatchEvent(message.utf8());
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Decodes a text frame.
+   *
+   * @param message the event
+   * @return the event, null if the message is blank
+   */
+  WatchEvent decode(String message) {
+    if (type == null) {
+      return WatchHTTPManager.readWatchEvent(message);
+    }
+    try (JsonParser parser = mapper.getFactory().createParser(message)) {
+      WatchEvent event = decode(parser);
+      return event != null || message.trim().isEmpty() ? event : WatchHTTPManager.readWatchEvent(message);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Reads the type and the object of the event. The object is buffered as tokens in the unlikely
+   * case it comes before the type, since the type tells how to deserialize it.
+   *
+   * @return the event, null if the message isn't a watch event with an object
+   */
+  private WatchEvent decode(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return null;
+    }
+    String eventType = null;
+    KubernetesResource object = null;
+    TokenBuffer bufferedObject = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if (TYPE_FIELD.equals(field)) {
+        eventType = parser.getValueAsString();
+      } else if (OBJECT_FIELD.equals(field) && eventType != null) {
+        object = readObject(parser, eventType);
+      } else if (OBJECT_FIELD.equals(field)) {
+        bufferedObject = new TokenBuffer(parser);
+        bufferedObject.copyCurrentStructure(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (bufferedObject != null) {
+      try (JsonParser bufferedParser = bufferedObject.asParser(parser.getCodec())) {
+        bufferedParser.nextToken();
+        object = readObject(bufferedParser, eventType);
+      }
+    }
+    if (object == null) {
+      return null;
+    }
+    return new WatchEvent(object, eventType != null ? eventType : "MODIFIED");
+  }
+
+  private KubernetesResource readObject(JsonParser parser, String eventType) throws IOException {
+    if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    if (TYPED_EVENT_TYPES.contains(eventType)) {
+      return mapper.readValue(parser, type);
+    }
+    return mapper.readValue(parser, KubernetesResource.class);
+  }
+
+  private static boolean isBlank(ByteString message) {
+    for (int i = 0; i < message.size(); i++) {
+      if (!Character.isWhitespace(message.getByte(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
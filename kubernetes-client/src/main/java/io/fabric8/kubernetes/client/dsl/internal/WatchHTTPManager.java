@@ -15,12 +15,15 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
@@ -43,6 +46,7 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okio.BufferedSource;
+import okio.ByteString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,12 +70,22 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
                           final ListOptions listOptions, final Watcher<T> watcher, final int reconnectInterval,
                           final int reconnectLimit, long connectTimeout, int maxIntervalExponent)
     throws MalformedURLException {
+    this(client, baseOperation, listOptions, watcher, reconnectInterval, reconnectLimit, connectTimeout, maxIntervalExponent, null);
+  }
+
+  public WatchHTTPManager(final OkHttpClient client,
+                          final BaseOperation<T, L, ?> baseOperation,
+                          final ListOptions listOptions, final Watcher<T> watcher, final int reconnectInterval,
+                          final int reconnectLimit, long connectTimeout, int maxIntervalExponent,
+                          ScheduledExecutorService executorService)
+    throws MalformedURLException {
     
     super(
-      watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, new BaseOperationRequestBuilder<>(baseOperation, listOptions)
+      watcher, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent, new BaseOperationRequestBuilder<>(baseOperation, listOptions),
+      executorService
     );
     
-    initRunner(new HTTPClientRunner<T>(client, this) {
+    initRunner(new HTTPClientRunner<T>(client, this, new WatchEventDecoder<>(baseOperation.getType())) {
       @Override
       OkHttpClient cloneAndCustomize(OkHttpClient client) {
         final OkHttpClient clonedClient = client.newBuilder()
@@ -97,15 +111,20 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   private abstract static class HTTPClientRunner<T extends HasMetadata> extends AbstractWatchManager.ClientRunner {
     private final AbstractWatchManager<T> manager;
     private final AtomicBoolean reconnectPending = new AtomicBoolean(false);
+    private final AtomicReference<Call> currentCall = new AtomicReference<>();
+    private final WatchEventDecoder<T> decoder;
     
-    public HTTPClientRunner(OkHttpClient client, AbstractWatchManager<T> manager) {
+    public HTTPClientRunner(OkHttpClient client, AbstractWatchManager<T> manager, WatchEventDecoder<T> decoder) {
       super(client);
       this.manager = manager;
+      this.decoder = decoder;
     }
     
     @Override
     void run(Request request) {
-      client().newCall(request).enqueue(new Callback() {
+      Call call = client().newCall(request);
+      currentCall.set(call);
+      call.enqueue(new Callback() {
         @Override
         public void onFailure(Call call, IOException e) {
           logger.info("Watch connection failed. reason: {}", e.getMessage());
@@ -123,14 +142,15 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
           try {
             BufferedSource source = response.body().source();
             while (!source.exhausted()) {
-              String message = source.readUtf8LineStrict();
-              onMessage(message);
+              onMessage(readLine(source));
             }
             // the normal operation of a long poll get is to return once a response is available.
             // in that case we should reconnect immediately.
             shouldBackoff = false;
           } catch (Exception e) {
-            logger.info("Watch terminated unexpectedly. reason: {}", e.getMessage());
+            if (!manager.isForceClosed()) {
+              logger.info("Watch terminated unexpectedly. reason: {}", e.getMessage());
+            }
           }
           
           // if we get here, the source is exhausted, so, we have lost our "watch".
@@ -174,6 +194,10 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
             : 0;
           
           manager.schedule(() -> {
+            // the watch may have been closed while the reconnect was pending
+            if (manager.isForceClosed()) {
+              return;
+            }
             try {
               manager.runWatch();
               reconnectPending.set(false);
@@ -194,15 +218,47 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
       });
     }
     
-    public void onMessage(String messageSource) {
+    /**
+     * Cancels the request in flight, which over HTTP/2 only resets its stream and leaves the connection
+     * to the other watches.
+     */
+    @Override
+    void close() {
+      Call call = currentCall.getAndSet(null);
+      if (call != null) {
+        call.cancel();
+      }
+    }
+    
+    /**
+     * Reads the next event of the response as bytes, leaving its decoding to the {@link WatchEventDecoder}.
+     */
+    private static ByteString readLine(BufferedSource source) throws IOException {
+      long newline = source.indexOf((byte) '\n');
+      if (newline == -1L) {
+        throw new EOFException("\\n not found: size=" + source.buffer().size());
+      }
+      ByteString line = source.readByteString(newline);
+      source.skip(1);
+      return line;
+    }
+    
+    public void onMessage(ByteString messageSource) {
       try {
-        WatchEvent event = readWatchEvent(messageSource);
+        WatchEvent event = decoder.decode(messageSource);
+        if (event == null) {
+          return;
+        }
         KubernetesResource object = event.getObject();
         if (object instanceof HasMetadata) {
           // Dirty cast - should always be valid though
           @SuppressWarnings("unchecked")
           T obj = (T) object;
           manager.updateResourceVersion(obj.getMetadata().getResourceVersion());
+          if (BOOKMARK_EVENT_TYPE.equals(event.getType())) {
+            manager.bookmarkReceived(obj.getMetadata().getResourceVersion());
+            return;
+          }
           Watcher.Action action = Watcher.Action.valueOf(event.getType());
           manager.eventReceived(action, obj);
         } else if (object instanceof KubernetesResourceList) {
@@ -219,7 +275,7 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
         } else if (object instanceof Status) {
           onStatus((Status) object);
         } else {
-          logger.error("Unknown message received: {}", messageSource);
+          logger.error("Unknown message received: {}", messageSource.utf8());
         }
       } catch (ClassCastException e) {
         logger.error("Received wrong type of object for watch", e);
@@ -233,8 +289,8 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
       if (status.getCode() == HTTP_GONE) {
         // exception
         // shut down executor, etc.
-        close();
-        manager.onClose(new WatcherException(status.getMessage(), new KubernetesClientException(status)));
+        manager.closeEvent(new WatcherException(status.getMessage(), new KubernetesClientException(status)));
+        manager.close();
         return;
       }
       
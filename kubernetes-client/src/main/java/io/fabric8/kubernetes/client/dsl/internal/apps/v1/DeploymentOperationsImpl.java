@@ -48,6 +48,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -139,6 +140,14 @@ public class DeploymentOperationsImpl extends RollableScalableResourceOperation<
     return super.patch(item);
   }
 
+  @Override
+  public CompletableFuture<Deployment> patchAsync(Deployment item) {
+    if (isCascading()) {
+      return newInstance(context.withCascading(false).withPropagationPolicy(null)).patchAsync(item);
+    }
+    return super.patchAsync(item);
+  }
+
   @Override
   public DeploymentOperationsImpl rolling() {
     return new DeploymentOperationsImpl(((RollingOperationContext)context).withRolling(true));
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -171,4 +172,13 @@ public abstract class RollableScalableResourceOperation<T extends HasMetadata, L
     return getRollingUpdater(rollingTimeout, rollingTimeUnit).rollUpdate(getMandatory(), t);
   }
 
+  @Override
+  public CompletableFuture<T> patchAsync(T t) {
+    if (!rolling) {
+      return super.patchAsync(t);
+    }
+    // the rolling update waits for the new pods to be ready, it can't be performed without blocking a thread
+    return CompletableFuture.supplyAsync(() -> patch(t));
+  }
+
 }
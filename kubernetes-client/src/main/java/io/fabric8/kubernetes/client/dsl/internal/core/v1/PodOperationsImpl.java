@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import io.fabric8.kubernetes.api.model.DeleteOptions;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -70,6 +71,7 @@ import io.fabric8.kubernetes.client.dsl.internal.LogWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.utils.PodOperationUtil;
 import io.fabric8.kubernetes.client.dsl.internal.PortForwarderWebsocket;
+import io.fabric8.kubernetes.client.dsl.internal.uploadable.PodBinaryTransfer;
 import io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload;
 import io.fabric8.kubernetes.client.utils.BlockingInputStreamPumper;
 import io.fabric8.kubernetes.client.utils.URLUtils;
@@ -99,6 +101,10 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     private final PipedInputStream outPipe;
     private final PipedInputStream errPipe;
     private final PipedInputStream errChannelPipe;
+    private final boolean redirectingIn;
+    private final WritableByteChannel outByteChannel;
+    private final WritableByteChannel errByteChannel;
+    private final WritableByteChannel errChannelByteChannel;
     private final boolean withTTY;
     private final boolean withTerminatedStatus;
     private final boolean withTimestamps;
@@ -132,6 +138,10 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     this.errPipe = context.getErrPipe();
     this.errChannel = context.getErrChannel();
     this.errChannelPipe = context.getErrChannelPipe();
+    this.redirectingIn = context.isRedirectingIn();
+    this.outByteChannel = context.getOutByteChannel();
+    this.errByteChannel = context.getErrByteChannel();
+    this.errChannelByteChannel = context.getErrChannelByteChannel();
     this.withTTY = context.isTty();
     this.withTerminatedStatus = context.isTerminatedStatus();
     this.withTimestamps = context.isTimestamps();
@@ -326,7 +336,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
             URL url = getURLWithCommandParams(HttpUrl.get(getResourceUrl()).newBuilder(), actualCommands);
             Request.Builder r = new Request.Builder().url(url).header("Sec-WebSocket-Protocol", "v4.channel.k8s.io").get();
             OkHttpClient clone = client.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
-            final ExecWebSocketListener execWebSocketListener = new ExecWebSocketListener(getConfig(), in, out, err, errChannel, inPipe, outPipe, errPipe, errChannelPipe, execListener, bufferSize);
+            final ExecWebSocketListener execWebSocketListener = new ExecWebSocketListener(getConfig(), in, out, err, errChannel, inPipe, outPipe, errPipe, errChannelPipe, redirectingIn, outByteChannel, errByteChannel, errChannelByteChannel, execListener, bufferSize);
             clone.newWebSocket(r.build(), execWebSocketListener);
             execWebSocketListener.waitUntilReady();
             return execWebSocketListener;
@@ -348,13 +358,13 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
       if (withTTY) {
         httpUrlBuilder.addQueryParameter("tty", "true");
       }
-      if (in != null || inPipe != null) {
+      if (in != null || inPipe != null || redirectingIn) {
         httpUrlBuilder.addQueryParameter("stdin", "true");
       }
-      if (out != null || outPipe != null) {
+      if (out != null || outPipe != null || outByteChannel != null) {
         httpUrlBuilder.addQueryParameter("stdout", "true");
       }
-      if (err != null || errPipe != null) {
+      if (err != null || errPipe != null || errByteChannel != null) {
         httpUrlBuilder.addQueryParameter("stderr", "true");
       }
       return httpUrlBuilder.build().url();
@@ -370,6 +380,35 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
       return new PodOperationsImpl(getContext().withDir(dir));
     }
 
+    @Override
+    public CopyOrReadable<Boolean, InputStream, Boolean> binary() {
+      return new PodOperationsImpl(getContext().withBinaryTransfer(true));
+    }
+
+    @Override
+    public CopyOrReadable<Boolean, InputStream, Boolean> withCompressionLevel(int level) {
+      if (level < 0 || level > 9) {
+        throw new IllegalArgumentException("Compression level must be between 0 and 9");
+      }
+      return new PodOperationsImpl(getContext().withBinaryTransfer(true).withCompressionLevel(level));
+    }
+
+    @Override
+    public CopyOrReadable<Boolean, InputStream, Boolean> withParallelism(int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException("Parallelism must be at least 1");
+      }
+      return new PodOperationsImpl(getContext().withBinaryTransfer(true).withTransferParallelism(parallelism));
+    }
+
+    @Override
+    public CopyOrReadable<Boolean, InputStream, Boolean> withChunkSize(long chunkSize) {
+      if (chunkSize < 1) {
+        throw new IllegalArgumentException("Chunk size must be positive");
+      }
+      return new PodOperationsImpl(getContext().withBinaryTransfer(true).withChunkSize(chunkSize));
+    }
+
    @Override
    public Boolean copy(Path destination) {
     try {
@@ -390,6 +429,9 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   public Boolean upload(Path path) {
     return wrapRunWithOptionalDependency(() -> {
       try {
+        if (getContext().isBinaryTransfer()) {
+          return new PodBinaryTransfer(client, this).upload(path);
+        }
         return PodUpload.upload(client, getContext(), this, path);
       } catch (Exception ex) {
         Thread.currentThread().interrupt();
@@ -441,7 +483,10 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
                   e.printStackTrace();
                 }
               }
-            }).exec("sh", "-c", "cat " + source + "|" + "base64");
+            }).exec("sh", "-c", getContext().isBinaryTransfer() ? "cat " + source : "cat " + source + "|" + "base64");
+            if (getContext().isBinaryTransfer()) {
+              return in;
+            }
             return new org.apache.commons.codec.binary.Base64InputStream(in);
           } catch (Exception e) {
             throw KubernetesClientException.launderThrowable(e);
@@ -474,6 +519,14 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
             String filename = parts[parts.length - 1];
             destination = destination.toPath().resolve(filename).toFile();
         }
+        if (getContext().isBinaryTransfer()) {
+          try {
+            new PodBinaryTransfer(client, PodOperationsImpl.this).copyFile(source, destination.toPath());
+            return;
+          } catch (Exception e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }
         try (InputStream is = readFile(source);
              OutputStream os = new FileOutputStream(destination)) {
           BlockingInputStreamPumper pumper = new BlockingInputStreamPumper(is, input -> {
@@ -529,8 +582,11 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
                   e.printStackTrace();
                 }
               }
-            }).exec("sh", "-c", "tar -cf - " + source + "|" + "base64");
-            return new org.apache.commons.codec.binary.Base64InputStream(in);
+            }).exec("sh", "-c", getTarCommand(source));
+            if (!getContext().isBinaryTransfer()) {
+              return new org.apache.commons.codec.binary.Base64InputStream(in);
+            }
+            return isCompressedDownload() ? new GZIPInputStream(in) : in;
           } catch (Exception e) {
             throw KubernetesClientException.launderThrowable(e);
           } catch (NoClassDefFoundError n) {
@@ -543,6 +599,17 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     }
   }
 
+  private String getTarCommand(String source) {
+    if (!getContext().isBinaryTransfer()) {
+      return "tar -cf - " + source + "|" + "base64";
+    }
+    return isCompressedDownload() ? "tar -cf - " + source + "|" + "gzip -" + getContext().getCompressionLevel() : "tar -cf - " + source;
+  }
+
+  private boolean isCompressedDownload() {
+    return getContext().getCompressionLevel() != null && getContext().getCompressionLevel() > 0;
+  }
+
   private void copyDir(String source, File target) throws Exception {
     //Let's wrap the code to a runnable inner class to avoid NoClassDef on Option classes.
     try {
@@ -554,6 +621,14 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
         {
           throw KubernetesClientException.launderThrowable(new IOException("Failed to create directory: " + destination));
         }
+        if (getContext().getTransferParallelism() != null && getContext().getTransferParallelism() > 1) {
+          try {
+            new PodBinaryTransfer(client, PodOperationsImpl.this).copyDirectory(source, destination.toPath());
+            return;
+          } catch (Exception e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }
         try (
           InputStream is = readTar(source);
           org.apache.commons.compress.archivers.tar.TarArchiveInputStream tis = new org.apache.commons.compress.archivers.tar.TarArchiveInputStream(is))
@@ -624,7 +699,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
 
     @Override
     public TtyExecOutputErrorable<String, OutputStream, PipedInputStream, ExecWatch> redirectingInput(Integer bufferSize) {
-        return new PodOperationsImpl(getContext().withInPipe(new PipedOutputStream()).withBufferSize(bufferSize));
+        return new PodOperationsImpl(getContext().withRedirectingIn(true).withBufferSize(bufferSize));
     }
 
     @Override
@@ -632,6 +707,11 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
         return new PodOperationsImpl(getContext().withOut(out));
     }
 
+    @Override
+    public TtyExecErrorable<String, OutputStream, PipedInputStream, ExecWatch> writingOutput(WritableByteChannel out) {
+        return new PodOperationsImpl(getContext().withOutByteChannel(out));
+    }
+
     @Override
     public TtyExecErrorable<String, OutputStream, PipedInputStream, ExecWatch> readingOutput(PipedInputStream outPipe) {
         return new PodOperationsImpl(getContext().withOutPipe(outPipe));
@@ -647,6 +727,11 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
         return new PodOperationsImpl(getContext().withErr(err));
     }
 
+    @Override
+    public TtyExecErrorChannelable<String, OutputStream, PipedInputStream, ExecWatch> writingError(WritableByteChannel err) {
+        return new PodOperationsImpl(getContext().withErrByteChannel(err));
+    }
+
     @Override
     public TtyExecErrorChannelable<String, OutputStream, PipedInputStream, ExecWatch> readingError(PipedInputStream errPipe) {
         return new PodOperationsImpl(getContext().withErrPipe(errPipe));
@@ -662,6 +747,11 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
         return new PodOperationsImpl(getContext().withErrChannel(errChannel));
     }
 
+    @Override
+    public TtyExecable<String, ExecWatch> writingErrorChannel(WritableByteChannel errChannel) {
+        return new PodOperationsImpl(getContext().withErrChannelByteChannel(errChannel));
+    }
+
     @Override
     public TtyExecable<String, ExecWatch> readingErrorChannel(PipedInputStream errChannelPipe) {
         return new PodOperationsImpl(getContext().withErrChannelPipe(errChannelPipe));
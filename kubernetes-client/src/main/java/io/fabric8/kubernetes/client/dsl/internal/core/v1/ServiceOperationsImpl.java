@@ -32,6 +32,7 @@ import okhttp3.OkHttpClient;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public class ServiceOperationsImpl extends HasMetadataOperation<Service, ServiceList, ServiceResource<Service>> implements ServiceResource<Service> {
@@ -67,6 +68,15 @@ public class ServiceOperationsImpl extends HasMetadataOperation<Service, Service
     return super.patch(handleClusterIp(item, this::getMandatory, "patch"));
   }
 
+  @Override
+  public CompletableFuture<Service> patchAsync(Service item) {
+    if (isExternalNameService(item)) {
+      return super.patchAsync(item);
+    }
+    return newInstance(context.withReloadingFromServer(true)).getAsync()
+      .thenCompose(current -> current == null ? CompletableFuture.completedFuture(null) : super.patchAsync(withClusterIp(item, current)));
+  }
+
   @Override
   public Service waitUntilReady(long amount, TimeUnit timeUnit) throws InterruptedException {
     long started = System.nanoTime();
@@ -161,12 +171,7 @@ public class ServiceOperationsImpl extends HasMetadataOperation<Service, Service
   private Service handleClusterIp(Service item, Gettable<Service> current, String opType) {
     if (!isExternalNameService(item)) {
       try {
-        Service old = current.get();
-        return new ServiceBuilder(item)
-          .editSpec()
-          .withClusterIP(old.getSpec().getClusterIP())
-          .endSpec()
-          .build();
+        return withClusterIp(item, current.get());
       } catch (Exception e) {
         throw KubernetesClientException.launderThrowable(forOperationType(opType), e);
       }
@@ -174,6 +179,14 @@ public class ServiceOperationsImpl extends HasMetadataOperation<Service, Service
     return item;
   }
 
+  private static Service withClusterIp(Service item, Service old) {
+    return new ServiceBuilder(item)
+      .editSpec()
+      .withClusterIP(old.getSpec().getClusterIP())
+      .endSpec()
+      .build();
+  }
+
   private boolean isExternalNameService(Service item) {
     if (item != null && item.getSpec() != null && item.getSpec().getType() != null) {
       return item.getSpec().getType().equals(EXTERNAL_NAME);
@@ -0,0 +1,562 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ExecListener;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.lib.FilenameUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.DEFAULT_BUFFER_SIZE;
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.DEFAULT_COMPLETE_REQUEST_TIMEOUT_SECONDS;
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.DEFAULT_CONNECTION_TIMEOUT_SECONDS;
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.addFileToTar;
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.buildCommandUrl;
+import static io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload.initWebSocket;
+
+/**
+ * Copies files in and out of a container as raw bytes over the exec stdin/stdout channels, a tar archive for
+ * directories, instead of base64 encoding them in the container.
+ *
+ * Transfers are only gzipped when a compression level above 0 is set, each file on its own when they are
+ * transferred one by one. Commands run in the container fail the transfer when they exit with an error, and
+ * are abandoned when they don't send anything for longer than the request timeout.
+ */
+public class PodBinaryTransfer {
+
+  private static final int MAX_CHUNK_RETRIES = 3;
+  private static final int CHUNK_VERIFICATION_ATTEMPTS = 10;
+  private static final long CHUNK_VERIFICATION_INTERVAL_MILLIS = 200L;
+
+  private final OkHttpClient client;
+  private final PodOperationsImpl operation;
+  private final PodOperationContext context;
+
+  public PodBinaryTransfer(OkHttpClient client, PodOperationsImpl operation) {
+    this.client = client;
+    this.operation = operation;
+    this.context = operation.getContext();
+  }
+
+  public boolean upload(Path pathToUpload) throws IOException, InterruptedException {
+    final File source = pathToUpload.toFile();
+    if (isSelected(context.getFile()) && source.isFile()) {
+      uploadFile(source, context.getFile());
+      return true;
+    } else if (isSelected(context.getDir()) && source.isDirectory()) {
+      if (getParallelism() > 1) {
+        uploadDirectoryInParallel(source, context.getDir());
+      } else {
+        uploadDirectory(source, context.getDir());
+      }
+      return true;
+    }
+    throw new IllegalArgumentException("Provided arguments are not valid (file, directory, path)");
+  }
+
+  /**
+   * @param source the file in the container
+   * @param destination the local file, replaced if it exists
+   */
+  public void copyFile(String source, Path destination) throws IOException, InterruptedException {
+    try (FileChannel channel = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+      StandardOpenOption.TRUNCATE_EXISTING)) {
+      if (context.getChunkSize() == null) {
+        download(source, "cat " + shellQuote(source), false, channel);
+        return;
+      }
+      final long length = remoteSize(source);
+      long offset = 0;
+      int failures = 0;
+      while (offset < length) {
+        final long size = Math.min(context.getChunkSize(), length - offset);
+        Exception failure = null;
+        channel.position(offset);
+        try {
+          download(source, String.format("tail -c +%d %s | head -c %d", offset + 1, shellQuote(source), size), true, channel);
+        } catch (IOException | KubernetesClientException e) {
+          failure = e;
+        }
+        final long received = channel.position() - offset;
+        offset += received;
+        if (received < size && ++failures > MAX_CHUNK_RETRIES) {
+          throw new IOException("Failed to copy " + source + ", stopped at byte " + offset + " of " + length, failure);
+        }
+      }
+    }
+  }
+
+  /**
+   * Copies the files of a directory concurrently, laid out like the tar based copy: under the destination,
+   * at the full path they have in the container.
+   */
+  public void copyDirectory(String source, Path destination) throws IOException, InterruptedException {
+    for (String directory : list("find " + shellQuote(source) + " -type d")) {
+      Files.createDirectories(resolve(destination, directory));
+    }
+    final List<Callable<Void>> copies = new ArrayList<>();
+    for (String file : list("find " + shellQuote(source) + " -type f")) {
+      final Path target = resolve(destination, file);
+      copies.add(() -> {
+        copyFile(file, target);
+        return null;
+      });
+    }
+    transferInParallel(copies);
+  }
+
+  private void uploadFile(File source, String target) throws IOException, InterruptedException {
+    final String directory = target.substring(0, Math.max(target.lastIndexOf('/'), 0));
+    final long length = source.length();
+    final long chunkSize = context.getChunkSize() != null ? context.getChunkSize() : Math.max(length, 1L);
+    try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+      long offset = 0;
+      int failures = 0;
+      do {
+        final long start = offset;
+        final long end = Math.min(start + chunkSize, length);
+        final String write = (isCompressed() ? "gunzip -c" : "cat -") + (start > 0 ? " >> " : " > ") + shellQuote(target);
+        final String command = start > 0 ? write : mkdir(directory) + write;
+        Exception failure = null;
+        try {
+          sendStdin(command, out -> {
+            if (isCompressed()) {
+              final GZIPOutputStream compressed = new LeveledGZIPOutputStream(out, context.getCompressionLevel());
+              copy(channel, start, end, compressed);
+              compressed.finish();
+            } else {
+              copy(channel, start, end, out);
+            }
+          });
+        } catch (IOException | KubernetesClientException e) {
+          if (context.getChunkSize() == null) {
+            throw e;
+          }
+          failure = e;
+        }
+        if (context.getChunkSize() == null) {
+          return;
+        }
+        // the next chunk is appended, it may only be sent once this one has landed
+        final long landed = awaitRemoteSize(target, end);
+        if (landed != end && ++failures > MAX_CHUNK_RETRIES) {
+          throw new IOException("Failed to upload " + source + ", stopped at byte " + landed + " of " + length, failure);
+        }
+        offset = Math.min(landed, end);
+      } while (offset < length);
+    }
+  }
+
+  private void uploadDirectory(File source, String target) throws IOException, InterruptedException {
+    final String command = String.format("%star -C %s -x%sf -", mkdir(target), shellQuote(target), isCompressed() ? "z" : "");
+    sendStdin(command, out -> {
+      try (OutputStream archive = isCompressed() ? new LeveledGZIPOutputStream(out, context.getCompressionLevel()) : out;
+           TarArchiveOutputStream tar = new TarArchiveOutputStream(archive)) {
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        for (File file : source.listFiles()) {
+          addFileToTar(null, file, tar);
+        }
+        tar.finish();
+      }
+    });
+  }
+
+  /**
+   * Creates the directory tree with a tar holding only the directories, then sends every file over its own exec
+   * session, compressed on its own when a compression level is set.
+   */
+  private void uploadDirectoryInParallel(File source, String target) throws IOException, InterruptedException {
+    final Path root = source.toPath();
+    final List<Path> files;
+    try (Stream<Path> tree = Files.walk(root)) {
+      files = tree.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+    sendStdin(String.format("%star -C %s -xf -", mkdir(target), shellQuote(target)), out -> {
+      try (Stream<Path> tree = Files.walk(root);
+           TarArchiveOutputStream tar = new TarArchiveOutputStream(out)) {
+        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        for (Path directory : tree.filter(p -> !p.equals(root) && Files.isDirectory(p)).collect(Collectors.toList())) {
+          tar.putArchiveEntry(new TarArchiveEntry(directory.toFile(), remotePath("", root, directory)));
+          tar.closeArchiveEntry();
+        }
+        tar.finish();
+      }
+    });
+    final List<Callable<Void>> uploads = new ArrayList<>();
+    for (Path file : files) {
+      uploads.add(() -> {
+        uploadFile(file.toFile(), remotePath(target, root, file));
+        return null;
+      });
+    }
+    transferInParallel(uploads);
+  }
+
+  private void transferInParallel(List<Callable<Void>> transfers) throws IOException, InterruptedException {
+    if (transfers.isEmpty()) {
+      return;
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(getParallelism(), transfers.size()));
+    try {
+      final List<Future<Void>> futures = new ArrayList<>(transfers.size());
+      for (Callable<Void> transfer : transfers) {
+        futures.add(executor.submit(transfer));
+      }
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+          }
+          throw KubernetesClientException.launderThrowable(e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void sendStdin(String command, StdinWriter writer) throws IOException, InterruptedException {
+    final URL url = buildCommandUrl(command, context, operation);
+    final PodUploadWebSocketListener listener = initWebSocket(url, client);
+    listener.waitUntilReady(DEFAULT_CONNECTION_TIMEOUT_SECONDS);
+    try (OutputStream out = new BufferedOutputStream(new StdinOutputStream(listener), DEFAULT_BUFFER_SIZE)) {
+      writer.write(out);
+    }
+    listener.waitUntilComplete(DEFAULT_COMPLETE_REQUEST_TIMEOUT_SECONDS);
+  }
+
+  private long awaitRemoteSize(String file, long expected) throws IOException, InterruptedException {
+    long size = remoteSize(file);
+    for (int attempt = 1; size < expected && attempt < CHUNK_VERIFICATION_ATTEMPTS; attempt++) {
+      Thread.sleep(CHUNK_VERIFICATION_INTERVAL_MILLIS);
+      size = remoteSize(file);
+    }
+    return size;
+  }
+
+  private long remoteSize(String file) throws IOException, InterruptedException {
+    final List<String> output = list("wc -c < " + shellQuote(file));
+    try {
+      return output.isEmpty() ? 0L : Long.parseLong(output.get(0).trim());
+    } catch (NumberFormatException e) {
+      throw new IOException("Unexpected size for " + file + ": " + output.get(0), e);
+    }
+  }
+
+  private List<String> list(String command) throws IOException, InterruptedException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    exec(command, Channels.newChannel(output));
+    return Stream.of(new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n"))
+      .filter(line -> !line.isEmpty())
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Runs the command and waits for it to complete, writing its stdout to the channel.
+   */
+  private void exec(String command, WritableByteChannel stdout) throws IOException, InterruptedException {
+    new Execution(command, stdout, null).await();
+  }
+
+  /**
+   * Runs the command reading the file and writes its stdout to the channel, gzipped in the container and decompressed
+   * here when a compression level is set.
+   *
+   * A pipeline exits with the status of its last command and not every shell supports pipefail, so piped commands
+   * are only run once the file is known to be readable: a missing file fails the transfer instead of copying nothing.
+   *
+   * @param piped whether the command is a pipeline itself
+   */
+  private void download(String file, String command, boolean piped, WritableByteChannel target)
+    throws IOException, InterruptedException {
+    final String checked = piped || isCompressed() ? "test -r " + shellQuote(file) + " && " + command : command;
+    if (!isCompressed()) {
+      exec(checked, target);
+      return;
+    }
+    final PipedInputStream compressed = new PipedInputStream(DEFAULT_BUFFER_SIZE);
+    final PipedOutputStream stdout = new PipedOutputStream(compressed);
+    final Execution execution = new Execution(checked + " | gzip -" + context.getCompressionLevel(),
+      Channels.newChannel(stdout), stdout);
+    try (InputStream in = new GZIPInputStream(compressed, DEFAULT_BUFFER_SIZE)) {
+      final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+      for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+        target.write(ByteBuffer.wrap(buffer, 0, read));
+      }
+    } catch (IOException e) {
+      // the command failing is the root cause of a truncated stream
+      execution.await();
+      throw e;
+    }
+    execution.await();
+  }
+
+  private boolean isCompressed() {
+    return context.getCompressionLevel() != null && context.getCompressionLevel() > 0;
+  }
+
+  private int getParallelism() {
+    return context.getTransferParallelism() != null ? context.getTransferParallelism() : 1;
+  }
+
+  private static void copy(FileChannel source, long from, long to, OutputStream out) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+    long position = from;
+    while (position < to) {
+      buffer.clear().limit((int) Math.min(buffer.capacity(), to - position));
+      final int read = source.read(buffer, position);
+      if (read < 0) {
+        throw new EOFException("File is shorter than expected");
+      }
+      out.write(buffer.array(), 0, read);
+      position += read;
+    }
+  }
+
+  private static Path resolve(Path destination, String remotePath) throws IOException {
+    final String normalized = FilenameUtils.normalize(remotePath.startsWith("/") ? remotePath.substring(1) : remotePath);
+    if (normalized == null || normalized.isEmpty()) {
+      throw new IOException("'" + remotePath + "' is not a valid path");
+    }
+    return destination.resolve(normalized);
+  }
+
+  private static String remotePath(String target, Path root, Path path) {
+    final StringBuilder remote = new StringBuilder(target);
+    for (Path name : root.relativize(path)) {
+      remote.append('/').append(name.toString());
+    }
+    return remote.toString();
+  }
+
+  private static String mkdir(String directory) {
+    return directory.isEmpty() ? "" : "mkdir -p " + shellQuote(directory) + " && ";
+  }
+
+  private static boolean isSelected(String path) {
+    return path != null && !path.isEmpty();
+  }
+
+  static String shellQuote(String value) {
+    return "'" + value.replace("'", "'\\''") + "'";
+  }
+
+  /**
+   * A command run in the container, its stdout written to a channel, its stderr and exit status kept to report
+   * failures.
+   */
+  private final class Execution implements ExecListener {
+
+    private final String command;
+    private final OutputStream closeOnCompletion;
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong received = new AtomicLong();
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream status = new ByteArrayOutputStream();
+    private final ExecWatch watch;
+
+    private Execution(String command, WritableByteChannel stdout, OutputStream closeOnCompletion) {
+      this.command = command;
+      this.closeOnCompletion = closeOnCompletion;
+      this.watch = operation.writingOutput(new ProgressChannel(stdout, received))
+        .writingError(stderr)
+        .writingErrorChannel(status)
+        .usingListener(this)
+        .exec("sh", "-c", command);
+    }
+
+    @Override
+    public void onOpen(Response response) {
+    }
+
+    @Override
+    public void onFailure(Throwable t, Response response) {
+      failure.set(t);
+      complete();
+    }
+
+    @Override
+    public void onClose(int code, String reason) {
+      complete();
+    }
+
+    private void complete() {
+      try {
+        if (closeOnCompletion != null) {
+          closeOnCompletion.close();
+        }
+      } catch (IOException e) {
+        failure.compareAndSet(null, e);
+      } finally {
+        completed.countDown();
+      }
+    }
+
+    /**
+     * Waits for the command to complete, as long as its output keeps coming within the request timeout.
+     */
+    private void await() throws IOException, InterruptedException {
+      final long timeout = getRequestTimeout();
+      if (timeout <= 0) {
+        completed.await();
+      } else {
+        for (long progress = -1; !completed.await(timeout, TimeUnit.MILLISECONDS); ) {
+          if (progress == received.get()) {
+            watch.close();
+            throw new IOException("Timed out after " + timeout + " ms without output from: " + command);
+          }
+          progress = received.get();
+        }
+      }
+      if (failure.get() != null) {
+        throw new IOException("Failed to run: " + command, failure.get());
+      }
+      final String message = failureMessage();
+      if (message != null) {
+        throw new IOException("Failed to run: " + command + ": " + message);
+      }
+    }
+
+    /**
+     * @return why the command failed, null if it succeeded
+     */
+    private String failureMessage() throws IOException {
+      final String errors = new String(stderr.toByteArray(), StandardCharsets.UTF_8).trim();
+      if (status.size() == 0) {
+        return null;
+      }
+      final Status exitStatus = Serialization.jsonMapper().readValue(status.toByteArray(), Status.class);
+      if ("Success".equals(exitStatus.getStatus())) {
+        return null;
+      }
+      return errors.isEmpty() ? exitStatus.getMessage() : errors;
+    }
+  }
+
+  private long getRequestTimeout() {
+    final Config config = context.getConfig();
+    return config != null ? config.getRequestTimeout() : 0L;
+  }
+
+  /**
+   * Counts the bytes written to the channel, to tell a slow transfer from a stalled one.
+   */
+  private static final class ProgressChannel implements WritableByteChannel {
+
+    private final WritableByteChannel channel;
+    private final AtomicLong written;
+
+    private ProgressChannel(WritableByteChannel channel, AtomicLong written) {
+      this.channel = channel;
+      this.written = written;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      final int count = channel.write(src);
+      written.addAndGet(count);
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+
+  @FunctionalInterface
+  private interface StdinWriter {
+    void write(OutputStream out) throws IOException;
+  }
+
+  private static final class StdinOutputStream extends OutputStream {
+
+    private final PodUploadWebSocketListener listener;
+
+    private StdinOutputStream(PodUploadWebSocketListener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void write(int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      listener.send(b, off, len);
+    }
+  }
+
+  private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+    private LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+      super(out, DEFAULT_BUFFER_SIZE);
+      def.setLevel(level);
+    }
+  }
+}
@@ -50,9 +50,9 @@ import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 
 public class PodUpload {
 
-  private static final int DEFAULT_BUFFER_SIZE = 8192;
-  private static final int DEFAULT_CONNECTION_TIMEOUT_SECONDS = 10;
-  private static final int DEFAULT_COMPLETE_REQUEST_TIMEOUT_SECONDS = 120;
+  static final int DEFAULT_BUFFER_SIZE = 8192;
+  static final int DEFAULT_CONNECTION_TIMEOUT_SECONDS = 10;
+  static final int DEFAULT_COMPLETE_REQUEST_TIMEOUT_SECONDS = 120;
   private static final String TAR_PATH_DELIMITER = "/";
 
   private PodUpload() {
@@ -145,7 +145,7 @@ public class PodUpload {
     }
   }
 
-  private static void addFileToTar(String rootTarPath, File file, TarArchiveOutputStream tar)
+  static void addFileToTar(String rootTarPath, File file, TarArchiveOutputStream tar)
     throws IOException {
 
     final String fileName =
@@ -162,7 +162,7 @@ public class PodUpload {
     }
   }
 
-  private static PodUploadWebSocketListener initWebSocket(URL url, OkHttpClient client) {
+  static PodUploadWebSocketListener initWebSocket(URL url, OkHttpClient client) {
     final PodUploadWebSocketListener podUploadWebSocketListener = new PodUploadWebSocketListener();
     final Request.Builder request = new Request.Builder().url(url)
       .header("Sec-WebSocket-Protocol", "v4.channel.k8s.io").get();
@@ -171,7 +171,7 @@ public class PodUpload {
     return podUploadWebSocketListener;
   }
 
-  private static URL buildCommandUrl(String command, PodOperationContext context, OperationSupport operationSupport)
+  static URL buildCommandUrl(String command, PodOperationContext context, OperationSupport operationSupport)
     throws UnsupportedEncodingException, MalformedURLException {
 
     final StringBuilder commandBuilder = new StringBuilder();
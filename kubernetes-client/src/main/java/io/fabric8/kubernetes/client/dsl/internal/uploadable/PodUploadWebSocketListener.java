@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
 import okio.ByteString;
 
 import java.io.IOException;
@@ -111,12 +112,13 @@ public class PodUploadWebSocketListener extends WebSocketListener {
   }
 
   final void send(byte[] data, int length) {
+    send(data, 0, length);
+  }
+
+  final void send(byte[] data, int offset, int length) {
     checkError();
     waitForQueue(length);
-    byte[] toSend = new byte[length + 1];
-    toSend[0] = FLAG_STDIN;
-    System.arraycopy(data, 0, toSend, 1, length);
-    webSocketRef.get().send(ByteString.of(toSend));
+    webSocketRef.get().send(new Buffer().writeByte(FLAG_STDIN).write(data, offset, length).readByteString());
   }
 
   final void waitForQueue(int length) {
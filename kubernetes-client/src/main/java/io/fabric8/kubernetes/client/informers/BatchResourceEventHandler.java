@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import java.util.List;
+
+/**
+ * BatchResourceEventHandler receives the notifications for events that happen to
+ * resources in batches rather than one at a time, which is cheaper for handlers that
+ * forward them to an external system.
+ *
+ * Within a batch the events are coalesced per object key so that only the latest state
+ * of each object is delivered, see {@link ResourceEvent}.
+ *
+ * @param <T> resource
+ */
+@FunctionalInterface
+public interface BatchResourceEventHandler<T> {
+
+  /**
+   * Called with a batch of events, each of them for a different object.
+   *
+   * @param events the events, ordered by the first notification received for each object
+   */
+  void onEvents(List<ResourceEvent<T>> events);
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Metrics of the notification queue of an event handler registered with a {@link SharedIndexInformer}.
+ */
+public interface EventHandlerMetrics {
+
+  /**
+   * @return the event handler, either a {@link ResourceEventHandler} or a {@link BatchResourceEventHandler}
+   */
+  Object getHandler();
+
+  /**
+   * @return the number of notifications waiting to be handled
+   */
+  int getQueueSize();
+
+  /**
+   * @return the capacity of the queue, 0 if it is unbounded
+   */
+  int getQueueCapacity();
+
+  /**
+   * @return the time elapsed since the oldest notification waiting to be handled was created, 0 if there is none
+   */
+  long getLagMillis();
+
+  /**
+   * @return the number of notifications dropped because the queue was full
+   */
+  long getDroppedNotifications();
+
+  /**
+   * @return the number of notifications coalesced with newer ones because the queue was full
+   */
+  long getCoalescedNotifications();
+}
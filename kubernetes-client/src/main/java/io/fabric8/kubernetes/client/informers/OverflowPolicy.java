@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * What to do with a notification for an event handler whose bounded queue is full,
+ * see {@link SharedIndexInformer#addEventHandlerWithQueueCapacity(ResourceEventHandler, long, int, OverflowPolicy)}.
+ */
+public enum OverflowPolicy {
+  /**
+   * Block the informer until the handler catches up, which delays the notifications of all
+   * the other handlers of the informer as well.
+   * <p>
+   * The informer blocks while holding the lock of its queue of pending deltas, so the watch can't
+   * queue new events meanwhile. When the handlers run on a shared scheduler and none of its threads
+   * is handling the notifications of this handler, the blocked informer thread invokes the handler
+   * itself, still holding that lock: such a handler must not wait for the informer (e.g. for it to
+   * have synced or to deliver another notification).
+   */
+  BLOCK,
+
+  /**
+   * Coalesce the queued notifications by object key so that only the latest state of each
+   * object is kept, and block if the queue is still full afterwards.
+   */
+  COALESCE,
+
+  /**
+   * Drop the notification and resync the handler with the informer cache at the next resync
+   * period. Dropped deletions are not redelivered, so the informer must have a resync period
+   * and the handler must only rely on the latest state of the objects.
+   */
+  DROP_AND_RESYNC
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * An event delivered to a {@link BatchResourceEventHandler}, resulting from the coalescing
+ * of all the notifications received for the same object while the batch was collected:
+ * <ul>
+ *   <li>an addition followed by updates is an {@link EventType#ADDITION} of the latest state</li>
+ *   <li>consecutive updates are a single {@link EventType#UPDATION} from the first old state
+ *   to the latest state</li>
+ *   <li>otherwise the latest event wins, e.g. anything followed by a deletion is a {@link EventType#DELETION}</li>
+ * </ul>
+ *
+ * @param <T> resource
+ */
+public class ResourceEvent<T> {
+  private final EventType type;
+  private final T oldObject;
+  private final T newObject;
+  private final boolean deletedFinalStateUnknown;
+
+  public ResourceEvent(EventType type, T oldObject, T newObject, boolean deletedFinalStateUnknown) {
+    this.type = type;
+    this.oldObject = oldObject;
+    this.newObject = newObject;
+    this.deletedFinalStateUnknown = deletedFinalStateUnknown;
+  }
+
+  public EventType getType() {
+    return type;
+  }
+
+  /**
+   * The last known state of the object for updates and deletions, null for additions.
+   *
+   * @return the old object
+   */
+  public T getOldObject() {
+    return oldObject;
+  }
+
+  /**
+   * The new state of the object for additions and updates, null for deletions.
+   *
+   * @return the new object
+   */
+  public T getNewObject() {
+    return newObject;
+  }
+
+  /**
+   * For deletions, whether the deletion was noticed by a re-list rather than watched,
+   * in which case the old object might be stale.
+   *
+   * @return true if the final state of the deleted object is unknown
+   */
+  public boolean isDeletedFinalStateUnknown() {
+    return deletedFinalStateUnknown;
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceEvent{type=" + type + ", oldObject=" + oldObject + ", newObject=" + newObject
+      + ", deletedFinalStateUnknown=" + deletedFinalStateUnknown + "}";
+  }
+}
@@ -33,6 +33,37 @@ public interface SharedIndexInformer<T> extends SharedInformer<T> {
    */
   void addIndexers(Map<String, Function<T, List<String>>> indexers);
 
+  /**
+   * Adds an event handler receiving the events in batches, as an opt-in alternative to
+   * {@link #addEventHandler(ResourceEventHandler)} for handlers that are cheaper to invoke
+   * once for many objects. The events of a batch are coalesced so that only the latest
+   * state of each object is delivered.
+   *
+   * @param handler the batch event handler
+   * @param maxBatchSize maximum number of objects in a batch
+   * @param maxBatchDelayMillis maximum time to wait for a batch to fill up after its first event
+   */
+  void addBatchEventHandler(BatchResourceEventHandler<T> handler, int maxBatchSize, long maxBatchDelayMillis);
+
+  /**
+   * Adds an event handler with a bounded notification queue, so that a handler falling behind
+   * can't exhaust the memory.
+   *
+   * @param handler the event handler
+   * @param resyncPeriod the specific resync period
+   * @param queueCapacity maximum number of notifications waiting to be handled
+   * @param overflowPolicy what to do with the notifications for the handler while its queue is full
+   */
+  void addEventHandlerWithQueueCapacity(ResourceEventHandler<T> handler, long resyncPeriod, int queueCapacity, OverflowPolicy overflowPolicy);
+
+  /**
+   * Returns a snapshot of the metrics of the notification queues of the registered event handlers,
+   * taken when this method is invoked.
+   *
+   * @return the metrics of each event handler
+   */
+  List<EventHandlerMetrics> getEventHandlerMetrics();
+
   /**
    * returns the internal indexer store.
    *
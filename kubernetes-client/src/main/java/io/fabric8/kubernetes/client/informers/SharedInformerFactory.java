@@ -19,7 +19,13 @@ import static io.fabric8.kubernetes.client.utils.KubernetesResourceUtil.inferLis
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.CustomResource;
@@ -29,16 +35,26 @@ import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ConcurrentCache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BinaryOperator;
 import okhttp3.OkHttpClient;
 
 /**
@@ -48,6 +64,9 @@ import okhttp3.OkHttpClient;
  * which is ported from offical go client https://github.com/kubernetes/client-go/blob/master/informers/factory.go
  */
 public class SharedInformerFactory extends BaseOperation {
+  // Distinguishes the metadata only informers from the informers for the full resources of the same type
+  private static final String METADATA_KEY_SUFFIX = "/metadata";
+
   private final Map<String, SharedIndexInformer> informers = new HashMap<>();
 
   private final Map<String, Future> startedInformers = new HashMap<>();
@@ -58,6 +77,24 @@ public class SharedInformerFactory extends BaseOperation {
 
   private final ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners = new ConcurrentLinkedQueue<>();
 
+  private Long limit;
+
+  private ScheduledExecutorService scheduler;
+
+  private boolean concurrentCache;
+
+  private final Map<String, String> labels = new LinkedHashMap<>();
+
+  private final Map<String, String[]> labelsNot = new LinkedHashMap<>();
+
+  private final Map<String, String[]> labelsIn = new LinkedHashMap<>();
+
+  private final Map<String, String[]> labelsNotIn = new LinkedHashMap<>();
+
+  private final Map<String, String> fields = new LinkedHashMap<>();
+
+  private final Map<String, String[]> fieldsNot = new LinkedHashMap<>();
+
   /**
    * Constructor with thread pool specified.
    *
@@ -74,7 +111,8 @@ public class SharedInformerFactory extends BaseOperation {
   }
 
   /**
-   * Configure Namespace for {@link SharedInformerFactory}
+   * Configure Namespace for {@link SharedInformerFactory}, it applies to all the informers created afterwards
+   * by this factory.
    *
    * @param namespace namespace to configure
    * @return {@link SharedInformerFactory} with namespace configured
@@ -97,6 +135,281 @@ public class SharedInformerFactory extends BaseOperation {
     return this;
   }
 
+  /**
+   * Configure the labels the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must have. The label selector is applied by the server when listing and watching, so only the matching
+   * resources are cached.
+   *
+   * Like the namespace, the label and field selectors apply to all the informers created afterwards by this
+   * factory. Informers for the same type with different selectors can coexist, a selector for a label key
+   * already configured replaces the previous one.
+   *
+   * @param labels labels to be matched
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabels(Map labels) {
+    this.labels.putAll(labels);
+    return this;
+  }
+
+  /**
+   * Configure a label the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must have, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @param value label value
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabel(String key, String value) {
+    this.labels.put(key, value);
+    return this;
+  }
+
+  /**
+   * Configure a label the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must have, whatever its value, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabel(String key) {
+    return withLabel(key, null);
+  }
+
+  /**
+   * Configure the labels of the resources watched by the informers created by this {@link SharedInformerFactory}
+   * from a {@link LabelSelector}, see {@link #withLabels(Map)}.
+   *
+   * @param selector label selector to be matched
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabelSelector(LabelSelector selector) {
+    Map<String, String> matchLabels = selector.getMatchLabels();
+    if (matchLabels != null) {
+      this.labels.putAll(matchLabels);
+    }
+    List<LabelSelectorRequirement> matchExpressions = selector.getMatchExpressions();
+    if (matchExpressions != null) {
+      for (LabelSelectorRequirement req : matchExpressions) {
+        String key = req.getKey();
+        switch (req.getOperator()) {
+          case "In":
+            withLabelIn(key, req.getValues().toArray(new String[]{}));
+            break;
+          case "NotIn":
+            withLabelNotIn(key, req.getValues().toArray(new String[]{}));
+            break;
+          case "DoesNotExist":
+            withoutLabel(key);
+            break;
+          case "Exists":
+            withLabel(key);
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported operator: " + req.getOperator());
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Configure the values one of which a label of the resources watched by the informers created by this
+   * {@link SharedInformerFactory} must have, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @param values label values
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabelIn(String key, String... values) {
+    this.labelsIn.put(key, values);
+    return this;
+  }
+
+  /**
+   * Configure the values a label of the resources watched by the informers created by this
+   * {@link SharedInformerFactory} must not have, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @param values label values
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withLabelNotIn(String key, String... values) {
+    this.labelsNotIn.put(key, values);
+    return this;
+  }
+
+  /**
+   * Configure a label value the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must not have, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @param value label value, null for resources without the label
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withoutLabel(String key, String value) {
+    this.labelsNot.merge(key, new String[]{value}, SharedInformerFactory::concat);
+    return this;
+  }
+
+  /**
+   * Configure a label the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must not have, see {@link #withLabels(Map)}.
+   *
+   * @param key label key
+   * @return {@link SharedInformerFactory} with label selector configured
+   */
+  @Override
+  public SharedInformerFactory withoutLabel(String key) {
+    return withoutLabel(key, null);
+  }
+
+  /**
+   * @deprecated use {@link #withoutLabel(String, String)} for each label, like
+   *    {@link BaseOperation#withoutLabels(Map)}.
+   */
+  @Override
+  @Deprecated
+  public SharedInformerFactory withoutLabels(Map labels) {
+    ((Map<String, String>) labels).forEach(this::withoutLabel);
+    return this;
+  }
+
+  /**
+   * Configure the field values the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must have. The field selector is applied by the server when listing and watching, so only the matching
+   * resources are cached, see {@link #withLabels(Map)}.
+   *
+   * @param fields fields to be matched
+   * @return {@link SharedInformerFactory} with field selector configured
+   */
+  @Override
+  public SharedInformerFactory withFields(Map fields) {
+    this.fields.putAll(fields);
+    return this;
+  }
+
+  /**
+   * Configure a field value the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must have, see {@link #withFields(Map)}.
+   *
+   * @param key field key
+   * @param value field value
+   * @return {@link SharedInformerFactory} with field selector configured
+   */
+  @Override
+  public SharedInformerFactory withField(String key, String value) {
+    this.fields.put(key, value);
+    return this;
+  }
+
+  /**
+   * Configure a field value the resources watched by the informers created by this {@link SharedInformerFactory}
+   * must not have, see {@link #withFields(Map)}.
+   *
+   * @param key field key
+   * @param value field value
+   * @return {@link SharedInformerFactory} with field selector configured
+   */
+  @Override
+  public SharedInformerFactory withoutField(String key, String value) {
+    if (Utils.isNotNullOrEmpty(value)) {
+      this.fieldsNot.merge(key, new String[]{value}, SharedInformerFactory::concat);
+    }
+    return this;
+  }
+
+  /**
+   * @deprecated use {@link #withoutField(String, String)} for each field, like
+   *    {@link BaseOperation#withoutFields(Map)}.
+   */
+  @Override
+  @Deprecated
+  public SharedInformerFactory withoutFields(Map fields) {
+    ((Map<String, String>) fields).forEach(this::withoutField);
+    return this;
+  }
+
+  /**
+   * Configure the object the events watched by the informers created by this {@link SharedInformerFactory}
+   * must be about, see {@link #withFields(Map)}.
+   *
+   * @param objectReference reference to the involved object
+   * @return {@link SharedInformerFactory} with field selector configured
+   */
+  @Override
+  public SharedInformerFactory withInvolvedObject(ObjectReference objectReference) {
+    if (objectReference != null) {
+      putField("involvedObject.name", objectReference.getName());
+      putField("involvedObject.namespace", objectReference.getNamespace());
+      putField("involvedObject.kind", objectReference.getKind());
+      putField("involvedObject.uid", objectReference.getUid());
+      putField("involvedObject.resourceVersion", objectReference.getResourceVersion());
+      putField("involvedObject.apiVersion", objectReference.getApiVersion());
+      putField("involvedObject.fieldPath", objectReference.getFieldPath());
+    }
+    return this;
+  }
+
+  private void putField(String key, String value) {
+    if (value != null) {
+      this.fields.put(key, value);
+    }
+  }
+
+  private static String[] concat(String[] values, String[] newValues) {
+    String[] concatenated = Arrays.copyOf(values, values.length + newValues.length);
+    System.arraycopy(newValues, 0, concatenated, values.length, newValues.length);
+    return concatenated;
+  }
+
+  /**
+   * Configure the chunk size used by the informers created by this {@link SharedInformerFactory}
+   * when listing resources. Resources are then listed page by page, keeping each response small, and
+   * handed over to the informer cache once all the pages have been fetched.
+   *
+   * @param limit maximum number of items per list request, null to list everything at once
+   * @return {@link SharedInformerFactory} with list limit configured
+   */
+  public SharedInformerFactory withLimit(Long limit) {
+    this.limit = limit;
+    return this;
+  }
+
+  /**
+   * Configure a scheduler shared by the informers created by this {@link SharedInformerFactory}.
+   * Their controllers, resyncs, event handler notifications and watch reconnects then run as short tasks
+   * on this scheduler, instead of each informer starting its own threads. The scheduler is not shut down
+   * when informers are stopped, it's up to the caller to do so.
+   *
+   * @param scheduler shared scheduler, null to use dedicated threads per informer
+   * @return {@link SharedInformerFactory} with shared scheduler configured
+   */
+  public SharedInformerFactory withScheduler(ScheduledExecutorService scheduler) {
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  /**
+   * Configure the informers created by this {@link SharedInformerFactory} to store their resources in a
+   * {@link ConcurrentCache}, whose reads don't contend with the informer updates, instead of the default
+   * {@link Cache}. Worth it when many threads read the informer caches while they are updated.
+   *
+   * @param concurrentCache true to use a {@link ConcurrentCache}, false for the default {@link Cache}
+   * @return {@link SharedInformerFactory} with the cache implementation configured
+   */
+  public SharedInformerFactory withConcurrentCache(boolean concurrentCache) {
+    this.concurrentCache = concurrentCache;
+    return this;
+  }
+
   /**
    * Constructs and returns a shared index informer with resync period specified. And the
    * informer cache will be overwritten.
@@ -213,6 +526,42 @@ public class SharedInformerFactory extends BaseOperation {
    */
   private synchronized <T extends HasMetadata, L extends KubernetesResourceList<T>> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass, Class<L> apiListTypeClass, OperationContext operationContext, long resyncPeriodInMillis) {
     ListerWatcher<T, L> listerWatcher = listerWatcherFor(apiTypeClass, apiListTypeClass);
+    OperationContext context = informerContextFor(apiTypeClass, operationContext);
+    SharedIndexInformer<T> informer = new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, context, eventListeners, limit, scheduler, newIndexer());
+    this.informers.put(getInformerKey(context), informer);
+    return informer;
+  }
+
+  /**
+   * Constructs and returns a shared index informer only caching the metadata of the resources of the
+   * given type, with resync period specified. The server only sends the metadata of the resources,
+   * which are deserialized and cached as {@link PartialObjectMetadata}, saving memory and CPU for large
+   * collections when only names, labels, owner references or resource versions are needed.
+   *
+   * <b>Note:</b>It watches for events in <b>ALL NAMESPACES</b>.
+   *
+   * @param apiTypeClass apiType class of the resources whose metadata is cached
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @param <T> the type parameter (should extend {@link io.fabric8.kubernetes.api.model.HasMetadata} and implement {@link io.fabric8.kubernetes.api.model.Namespaced}) if Namespace scoped resource
+   * @return the shared index informer
+   */
+  public synchronized <T extends HasMetadata> SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(Class<T> apiTypeClass, long resyncPeriodInMillis) {
+    ListerWatcher<PartialObjectMetadata, PartialObjectMetadataList> listerWatcher = listerWatcherFor(PartialObjectMetadata.class, PartialObjectMetadataList.class);
+    OperationContext context = informerContextFor(apiTypeClass, null);
+    if (!Utils.isResourceNamespaced(apiTypeClass)) {
+      // PartialObjectMetadata is namespaced, the namespace must not be part of the URL of cluster scoped resources
+      context = context.withNamespace(null).withIsNamespaceConfiguredFromGlobalConfig(false);
+    }
+    SharedIndexInformer<PartialObjectMetadata> informer = new DefaultSharedIndexInformer<>(PartialObjectMetadata.class, listerWatcher, resyncPeriodInMillis, context, eventListeners, limit, scheduler, newIndexer());
+    this.informers.put(getInformerKey(context) + METADATA_KEY_SUFFIX, informer);
+    return informer;
+  }
+
+  private <T> Indexer<T> newIndexer() {
+    return concurrentCache ? new ConcurrentCache<>() : new Cache<>();
+  }
+
+  private OperationContext informerContextFor(Class<? extends HasMetadata> apiTypeClass, OperationContext operationContext) {
     OperationContext context = this.context.withApiGroupName(HasMetadata.getGroup(apiTypeClass))
       .withApiGroupVersion(HasMetadata.getVersion(apiTypeClass))
       .withPlural(HasMetadata.getPlural(apiTypeClass))
@@ -220,8 +569,27 @@ public class SharedInformerFactory extends BaseOperation {
     if (this.namespace != null) {
       context = context.withNamespace(this.namespace).withIsNamespaceConfiguredFromGlobalConfig(false);
     }
+    Map<String, String> fieldSelector = new LinkedHashMap<>(this.fields);
     if (this.name != null) {
-      context = context.withFields(Collections.singletonMap("metadata.name", this.name));
+      fieldSelector.put("metadata.name", this.name);
+    }
+    if (!fieldSelector.isEmpty()) {
+      context = context.withFields(fieldSelector);
+    }
+    if (!this.labels.isEmpty()) {
+      context = context.withLabels(new LinkedHashMap<>(this.labels));
+    }
+    if (!this.labelsNot.isEmpty()) {
+      context = context.withLabelsNot(new LinkedHashMap<>(this.labelsNot));
+    }
+    if (!this.labelsIn.isEmpty()) {
+      context = context.withLabelsIn(new LinkedHashMap<>(this.labelsIn));
+    }
+    if (!this.labelsNotIn.isEmpty()) {
+      context = context.withLabelsNotIn(new LinkedHashMap<>(this.labelsNotIn));
+    }
+    if (!this.fieldsNot.isEmpty()) {
+      context = context.withFieldsNot(new LinkedHashMap<>(this.fieldsNot));
     }
     if (operationContext != null) {
       context = context.withOperationContext(operationContext);
@@ -230,9 +598,7 @@ public class SharedInformerFactory extends BaseOperation {
         context = context.withIsNamespaceConfiguredFromGlobalConfig(false);
       }
     }
-    SharedIndexInformer<T> informer = new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, context, eventListeners);
-    this.informers.put(getInformerKey(context), informer);
-    return informer;
+    return context;
   }
 
   private <T extends HasMetadata, L extends KubernetesResourceList<T>> ListerWatcher<T, L> listerWatcherFor(Class<T> apiTypeClass, Class<L> apiListTypeClass) {
@@ -242,14 +608,20 @@ public class SharedInformerFactory extends BaseOperation {
       public L list(ListOptions params, String namespace, OperationContext context) {
         BaseOperation<T, L, ?> listBaseOperation = getConfiguredBaseOperation(namespace, context, apiTypeClass, apiListTypeClass);
         registerKindToKubernetesDeserializer(apiTypeClass);
-        return listBaseOperation.list();
+        return listBaseOperation.list(new ListOptionsBuilder()
+          .withLimit(params.getLimit())
+          .withContinue(params.getContinue())
+          .build());
       }
 
       @Override
       public Watch watch(ListOptions params, String namespace, OperationContext context, Watcher<T> resourceWatcher) {
         BaseOperation<T, L, ?> watchBaseOperation = getConfiguredBaseOperation(namespace, context, apiTypeClass, apiListTypeClass);
         registerKindToKubernetesDeserializer(apiTypeClass);
-        return watchBaseOperation.watch(params.getResourceVersion(), resourceWatcher);
+        return watchBaseOperation.watch(new ListOptionsBuilder()
+          .withResourceVersion(params.getResourceVersion())
+          .withAllowWatchBookmarks(params.getAllowWatchBookmarks())
+          .build(), resourceWatcher, scheduler);
       }
     };
   }
@@ -273,6 +645,24 @@ public class SharedInformerFactory extends BaseOperation {
     return foundSharedIndexInformer;
   }
 
+  /**
+   * Gets all the existing shared index informers for the given type, which might differ
+   * by namespace, name, label or field selector.
+   *
+   * @param apiTypeClass API type class
+   * @param <T> type of API type
+   * @return SharedIndexInformer objects, empty if none was constructed
+   */
+  public synchronized <T> List<SharedIndexInformer<T>> getExistingSharedIndexInformers(Class<T> apiTypeClass) {
+    List<SharedIndexInformer<T>> foundSharedIndexInformers = new ArrayList<>();
+    for (Map.Entry<String, SharedIndexInformer> entry : this.informers.entrySet()) {
+      if (isKeyOfType(entry.getKey(), apiTypeClass)) {
+        foundSharedIndexInformers.add((SharedIndexInformer<T>) entry.getValue());
+      }
+    }
+    return foundSharedIndexInformers;
+  }
+
   /**
    * Starts all registered informers.
    */
@@ -333,10 +723,47 @@ public class SharedInformerFactory extends BaseOperation {
     keyBuilder.append(getKeyStrForField(operationContext.getPlural()));
     keyBuilder.append(getKeyStrForField(operationContext.getNamespace()));
     keyBuilder.append(getKeyStrForField(operationContext.getName()));
+    List<String> labelRequirements = new ArrayList<>();
+    addRequirements(labelRequirements, operationContext.getLabels());
+    addRequirements(labelRequirements, operationContext.getLabelsNot(), (key, value) -> value == null ? "!" + key : key + "!=" + value);
+    addSetRequirements(labelRequirements, operationContext.getLabelsIn(), " in ");
+    addSetRequirements(labelRequirements, operationContext.getLabelsNotIn(), " notin ");
+    keyBuilder.append(getKeyStrForSelector("labels", labelRequirements));
+    List<String> fieldRequirements = new ArrayList<>();
+    addRequirements(fieldRequirements, operationContext.getFields());
+    addRequirements(fieldRequirements, operationContext.getFieldsNot(), (key, value) -> key + "!=" + value);
+    keyBuilder.append(getKeyStrForSelector("fields", fieldRequirements));
 
     return keyBuilder.toString();
   }
 
+  private static void addRequirements(List<String> requirements, Map<String, String> selector) {
+    if (selector != null) {
+      selector.forEach((key, value) -> requirements.add(value == null ? key : key + "=" + value));
+    }
+  }
+
+  private static void addRequirements(List<String> requirements, Map<String, String[]> selector, BinaryOperator<String> requirement) {
+    if (selector != null) {
+      selector.forEach((key, values) -> Arrays.stream(values).forEach(value -> requirements.add(requirement.apply(key, value))));
+    }
+  }
+
+  private static void addSetRequirements(List<String> requirements, Map<String, String[]> selector, String operator) {
+    if (selector != null) {
+      selector.forEach((key, values) -> requirements.add(key + operator + "(" + String.join(",", new TreeSet<>(Arrays.asList(values))) + ")"));
+    }
+  }
+
+  private static String getKeyStrForSelector(String selectorType, List<String> requirements) {
+    if (requirements.isEmpty()) {
+      return "";
+    }
+    // sorted, so that the same selector always results in the same key
+    Collections.sort(requirements);
+    return "/" + selectorType + ":" + String.join(",", requirements);
+  }
+
   private static String getKeyStrForField(String str) {
     StringBuilder keyBuilder = new StringBuilder();
     if (Utils.isNotNullOrEmpty(str)) {
@@ -347,8 +774,11 @@ public class SharedInformerFactory extends BaseOperation {
   }
 
   private static <T> boolean isKeyOfType(String key, Class<T> apiTypeClass) {
+    if (PartialObjectMetadata.class.equals(apiTypeClass)) {
+      return key.endsWith(METADATA_KEY_SUFFIX);
+    }
     String plural = HasMetadata.getPlural(apiTypeClass);
-    return key.contains(plural);
+    return key.contains(plural) && !key.endsWith(METADATA_KEY_SUFFIX);
   }
 
     private <T extends HasMetadata, L extends KubernetesResourceList<T>> BaseOperation<T, L, ?> getConfiguredBaseOperation(String namespace, OperationContext context, Class<T> apiTypeClass, Class<L> apiListTypeClass) {
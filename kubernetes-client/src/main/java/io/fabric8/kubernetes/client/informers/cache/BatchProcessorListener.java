@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.client.informers.BatchResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.EventType;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
+import io.fabric8.kubernetes.client.informers.ResourceEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * BatchProcessorListener is a {@link ProcessorListener} which delivers the notifications to a
+ * {@link BatchResourceEventHandler} in batches of at most maxBatchSize objects.
+ *
+ * A batch is delivered once it is full or maxBatchDelayMillis after its first notification was received,
+ * whichever comes first. When started on a (shared) executor with {@link #start(Executor)} the drain task
+ * is scheduled after the remaining delay instead of waiting on the executor, and run right away once the
+ * batch is full.
+ *
+ * The notifications of a batch are coalesced by object key so that only the latest state of each
+ * object is delivered.
+ *
+ * @param <T> type of BatchProcessorListener
+ */
+public class BatchProcessorListener<T> extends ProcessorListener<T> {
+  private static final Logger log = LoggerFactory.getLogger(BatchProcessorListener.class);
+
+  private final BatchResourceEventHandler<T> batchHandler;
+  private final int maxBatchSize;
+  private final long maxBatchDelayMillis;
+  /**
+   * When the pending batch is delivered at the latest, null when no batch is pending
+   */
+  private volatile Long batchDeadline;
+
+  public BatchProcessorListener(BatchResourceEventHandler<T> batchHandler, Function<T, String> keyFunc, int maxBatchSize, long maxBatchDelayMillis, long resyncPeriodInMillis) {
+    super(null, resyncPeriodInMillis, 0, OverflowPolicy.BLOCK, keyFunc);
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Invalid batch size provided, It should be a positive value");
+    }
+    if (maxBatchDelayMillis < 0) {
+      throw new IllegalArgumentException("Invalid batch delay provided, It should be a non-negative value");
+    }
+    this.batchHandler = batchHandler;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchDelayMillis = maxBatchDelayMillis;
+  }
+
+  @Override
+  public Object getHandler() {
+    return batchHandler;
+  }
+
+  @Override
+  public void run() {
+    while (true) {
+      try {
+        List<Notification<T>> batch = new ArrayList<>();
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBatchDelayMillis);
+        while (batch.size() < maxBatchSize) {
+          Notification<T> notification = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (notification == null) {
+            break;
+          }
+          batch.add(notification);
+        }
+        handleBatch(batch);
+      } catch (InterruptedException ex) {
+        log.warn("Processor thread interrupted: {}", ex.getMessage());
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void add(Notification<T> obj) {
+    super.add(obj);
+    if (queue.size() >= maxBatchSize) {
+      expediteDrain();
+    }
+  }
+
+  @Override
+  long drainDelayNanos() {
+    if (maxBatchDelayMillis == 0 || queue.size() >= maxBatchSize) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    Long deadline = batchDeadline;
+    if (deadline == null) {
+      deadline = now + TimeUnit.MILLISECONDS.toNanos(maxBatchDelayMillis);
+      batchDeadline = deadline;
+    }
+    return Math.max(0, deadline - now);
+  }
+
+  @Override
+  void drainQueue() {
+    if (!isStarted()) {
+      return;
+    }
+    List<Notification<T>> batch = new ArrayList<>();
+    queue.drainTo(batch, maxBatchSize);
+    batchDeadline = null;
+    if (!batch.isEmpty()) {
+      handleBatch(batch);
+    }
+  }
+
+  private void handleBatch(List<Notification<T>> notifications) {
+    Map<String, Notification<T>> coalesced = new LinkedHashMap<>();
+    for (Notification<T> notification : notifications) {
+      coalesced.merge(keyOf(notification), notification, ProcessorListener::combine);
+    }
+    List<ResourceEvent<T>> events = new ArrayList<>(coalesced.size());
+    for (Notification<T> notification : coalesced.values()) {
+      events.add(toEvent(notification));
+    }
+    try {
+      batchHandler.onEvents(events);
+    } catch (Exception ex) {
+      log.error("Failed invoking {} batch event handler: {}", batchHandler, ex.getMessage(), ex);
+    }
+  }
+
+  private static <T> ResourceEvent<T> toEvent(Notification<T> notification) {
+    if (notification instanceof AddNotification) {
+      return new ResourceEvent<>(EventType.ADDITION, null, notification.getNewObject(), false);
+    }
+    if (notification instanceof UpdateNotification) {
+      return new ResourceEvent<>(EventType.UPDATION, notification.getOldObject(), notification.getNewObject(), false);
+    }
+    Object oldObject = notification.getOldObject();
+    if (oldObject instanceof DeltaFIFO.DeletedFinalStateUnknown) {
+      return new ResourceEvent<>(EventType.DELETION, ((DeltaFIFO.DeletedFinalStateUnknown<T>) oldObject).getObj(), null, true);
+    }
+    return new ResourceEvent<>(EventType.DELETION, notification.getOldObject(), null, false);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.utils.ReflectUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -24,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -131,6 +133,10 @@ public class Cache<T> implements Indexer<T> {
   /**
    * Replace the content in the cache completely.
    *
+   * Only the differences with the current content are applied: objects no longer present are removed,
+   * and only objects which are new or whose resource version changed are reindexed, so that the cost
+   * is proportional to the churn rather than to the size of the cache.
+   *
    * @param list list of objects
    * @param resourceVersion resource version
    */
@@ -141,12 +147,20 @@ public class Cache<T> implements Indexer<T> {
       String key = keyFunc.apply(item);
       newItems.put(key, item);
     }
-    this.items = newItems;
 
-    // rebuild any index
-    this.indices = new HashMap<>();
-    for (Map.Entry<String, T> itemEntry : items.entrySet()) {
-      this.updateIndices(null, itemEntry.getValue(), itemEntry.getKey());
+    for (Iterator<Map.Entry<String, T>> it = this.items.entrySet().iterator(); it.hasNext();) {
+      Map.Entry<String, T> itemEntry = it.next();
+      if (!newItems.containsKey(itemEntry.getKey())) {
+        this.deleteFromIndices(itemEntry.getValue(), itemEntry.getKey());
+        it.remove();
+      }
+    }
+
+    for (Map.Entry<String, T> itemEntry : newItems.entrySet()) {
+      T oldObj = this.items.put(itemEntry.getKey(), itemEntry.getValue());
+      if (!isSameResourceVersion(oldObj, itemEntry.getValue())) {
+        this.updateIndices(oldObj, itemEntry.getValue(), itemEntry.getKey());
+      }
     }
   }
 
@@ -364,6 +378,26 @@ public class Cache<T> implements Indexer<T> {
     this.indexers.put(indexName, indexFunc);
   }
 
+  /**
+   * Checks whether both objects have the same, non empty, resource version, in which case
+   * they're the same version of the resource and their indices are the same too.
+   *
+   * @param oldObj the cached object, may be null
+   * @param newObj the new object
+   * @return true if the cached object doesn't need to be reindexed
+   */
+  static boolean isSameResourceVersion(Object oldObj, Object newObj) {
+    if (!(oldObj instanceof HasMetadata) || !(newObj instanceof HasMetadata)) {
+      return false;
+    }
+    ObjectMeta oldMetadata = ((HasMetadata) oldObj).getMetadata();
+    ObjectMeta newMetadata = ((HasMetadata) newObj).getMetadata();
+    if (oldMetadata == null || newMetadata == null || Utils.isNullOrEmpty(oldMetadata.getResourceVersion())) {
+      return false;
+    }
+    return oldMetadata.getResourceVersion().equals(newMetadata.getResourceVersion());
+  }
+
   /**
    * Checks for DeletedFinalStateUnknown objects before calling metaNamespaceKeyFunc
    *
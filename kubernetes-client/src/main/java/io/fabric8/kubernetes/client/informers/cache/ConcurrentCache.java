@@ -0,0 +1,370 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Saves and indexes all the entries like {@link Cache}, but backed by concurrent maps so that
+ * reads never block behind writes.
+ *
+ * Writes are serialized with each other, reads don't take any lock. A read running concurrently
+ * with a write sees the state either before or after the modification of each single entry, including
+ * while {@link #replace(List, String)} applies its changes entry by entry. As for any iteration
+ * over concurrent maps, listing is weakly consistent: an object deleted and added again while
+ * the list is being built may show up twice.
+ *
+ * Updates that don't change the values returned by the index functions leave the indices untouched.
+ *
+ * @param <T> type for cache object
+ */
+public class ConcurrentCache<T> implements Indexer<T> {
+  // Concurrent maps don't support null keys, null index values (e.g. the namespace of cluster scoped objects) are stored under this one
+  private static final String NULL_INDEX_VALUE = "\u0000";
+
+  // Defines how to map objects into indices
+  private final Function<T, String> keyFunc;
+
+  // indexers stores index functions by their names
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
+
+  // items stores object instances
+  private final Map<String, T> items = new ConcurrentHashMap<>();
+
+  // indices stores objects' key by their indices
+  private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
+
+  public ConcurrentCache() {
+    this(Cache.NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::deletionHandlingMetaNamespaceKeyFunc);
+  }
+
+  public ConcurrentCache(String indexName, Function<T, List<String>> indexFunc, Function<T, String> keyFunc) {
+    this.keyFunc = keyFunc;
+    addIndexFunc(indexName, indexFunc);
+  }
+
+  /**
+   * Add objects
+   *
+   * @param obj object
+   */
+  @Override
+  public synchronized void add(T obj) {
+    String key = keyFunc.apply(obj);
+    T oldObj = this.items.put(key, obj);
+    this.updateIndices(oldObj, obj, key);
+  }
+
+  /**
+   * Returns the indexers registered with the cache.
+   *
+   * @return registered indexers
+   */
+  @Override
+  public Map<String, Function<T, List<String>>> getIndexers() {
+    return Collections.unmodifiableMap(indexers);
+  }
+
+  @Override
+  public synchronized void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
+    if (!items.isEmpty()) {
+      throw new IllegalStateException("Cannot add indexers to a Cache which is not empty");
+    }
+
+    Set<String> intersection = new HashSet<>(indexers.keySet());
+    intersection.retainAll(indexersNew.keySet());
+    if (!intersection.isEmpty()) {
+      throw new IllegalArgumentException("Indexer conflict: " + intersection);
+    }
+
+    for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexersNew.entrySet()) {
+      addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
+    }
+  }
+
+  /**
+   * Update the object.
+   *
+   * @param obj the object
+   */
+  @Override
+  public synchronized void update(T obj) {
+    add(obj);
+  }
+
+  /**
+   * Delete the object.
+   *
+   * @param obj object
+   */
+  @Override
+  public synchronized void delete(T obj) {
+    String key = keyFunc.apply(obj);
+    T oldObj = this.items.remove(key);
+    if (oldObj != null) {
+      this.deleteFromIndices(oldObj, key);
+    }
+  }
+
+  /**
+   * Replace the content in the cache completely.
+   *
+   * Only the differences with the current content are applied: objects no longer present are removed,
+   * and only objects which are new or whose resource version changed are reindexed, so that the cost
+   * is proportional to the churn rather than to the size of the cache.
+   *
+   * @param list list of objects
+   * @param resourceVersion resource version
+   */
+  @Override
+  public synchronized void replace(List<T> list, String resourceVersion) {
+    Map<String, T> newItems = new HashMap<>();
+    for (T item : list) {
+      newItems.put(keyFunc.apply(item), item);
+    }
+
+    for (Map.Entry<String, T> itemEntry : this.items.entrySet()) {
+      if (!newItems.containsKey(itemEntry.getKey())) {
+        this.items.remove(itemEntry.getKey());
+        this.deleteFromIndices(itemEntry.getValue(), itemEntry.getKey());
+      }
+    }
+
+    for (Map.Entry<String, T> itemEntry : newItems.entrySet()) {
+      T oldObj = this.items.put(itemEntry.getKey(), itemEntry.getValue());
+      if (!Cache.isSameResourceVersion(oldObj, itemEntry.getValue())) {
+        this.updateIndices(oldObj, itemEntry.getValue(), itemEntry.getKey());
+      }
+    }
+  }
+
+  /**
+   * Resync
+   */
+  @Override
+  public void resync() {
+    // Do nothing
+  }
+
+  /**
+   * List keys
+   *
+   * @return the list of keys
+   */
+  @Override
+  public List<String> listKeys() {
+    return new ArrayList<>(this.items.keySet());
+  }
+
+  /**
+   * Get object
+   *
+   * @param obj the object
+   * @return the object
+   */
+  @Override
+  public T get(T obj) {
+    String key = this.keyFunc.apply(obj);
+    return this.getByKey(key);
+  }
+
+  /**
+   * List all objects in the cache.
+   *
+   * @return the list
+   */
+  @Override
+  public List<T> list() {
+    return new ArrayList<>(this.items.values());
+  }
+
+  /**
+   * Gets get by key.
+   *
+   * @param key specific key
+   * @return the get by key
+   */
+  @Override
+  public T getByKey(String key) {
+    return this.items.get(key);
+  }
+
+  /**
+   * Get objects
+   *
+   * @param indexName specific indexing function
+   * @param obj object
+   * @return the list
+   */
+  @Override
+  public List<T> index(String indexName, Object obj) {
+    Function<T, List<String>> indexFunc = getIndexFunc(indexName);
+    List<String> indexKeys = indexFunc.apply((T) obj);
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    if (index == null || index.isEmpty() || indexKeys == null) {
+      return new ArrayList<>();
+    }
+
+    Set<String> returnKeySet = new HashSet<>();
+    for (String indexKey : indexKeys) {
+      Set<String> set = index.get(indexValueKey(indexKey));
+      if (set != null) {
+        returnKeySet.addAll(set);
+      }
+    }
+    return itemsFor(returnKeySet);
+  }
+
+  /**
+   * Index keys list
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return the list
+   */
+  @Override
+  public List<String> indexKeys(String indexName, String indexKey) {
+    getIndexFunc(indexName);
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    Set<String> set = index == null ? null : index.get(indexValueKey(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(set);
+  }
+
+  /**
+   * By index list
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return the list
+   */
+  @Override
+  public List<T> byIndex(String indexName, String indexKey) {
+    getIndexFunc(indexName);
+    Map<String, Set<String>> index = this.indices.get(indexName);
+    Set<String> set = index == null ? null : index.get(indexValueKey(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
+    }
+    return itemsFor(set);
+  }
+
+  @Override
+  public void isPopulated(boolean isPopulated) {
+    // Do nothing
+  }
+
+  /**
+   * Add index func.
+   *
+   * @param indexName the index name
+   * @param indexFunc the index func
+   */
+  public synchronized void addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
+    this.indices.put(indexName, new ConcurrentHashMap<>());
+    this.indexers.put(indexName, indexFunc);
+  }
+
+  private Function<T, List<String>> getIndexFunc(String indexName) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    if (indexFunc == null) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+    }
+    return indexFunc;
+  }
+
+  private static String indexValueKey(String indexValue) {
+    return indexValue == null ? NULL_INDEX_VALUE : indexValue;
+  }
+
+  /**
+   * Resolves the keys to the items, skipping keys deleted after the index was read.
+   */
+  private List<T> itemsFor(Set<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = this.items.get(key);
+      if (item != null) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Modifies the object's location in the managed indices, if there is an update,
+   * you must provide an oldObj. Indices whose values didn't change are skipped.
+   *
+   * It is intended to be called from a function that already has a lock on the cache.
+   */
+  private void updateIndices(T oldObj, T newObj, String key) {
+    for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
+      List<String> indexValues = indexEntry.getValue().apply(newObj);
+      List<String> oldIndexValues = oldObj == null ? null : indexEntry.getValue().apply(oldObj);
+      if (oldIndexValues != null && oldIndexValues.equals(indexValues)) {
+        continue;
+      }
+
+      Map<String, Set<String>> index = this.indices.computeIfAbsent(indexEntry.getKey(), k -> new ConcurrentHashMap<>());
+      if (oldIndexValues != null) {
+        removeFromIndex(index, oldIndexValues, key);
+      }
+      if (indexValues == null) {
+        continue;
+      }
+      for (String indexValue : indexValues) {
+        index.computeIfAbsent(indexValueKey(indexValue), k -> ConcurrentHashMap.newKeySet()).add(key);
+      }
+    }
+  }
+
+  /**
+   * Removes the object from each of the managed indices, dropping the index values left empty.
+   *
+   * It is intended to be called from a function that already has a lock on the cache.
+   */
+  private void deleteFromIndices(T oldObj, String key) {
+    for (Map.Entry<String, Function<T, List<String>>> indexEntry : this.indexers.entrySet()) {
+      List<String> indexValues = indexEntry.getValue().apply(oldObj);
+      Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
+      if (indexValues != null && index != null) {
+        removeFromIndex(index, indexValues, key);
+      }
+    }
+  }
+
+  private static void removeFromIndex(Map<String, Set<String>> index, List<String> indexValues, String key) {
+    for (String indexValue : indexValues) {
+      Set<String> indexSet = index.get(indexValueKey(indexValue));
+      if (indexSet != null) {
+        indexSet.remove(key);
+        if (indexSet.isEmpty()) {
+          index.remove(indexValueKey(indexValue));
+        }
+      }
+    }
+  }
+}
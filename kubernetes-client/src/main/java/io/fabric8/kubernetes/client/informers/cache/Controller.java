@@ -28,9 +28,11 @@ import java.util.AbstractMap;
 import java.util.Deque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -43,6 +45,11 @@ import java.util.function.Supplier;
 public class Controller<T extends HasMetadata, L extends KubernetesResourceList<T>> {
   private static final Logger log = LoggerFactory.getLogger(Controller.class);
 
+  /**
+   * Maximum number of items popped at once, and by a single process task when running on a shared executor
+   */
+  private static final int MAX_ITEMS_PER_PROCESS_TASK = 100;
+
   /**
    * resync fifo internals in millis
    */
@@ -67,6 +74,14 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
 
   private ScheduledFuture resyncFuture;
 
+  /**
+   * Whether the executors are owned by (and shut down with) this controller, or shared
+   * with other controllers.
+   */
+  private final boolean sharedExecutor;
+
+  private final AtomicBoolean processing = new AtomicBoolean(false);
+
   private final OperationContext operationContext;
 
   private final ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners;
@@ -74,6 +89,20 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
   private final Class<T> apiTypeClass;
 
   public Controller(Class<T> apiTypeClass, DeltaFIFO<T> queue, ListerWatcher<T, L> listerWatcher, Consumer<Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>>> processFunc, Supplier<Boolean> resyncFunc, long fullResyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners) {
+    this(apiTypeClass, queue, listerWatcher, processFunc, resyncFunc, fullResyncPeriod, context, eventListeners, null);
+  }
+
+  public Controller(Class<T> apiTypeClass, DeltaFIFO<T> queue, ListerWatcher<T, L> listerWatcher, Consumer<Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>>> processFunc, Supplier<Boolean> resyncFunc, long fullResyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners, Long listLimit) {
+    this(apiTypeClass, queue, listerWatcher, processFunc, resyncFunc, fullResyncPeriod, context, eventListeners, listLimit, null);
+  }
+
+  /**
+   * Creates a controller that, when executor is not null, runs its resync and processing tasks on
+   * the provided shared executor instead of dedicated threads. In that case {@link #run()} returns
+   * once the reflector has listed and started watching, and the queue is drained by short-lived tasks
+   * submitted to the executor whenever deltas are queued.
+   */
+  public Controller(Class<T> apiTypeClass, DeltaFIFO<T> queue, ListerWatcher<T, L> listerWatcher, Consumer<Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>>> processFunc, Supplier<Boolean> resyncFunc, long fullResyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners, Long listLimit, ScheduledExecutorService executor) {
     this.queue = queue;
     this.listerWatcher = listerWatcher;
     this.apiTypeClass = apiTypeClass;
@@ -86,12 +115,20 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     this.operationContext = context;
     this.eventListeners = eventListeners;
 
-    // Starts one daemon thread for reflector
-    this.reflectExecutor = Executors.newSingleThreadScheduledExecutor();
+    this.sharedExecutor = executor != null;
+    if (sharedExecutor) {
+      this.reflectExecutor = executor;
+      this.resyncExecutor = executor;
+    } else {
+      // Starts one daemon thread for reflector
+      this.reflectExecutor = Executors.newSingleThreadScheduledExecutor();
 
-    // Starts one daemon thread for resync
-    this.resyncExecutor = Executors.newSingleThreadScheduledExecutor();
-    this.reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, fullResyncPeriod);
+      // Starts one daemon thread for resync
+      this.resyncExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+    this.reflector = sharedExecutor
+      ? new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, fullResyncPeriod, executor, false, listLimit)
+      : new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, fullResyncPeriod, Executors.newSingleThreadScheduledExecutor(), listLimit);
   }
 
   public void run() {
@@ -107,6 +144,12 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     }
 
     try {
+      if (sharedExecutor) {
+        queue.setQueuedListener(this::scheduleProcessing);
+        reflector.listAndWatch();
+        return;
+      }
+
       reflector.listAndWatch();
 
       // Start the process loop
@@ -123,11 +166,15 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
   public void stop() {
     synchronized (this) {
       reflector.stop();
-      reflectExecutor.shutdown();
       if (resyncFuture != null) {
         resyncFuture.cancel(true);
       }
-      resyncExecutor.shutdown();
+      if (sharedExecutor) {
+        queue.setQueuedListener(null);
+      } else {
+        reflectExecutor.shutdown();
+        resyncExecutor.shutdown();
+      }
     }
   }
 
@@ -157,7 +204,7 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
   private void processLoop() throws Exception {
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        this.queue.pop(this.processFunc);
+        this.queue.pop(MAX_ITEMS_PER_PROCESS_TASK, this.processFunc);
       } catch (InterruptedException t) {
         log.warn("DefaultController#processLoop got interrupted {}", t.getMessage(), t);
         Thread.currentThread().interrupt();
@@ -169,6 +216,38 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     }
   }
 
+  /**
+   * Submits a task draining the work queue to the shared executor, unless one is already pending.
+   */
+  private void scheduleProcessing() {
+    if (processing.compareAndSet(false, true)) {
+      try {
+        reflectExecutor.execute(this::processQueue);
+      } catch (RejectedExecutionException e) {
+        log.warn("DefaultController#scheduleProcessing rejected by the shared executor {}", e.getMessage());
+        processing.set(false);
+      }
+    }
+  }
+
+  /**
+   * drains (part of) the work queue, and resubmits itself if there are items left.
+   */
+  private void processQueue() {
+    try {
+      this.queue.poll(MAX_ITEMS_PER_PROCESS_TASK, this.processFunc);
+    } catch (Exception e) {
+      // Leave processing set, the controller stops processing as it would for a dedicated thread
+      log.error("DefaultController#processQueue recovered from crashing {} ", e.getMessage(), e);
+      this.eventListeners.forEach(listener -> listener.onException(e));
+      return;
+    }
+    processing.set(false);
+    if (!this.queue.isEmpty()) {
+      scheduleProcessing();
+    }
+  }
+
   ScheduledExecutorService getReflectExecutor() {
     return this.reflectExecutor;
   }
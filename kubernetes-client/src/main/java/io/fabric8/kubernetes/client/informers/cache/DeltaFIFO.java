@@ -19,11 +19,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -40,6 +40,10 @@ import java.util.function.Function;
  *
  * This is taken from official client: https://github.com/kubernetes-client/java/blob/master/util/src/main/java/io/kubernetes/client/informer/cache/DeltaFIFO.java
  * which is ported from official go client: https://github.com/kubernetes/client-go/blob/master/tools/cache/delta_fifo.go
+ *
+ * The deltas of each key are kept in a single array based deque which is modified in place, and
+ * consecutive updates (or resyncs) of the same key are compressed into the latest one, so that
+ * event storms neither allocate a new list per event nor grow the queue beyond one entry per key.
  */
 public class DeltaFIFO<T> implements Store<Object> {
   private static final Logger log = LoggerFactory.getLogger(DeltaFIFO.class);
@@ -79,11 +83,16 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   private Condition notEmpty;
 
+  /**
+   * invoked, while holding the lock, whenever deltas are queued
+   */
+  private Runnable queuedListener;
+
   public DeltaFIFO(Function<T, String> keyFunc, Store knownObjects) {
     this.keyFunc = keyFunc;
     this.knownObjects = knownObjects;
     this.items = new HashMap<>();
-    this.queue = new LinkedList<>();
+    this.queue = new ArrayDeque<>();
     this.notEmpty = lock.writeLock().newCondition();
   }
 
@@ -161,56 +170,73 @@ public class DeltaFIFO<T> implements Store<Object> {
     lock.writeLock().lock();
     try {
       Set<String> keys = new HashSet<>();
-      for (Object obj : list) {
-        String key = this.keyOf(obj);
-        keys.add(key);
-        this.queueActionLocked(DeltaType.SYNCHRONIZATION, obj);
-      }
+      this.queueSyncLocked(list, keys);
+      int queueDeletion = this.queueDeletionsLocked(keys);
 
-      if (this.knownObjects == null) {
-        for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : this.items.entrySet()) {
-          if (keys.contains(entry.getKey())) {
-            continue;
-          }
-
-          Object deletedObj = null;
-          AbstractMap.SimpleEntry<DeltaType, Object> delta = entry.getValue().peekLast(); // Get newest
-          if (delta != null) {
-            deletedObj = delta.getValue();
-          }
-          this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
-        }
-
-        if (!this.populated) {
-          this.populated = true;
-          this.initialPopulationCount = list.size();
-        }
-        return;
+      if (!this.populated) {
+        this.populated = true;
+        this.initialPopulationCount = list.size() + queueDeletion;
       }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Queues a Sync delta for each of the objects, recording their keys.
+   * Caller must hold the lock.
+   *
+   * @param list list of objects
+   * @param keys keys of the objects queued so far
+   */
+  private void queueSyncLocked(List<?> list, Set<String> keys) {
+    for (Object obj : list) {
+      String key = this.keyOf(obj);
+      keys.add(key);
+      this.queueActionLocked(DeltaType.SYNCHRONIZATION, obj);
+    }
+  }
 
-      // Detect deletions not already in the queue.
-      List<String> knownKeys = this.knownObjects.listKeys();
-      int queueDeletion = 0;
-      for (String knownKey : knownKeys) {
-        if (keys.contains(knownKey)) {
+  /**
+   * Queues a Deletion delta for each of the objects whose key is not within the
+   * provided keys. Caller must hold the lock.
+   *
+   * @param keys keys of the objects that are still present
+   * @return the number of deletions queued for objects that were only in knownObjects
+   */
+  private int queueDeletionsLocked(Set<String> keys) {
+    if (this.knownObjects == null) {
+      for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : this.items.entrySet()) {
+        if (keys.contains(entry.getKey())) {
           continue;
         }
 
-        Object deletedObj = this.knownObjects.getByKey(knownKey);
-        if (deletedObj == null) {
-          log.warn("Key {} doesn't exist in the known object store, placing DeleteFinalStateUnknown marker without object", knownKey);
+        Object deletedObj = null;
+        AbstractMap.SimpleEntry<DeltaType, Object> delta = entry.getValue().peekLast(); // Get newest
+        if (delta != null) {
+          deletedObj = delta.getValue();
         }
-        queueDeletion++;
-        this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown<>(knownKey, deletedObj));
+        this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
       }
+      return 0;
+    }
 
-      if (!this.populated) {
-        this.populated = true;
-        this.initialPopulationCount = list.size() + queueDeletion;
+    // Detect deletions not already in the queue.
+    List<String> knownKeys = this.knownObjects.listKeys();
+    int queueDeletion = 0;
+    for (String knownKey : knownKeys) {
+      if (keys.contains(knownKey)) {
+        continue;
       }
-    } finally {
-      lock.writeLock().unlock();
+
+      Object deletedObj = this.knownObjects.getByKey(knownKey);
+      if (deletedObj == null) {
+        log.warn("Key {} doesn't exist in the known object store, placing DeleteFinalStateUnknown marker without object", knownKey);
+      }
+      queueDeletion++;
+      this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown<>(knownKey, deletedObj));
     }
+    return queueDeletion;
   }
 
   /**
@@ -279,7 +305,7 @@ public class DeltaFIFO<T> implements Store<Object> {
       Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = this.items.get(key);
       if (deltas != null) {
         // return a shallow copy
-        return new LinkedList<>(deltas);
+        return new ArrayDeque<>(deltas);
       }
     } finally {
       lock.readLock().unlock();
@@ -295,11 +321,10 @@ public class DeltaFIFO<T> implements Store<Object> {
   @Override
   public List<Object> list() {
     lock.readLock().lock();
-    List<Object> objects = new ArrayList<>();
+    List<Object> objects = new ArrayList<>(items.size());
     try {
-      for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : items.entrySet()) {
-        Deque<AbstractMap.SimpleEntry<DeltaType, Object>> copiedDeltas = new LinkedList<>(entry.getValue());
-        objects.add(copiedDeltas);
+      for (Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas : items.values()) {
+        objects.add(new ArrayDeque<>(deltas));
       }
     } finally {
       lock.readLock().unlock();
@@ -323,26 +348,150 @@ public class DeltaFIFO<T> implements Store<Object> {
         }
 
         // There should be data now
-        String id = this.queue.removeFirst();
-        if (this.initialPopulationCount > 0) {
-          this.initialPopulationCount--;
+        Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = this.popLocked(func);
+        if (deltas != null) {
+          return deltas;
         }
-        if (!this.items.containsKey(id)) {
-          // Item may have been deleted subsequently
-          continue;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Pop Deltas without waiting for items to be queued
+   *
+   * @param func the func
+   * @return the deltas, or null if the queue is empty
+   */
+  public Deque<AbstractMap.SimpleEntry<DeltaType, Object>> poll(Consumer<Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> func) {
+    lock.writeLock().lock();
+    try {
+      while (!queue.isEmpty()) {
+        Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = this.popLocked(func);
+        if (deltas != null) {
+          return deltas;
         }
+      }
+      return null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
 
-        Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = this.items.get(id);
-        this.items.remove(id);
-        func.accept(deltas);
-        // Don't make any copyDeltas here
-        return deltas;
+  /**
+   * Pop the Deltas of up to maxItems keys at once, waiting for at least one to be queued.
+   * func is invoked for each of them while holding the lock, in queue order.
+   *
+   * @param maxItems the maximum number of keys to pop
+   * @param func the func
+   * @return the number of keys whose deltas were handed to func
+   * @throws InterruptedException interruption exception
+   */
+  public int pop(int maxItems, Consumer<Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> func) throws InterruptedException {
+    lock.writeLock().lock();
+    try {
+      while (true) {
+        while (queue.isEmpty()) {
+          notEmpty.await();
+        }
+
+        int popped = this.popBatchLocked(maxItems, func);
+        if (popped > 0) {
+          return popped;
+        }
       }
     } finally {
       lock.writeLock().unlock();
     }
   }
 
+  /**
+   * Pop the Deltas of up to maxItems keys at once without waiting for items to be queued.
+   * func is invoked for each of them while holding the lock, in queue order.
+   *
+   * @param maxItems the maximum number of keys to pop
+   * @param func the func
+   * @return the number of keys whose deltas were handed to func, 0 if the queue is empty
+   */
+  public int poll(int maxItems, Consumer<Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> func) {
+    lock.writeLock().lock();
+    try {
+      return this.popBatchLocked(maxItems, func);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns true if there are no deltas waiting to be popped
+   *
+   * @return boolean value about queue emptiness
+   */
+  public boolean isEmpty() {
+    lock.readLock().lock();
+    try {
+      return queue.isEmpty();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Sets the listener invoked whenever deltas are queued. The listener is invoked
+   * while holding the lock, so it must not block.
+   *
+   * @param queuedListener the listener
+   */
+  public void setQueuedListener(Runnable queuedListener) {
+    lock.writeLock().lock();
+    try {
+      this.queuedListener = queuedListener;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the first key from the queue and hands its deltas to func.
+   * Caller must hold the lock.
+   *
+   * @param func the func
+   * @return the deltas, or null if the item was deleted subsequently
+   */
+  private Deque<AbstractMap.SimpleEntry<DeltaType, Object>> popLocked(Consumer<Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> func) {
+    String id = this.queue.removeFirst();
+    if (this.initialPopulationCount > 0) {
+      this.initialPopulationCount--;
+    }
+    Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = this.items.remove(id);
+    if (deltas == null) {
+      // Item may have been deleted subsequently
+      return null;
+    }
+
+    func.accept(deltas);
+    // Don't make any copyDeltas here
+    return deltas;
+  }
+
+  /**
+   * Pops up to maxItems keys. Caller must hold the lock.
+   *
+   * @param maxItems the maximum number of keys to pop
+   * @param func the func
+   * @return the number of keys whose deltas were handed to func
+   */
+  private int popBatchLocked(int maxItems, Consumer<Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> func) {
+    int popped = 0;
+    while (popped < maxItems && !queue.isEmpty()) {
+      if (this.popLocked(func) != null) {
+        popped++;
+      }
+    }
+    return popped;
+  }
+
   /**
    * Has synced boolean
    *
@@ -392,7 +541,8 @@ public class DeltaFIFO<T> implements Store<Object> {
 
 
   /**
-   * Appends to the delta list for the object. Caller must hold the lock.
+   * Appends to the delta list for the object, compressing it with the newest delta
+   * already queued for the same key when possible. Caller must hold the lock.
    *
    * @param actionType action type
    * @param obj object
@@ -402,25 +552,18 @@ public class DeltaFIFO<T> implements Store<Object> {
 
     Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas = items.get(id);
     if (deltas == null) {
-      Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltaList = new LinkedList<>();
-      deltaList.add(new AbstractMap.SimpleEntry<>(actionType, obj));
-      deltas = new LinkedList<>(deltaList);
-    } else {
-      deltas.add(new AbstractMap.SimpleEntry<>(actionType, obj));
+      deltas = new ArrayDeque<>(2);
+      this.items.put(id, deltas);
+      this.queue.add(id);
+    } else if (combineDeltaLocked(deltas, actionType, obj)) {
+      // the key is already queued and its deltas now hold the newest state
+      return;
     }
+    deltas.add(new AbstractMap.SimpleEntry<>(actionType, obj));
 
-    Deque<AbstractMap.SimpleEntry<DeltaType, Object>> combinedDeltaList =
-      combineDeltas((LinkedList<AbstractMap.SimpleEntry<DeltaType, Object>>) deltas);
-
-    boolean exist = items.containsKey(id);
-    if (combinedDeltaList != null && combinedDeltaList.size() > 0) {
-      if (!exist) {
-        this.queue.add(id);
-      }
-      this.items.put(id, new LinkedList<>(combinedDeltaList));
-      notEmpty.signalAll();
-    } else {
-      this.items.remove(id);
+    notEmpty.signalAll();
+    if (queuedListener != null) {
+      queuedListener.run();
     }
   }
 
@@ -444,54 +587,40 @@ public class DeltaFIFO<T> implements Store<Object> {
     this.queueActionLocked(DeltaType.SYNCHRONIZATION, obj);
   }
 
-  private Deque<AbstractMap.SimpleEntry<DeltaType, Object>> combineDeltas(LinkedList<AbstractMap.SimpleEntry<DeltaType, Object>> deltas) {
-    if (deltas.size() < 2) {
-      return deltas;
-    }
-
-    int size = deltas.size();
-    AbstractMap.SimpleEntry<DeltaType, Object> d1 = deltas.peekLast();
-    AbstractMap.SimpleEntry<DeltaType, Object> d2 = deltas.get(size - 2);
-    AbstractMap.SimpleEntry<DeltaType, Object> out = isDuplicate(d1, d2);
-    if (out != null) {
-      Deque<AbstractMap.SimpleEntry<DeltaType, Object>> newDeltas = new LinkedList<>();
-      newDeltas.addAll(deltas.subList(0, size - 2));
-      newDeltas.add(out);
-      return newDeltas;
-    }
-    return deltas;
-  }
-
   /**
-   * Keep the one with the most information if both are deletions.
-   *
-   * @param d1 the most one
-   * @param d2 the elder one
-   * @return the most one
-   */
-  private AbstractMap.SimpleEntry<DeltaType, Object> isDuplicate(AbstractMap.SimpleEntry<DeltaType, Object> d1, AbstractMap.SimpleEntry<DeltaType, Object> d2) {
-    AbstractMap.SimpleEntry<DeltaType, Object> deletionDelta = isDeletionDup(d1, d2);
-    if (deletionDelta != null) {
-      return deletionDelta;
-    }
-    return null;
-  }
-
-  /**
-   * Keep the one with the most information if both are deletions.
+   * Compresses the new delta with the newest one queued for the same key:
+   * <ul>
+   *   <li>consecutive updates, or consecutive syncs, are replaced by the newest one as
+   *   only the latest state of the object matters to the handlers</li>
+   *   <li>consecutive deletions keep the one with the most information</li>
+   * </ul>
+   * Caller must hold the lock.
    *
-   * @param d1 the most one
-   * @param d2 the elder one
-   * @return the most one
+   * @param deltas the deltas already queued for the key
+   * @param actionType action type of the new delta
+   * @param obj object of the new delta
+   * @return true if the new delta was compressed and must not be appended
    */
-  private AbstractMap.SimpleEntry<DeltaType, Object> isDeletionDup(AbstractMap.SimpleEntry<DeltaType, Object> d1, AbstractMap.SimpleEntry<DeltaType, Object> d2) {
-    if (!d1.getKey().equals(DeltaType.DELETION) || !d2.getKey().equals(DeltaType.DELETION)) {
-      return null;
+  private boolean combineDeltaLocked(Deque<AbstractMap.SimpleEntry<DeltaType, Object>> deltas, DeltaType actionType, Object obj) {
+    AbstractMap.SimpleEntry<DeltaType, Object> newest = deltas.peekLast();
+    if (newest == null || newest.getKey() != actionType) {
+      return false;
     }
 
-    Object obj = d2.getValue();
-
-    return (obj instanceof DeletedFinalStateUnknown) ? d1 : d2;
+    switch (actionType) {
+      case UPDATION:
+      case SYNCHRONIZATION:
+        deltas.pollLast();
+        return false;
+      case DELETION:
+        if (newest.getValue() instanceof DeletedFinalStateUnknown) {
+          deltas.pollLast();
+          return false;
+        }
+        return true;
+      default:
+        return false;
+    }
   }
 
   Map<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> getItems() { return items; }
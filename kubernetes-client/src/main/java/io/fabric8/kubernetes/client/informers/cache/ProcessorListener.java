@@ -15,20 +15,41 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.client.informers.EventHandlerMetrics;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 /**
  * ProcessorListener implements Runnable interface. It's supposed to run in background
- * and actually executes its event handler on notification. Note that it allows 1000
- * pending notification at maximum.
+ * and actually executes its event handler on notification.
+ *
+ * The pending notifications are unbounded unless a queue capacity is provided, in which case
+ * the {@link OverflowPolicy} decides what happens to the notifications added while the queue is full.
+ *
+ * Instead of running it on a dedicated thread, the listener can be started on a (shared)
+ * executor with {@link #start(Executor)}: notifications are then handled by short-lived
+ * drain tasks, one at a time, so that the listener doesn't hold a thread while idle.
  *
  * This has been taken from official client: https://github.com/kubernetes-client/java/blob/master/util/src/main/java/io/kubernetes/client/informer/cache/ProcessorListener.java
  * which has been ported from official go client: https://github.com/kubernetes/client-go/blob/master/tools/cache/shared_informer.go#L570
@@ -39,13 +60,72 @@ public class ProcessorListener<T> implements Runnable {
   private static final Logger log = LoggerFactory.getLogger(ProcessorListener.class);
   private long resyncPeriodInMillis;
   private ZonedDateTime nextResync;
-  private BlockingQueue<Notification<T>> queue;
+  private volatile boolean resyncRequested;
+  final BlockingQueue<Notification<T>> queue;
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+  private final Function<T, String> keyFunc;
   private ResourceEventHandler<T> handler;
+  private volatile Executor executor;
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private volatile Future<?> delayedDrain;
+  /**
+   * Held while notifications are handled by the drain tasks, or inline by a blocked distributor
+   */
+  private final ReentrantLock handling = new ReentrantLock();
+  private final AtomicLong droppedNotifications = new AtomicLong();
+  private final AtomicLong coalescedNotifications = new AtomicLong();
+
+  /**
+   * Maximum number of notifications handled by a single drain task before yielding
+   * the executor to other tasks
+   */
+  private static final int MAX_NOTIFICATIONS_PER_DRAIN = 100;
+
+  /**
+   * How long a distributor blocked by a full queue waits before checking again whether
+   * it has to handle the notifications itself
+   */
+  private static final long BLOCKED_OFFER_TIMEOUT_MILLIS = 100;
+
+  /**
+   * Timer handing the delayed drain tasks over to executors which can't schedule them themselves,
+   * created on first use
+   */
+  private static class DelayedDrainTimer {
+    private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread ret = new Thread(r, "informer-delayed-drain-timer");
+      ret.setDaemon(true);
+      return ret;
+    });
+  }
 
   public ProcessorListener(ResourceEventHandler<T> handler, long resyncPeriodInMillis) {
+    this(handler, resyncPeriodInMillis, 0, OverflowPolicy.BLOCK, null);
+  }
+
+  /**
+   * Creates a listener whose pending notifications are bounded when queueCapacity is positive.
+   *
+   * @param handler the event handler
+   * @param resyncPeriodInMillis the resync period
+   * @param queueCapacity the maximum number of pending notifications, 0 for unbounded
+   * @param overflowPolicy what to do with notifications added while the queue is full
+   * @param keyFunc the object key function, required to coalesce notifications
+   */
+  public ProcessorListener(ResourceEventHandler<T> handler, long resyncPeriodInMillis, int queueCapacity, OverflowPolicy overflowPolicy, Function<T, String> keyFunc) {
+    if (queueCapacity < 0) {
+      throw new IllegalArgumentException("Invalid queue capacity provided, It should be a non-negative value");
+    }
+    if (queueCapacity > 0 && overflowPolicy == OverflowPolicy.COALESCE && keyFunc == null) {
+      throw new IllegalArgumentException("A key function is required to coalesce notifications");
+    }
     this.resyncPeriodInMillis = resyncPeriodInMillis;
     this.handler = handler;
-    this.queue = new LinkedBlockingQueue<>();
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.keyFunc = keyFunc;
+    this.queue = queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new LinkedBlockingQueue<>();
 
     determineNextResync(ZonedDateTime.now());
   }
@@ -54,36 +134,270 @@ public class ProcessorListener<T> implements Runnable {
   public void run() {
     while (true) {
       try {
-        queue.take().handle(handler);
+        handle(queue.take());
       } catch(InterruptedException ex) {
         log.warn("Processor thread interrupted: {}", ex.getMessage());
         Thread.currentThread().interrupt();
         return;
-      } catch (Exception ex) {
-        log.error("Failed invoking {} event handler: {}", handler, ex.getMessage(), ex);
       }
     }
   }
 
+  /**
+   * Starts handling the notifications using the provided executor instead of
+   * a dedicated thread running {@link #run()}.
+   *
+   * @param executor executor to run the drain tasks on
+   */
+  public void start(Executor executor) {
+    this.executor = executor;
+    scheduleDrain();
+  }
+
+  /**
+   * Stops scheduling drain tasks, notifications queued afterwards are not handled.
+   */
+  public void stop() {
+    this.executor = null;
+  }
+
   public void add(Notification<T> obj) {
-    Optional.ofNullable(obj).ifPresent(this.queue::add);
+    if (obj != null && !this.queue.offer(obj)) {
+      handleOverflow(obj);
+    }
+    scheduleDrain();
+  }
+
+  private void handleOverflow(Notification<T> notification) {
+    switch (overflowPolicy) {
+      case DROP_AND_RESYNC:
+        droppedNotifications.incrementAndGet();
+        resyncRequested = true;
+        return;
+      case COALESCE:
+        coalesce(notification);
+        return;
+      case BLOCK:
+      default:
+        putBlocking(notification);
+    }
+  }
+
+  /**
+   * Coalesces the queued notifications and the new one by object key, keeping their order,
+   * and blocks if they still don't fit in the queue.
+   */
+  private synchronized void coalesce(Notification<T> notification) {
+    List<Notification<T>> pending = new ArrayList<>(queueCapacity + 1);
+    queue.drainTo(pending);
+    pending.add(notification);
+    Map<String, Notification<T>> coalesced = new LinkedHashMap<>();
+    for (Notification<T> pendingNotification : pending) {
+      coalesced.merge(keyOf(pendingNotification), pendingNotification, ProcessorListener::combine);
+    }
+    coalescedNotifications.addAndGet((long) pending.size() - coalesced.size());
+
+    for (Notification<T> coalescedNotification : coalesced.values()) {
+      // only blocks when the notifications are all for different objects
+      if (!queue.offer(coalescedNotification)) {
+        putBlocking(coalescedNotification);
+      }
+    }
+  }
+
+  /**
+   * Waits for room in the queue. When the notifications are handled on a (shared) executor
+   * and no drain task is running, they are handled by the calling thread instead, as the
+   * executor might be waiting for this very thread. The calling thread is the informer one
+   * holding the DeltaFIFO lock, see {@link OverflowPolicy#BLOCK}.
+   */
+  private void putBlocking(Notification<T> notification) {
+    try {
+      while (!queue.offer(notification, BLOCKED_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (isStarted() && handling.tryLock()) {
+          try {
+            drainQueue();
+          } finally {
+            handling.unlock();
+          }
+        }
+      }
+    } catch (InterruptedException ex) {
+      log.warn("Interrupted while waiting for the {} event handler queue, dropping notification", handler);
+      droppedNotifications.incrementAndGet();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void scheduleDrain() {
+    Executor currentExecutor = this.executor;
+    if (currentExecutor == null || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+      return;
+    }
+    long delayNanos = drainDelayNanos();
+    if (delayNanos <= 0) {
+      executeDrain(currentExecutor);
+      return;
+    }
+    ScheduledExecutorService timer = currentExecutor instanceof ScheduledExecutorService
+      ? (ScheduledExecutorService) currentExecutor : DelayedDrainTimer.INSTANCE;
+    try {
+      delayedDrain = timer.schedule(() -> executeDrain(currentExecutor), delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException ex) {
+      log.debug("Executor rejected delayed drain task for {} event handler", handler);
+      draining.set(false);
+    }
+  }
+
+  private void executeDrain(Executor currentExecutor) {
+    try {
+      currentExecutor.execute(this::drain);
+    } catch (RejectedExecutionException ex) {
+      log.debug("Executor rejected drain task for {} event handler", handler);
+      draining.set(false);
+    }
+  }
+
+  /**
+   * Runs a pending delayed drain task right away, if any.
+   */
+  void expediteDrain() {
+    Future<?> pending = delayedDrain;
+    Executor currentExecutor = this.executor;
+    if (pending != null && currentExecutor != null && pending.cancel(false)) {
+      executeDrain(currentExecutor);
+    }
+  }
+
+  /**
+   * How long to wait before draining the queued notifications, 0 to drain them right away.
+   */
+  long drainDelayNanos() {
+    return 0;
+  }
+
+  private void drain() {
+    handling.lock();
+    try {
+      drainQueue();
+    } finally {
+      handling.unlock();
+      draining.set(false);
+    }
+    // notifications might have been added after the last poll
+    scheduleDrain();
+  }
+
+  /**
+   * Handles (part of) the queued notifications without blocking, invoked by the drain tasks.
+   */
+  void drainQueue() {
+    Notification<T> notification;
+    int handled = 0;
+    while (handled++ < MAX_NOTIFICATIONS_PER_DRAIN && isStarted() && (notification = queue.poll()) != null) {
+      handle(notification);
+    }
+  }
+
+  boolean isStarted() {
+    return this.executor != null;
+  }
+
+  private void handle(Notification<T> notification) {
+    try {
+      notification.handle(handler);
+    } catch (Exception ex) {
+      log.error("Failed invoking {} event handler: {}", handler, ex.getMessage(), ex);
+    }
   }
 
   public void determineNextResync(ZonedDateTime now) {
     this.nextResync = now.plus(this.resyncPeriodInMillis, ChronoUnit.MILLIS);
+    this.resyncRequested = false;
   }
 
   public boolean shouldResync(ZonedDateTime now) {
-    return this.resyncPeriodInMillis != 0 && (now.isAfter(this.nextResync) || now.equals(this.nextResync));
+    return resyncRequested || (this.resyncPeriodInMillis != 0 && (now.isAfter(this.nextResync) || now.equals(this.nextResync)));
+  }
+
+  public Object getHandler() {
+    return handler;
+  }
+
+  /**
+   * @return a snapshot of the metrics of the notification queue
+   */
+  public EventHandlerMetrics getMetrics() {
+    return new MetricsSnapshot(getHandler(), getQueueSize(), getQueueCapacity(), getLagMillis(), getDroppedNotifications(),
+      getCoalescedNotifications());
+  }
+
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public long getLagMillis() {
+    Notification<T> oldest = queue.peek();
+    return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.createdNanos);
+  }
+
+  public long getDroppedNotifications() {
+    return droppedNotifications.get();
+  }
+
+  public long getCoalescedNotifications() {
+    return coalescedNotifications.get();
+  }
+
+  String keyOf(Notification<T> notification) {
+    Object obj = notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+    if (obj instanceof DeltaFIFO.DeletedFinalStateUnknown) {
+      return ((DeltaFIFO.DeletedFinalStateUnknown<?>) obj).getKey();
+    }
+    return keyFunc.apply((T) obj);
+  }
+
+  /**
+   * Combines a notification with a newer one for the same object, keeping the latest state:
+   * an addition followed by an update is an addition of the newest object, consecutive updates are
+   * a single update from the oldest to the newest object, otherwise the newest notification wins.
+   *
+   * @param older the older notification
+   * @param newer the newer notification
+   * @param <T> type of the objects
+   * @return the combined notification
+   */
+  static <T> Notification<T> combine(Notification<T> older, Notification<T> newer) {
+    if (newer instanceof UpdateNotification) {
+      Notification<T> combined = null;
+      if (older instanceof AddNotification) {
+        combined = new AddNotification<>(newer.getNewObject());
+      } else if (older instanceof UpdateNotification) {
+        combined = new UpdateNotification<>(older.getOldObject(), newer.getNewObject());
+      }
+      if (combined != null) {
+        // notifications are shared by the listeners, only the new ones can be made as old as the older one
+        combined.createdNanos = older.createdNanos;
+        return combined;
+      }
+    }
+    return newer;
   }
 
   public abstract static class Notification<T> {
     private final T oldObject;
     private final T newObject;
+    // used to compute the listeners' lag
+    private long createdNanos;
 
     public Notification(T oldObject, T newObject) {
       this.oldObject = oldObject;
       this.newObject = newObject;
+      this.createdNanos = System.nanoTime();
     }
 
     public T getOldObject() {
@@ -133,4 +447,52 @@ public class ProcessorListener<T> implements Runnable {
       }
     }
   }
+
+  private static final class MetricsSnapshot implements EventHandlerMetrics {
+    private final Object handler;
+    private final int queueSize;
+    private final int queueCapacity;
+    private final long lagMillis;
+    private final long droppedNotifications;
+    private final long coalescedNotifications;
+
+    private MetricsSnapshot(Object handler, int queueSize, int queueCapacity, long lagMillis, long droppedNotifications, long coalescedNotifications) {
+      this.handler = handler;
+      this.queueSize = queueSize;
+      this.queueCapacity = queueCapacity;
+      this.lagMillis = lagMillis;
+      this.droppedNotifications = droppedNotifications;
+      this.coalescedNotifications = coalescedNotifications;
+    }
+
+    @Override
+    public Object getHandler() {
+      return handler;
+    }
+
+    @Override
+    public int getQueueSize() {
+      return queueSize;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    @Override
+    public long getLagMillis() {
+      return lagMillis;
+    }
+
+    @Override
+    public long getDroppedNotifications() {
+      return droppedNotifications;
+    }
+
+    @Override
+    public long getCoalescedNotifications() {
+      return coalescedNotifications;
+    }
+  }
 }
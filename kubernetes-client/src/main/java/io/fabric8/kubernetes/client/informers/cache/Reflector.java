@@ -18,12 +18,17 @@ package io.fabric8.kubernetes.client.informers.cache;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -40,7 +45,9 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private final Store<T> store;
   private final OperationContext operationContext;
   private final long resyncPeriodMillis;
+  private final Long listLimit;
   private final ScheduledExecutorService resyncExecutor;
+  private final boolean ownsResyncExecutor;
   private final ReflectorWatcher<T> watcher;
   private final AtomicBoolean isActive;
   private final AtomicBoolean isWatcherStarted;
@@ -51,26 +58,74 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   }
 
   public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, Store store, OperationContext operationContext, long resyncPeriodMillis, ScheduledExecutorService resyncExecutor) {
+    this(apiTypeClass, listerWatcher, store, operationContext, resyncPeriodMillis, resyncExecutor, null);
+  }
+
+  /**
+   * Creates a Reflector which lists the resources in chunks of (at most) listLimit items,
+   * a null listLimit lists all of the resources at once.
+   */
+  public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, Store store, OperationContext operationContext, long resyncPeriodMillis, ScheduledExecutorService resyncExecutor, Long listLimit) {
+    this(apiTypeClass, listerWatcher, store, operationContext, resyncPeriodMillis, resyncExecutor, true, listLimit);
+  }
+
+  /**
+   * Creates a Reflector which shuts the resyncExecutor down once stopped only when it owns it,
+   * an executor shared with other informers is left running.
+   */
+  public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, Store store, OperationContext operationContext, long resyncPeriodMillis, ScheduledExecutorService resyncExecutor, boolean ownsResyncExecutor, Long listLimit) {
     this.apiTypeClass = apiTypeClass;
     this.listerWatcher = listerWatcher;
     this.store = store;
     this.operationContext = operationContext;
     this.resyncPeriodMillis = resyncPeriodMillis;
+    this.listLimit = listLimit;
     this.lastSyncResourceVersion = new AtomicReference<>();
     this.resyncExecutor = resyncExecutor;
+    this.ownsResyncExecutor = ownsResyncExecutor;
     this.watcher = new ReflectorWatcher<>(store, lastSyncResourceVersion, this::startWatcher, this::reListAndSync);
     this.isActive = new AtomicBoolean(true);
     this.isWatcherStarted = new AtomicBoolean(false);
     this.watch = new AtomicReference<>(null);
   }
 
-  private L getList() {
+  private L getList(Long limit, String continueVal) {
     return listerWatcher.list(new ListOptionsBuilder()
       .withWatch(Boolean.FALSE)
       .withResourceVersion(null)
+      .withLimit(limit)
+      .withContinue(continueVal)
       .withTimeoutSeconds(null).build(), operationContext.getNamespace(), operationContext);
   }
 
+  /**
+   * Lists all of the resources, page by page when a limit is configured. All the pages are fetched
+   * before any item is handed over, a failure on a later page leaves the store untouched. When the
+   * continue token expired (410) the list is restarted from scratch in a single request.
+   *
+   * @return the last page, holding the resource version of the whole list
+   */
+  private L listAll(List<T> items) {
+    L page = getList(listLimit, null);
+    items.addAll(page.getItems());
+    try {
+      while (Utils.isNotNullOrEmpty(page.getMetadata().getContinue())) {
+        page = getList(listLimit, page.getMetadata().getContinue());
+        log.debug("Listed page of {} items for resource {}", page.getItems().size(), apiTypeClass);
+        items.addAll(page.getItems());
+      }
+    } catch (KubernetesClientException e) {
+      if (e.getCode() != HttpURLConnection.HTTP_GONE) {
+        throw e;
+      }
+      log.debug("Continue token expired while listing resource {}, listing again without limit", apiTypeClass);
+      items.clear();
+      page = getList(null, null);
+      items.addAll(page.getItems());
+    }
+    return page;
+  }
+
   public void listAndWatch() {
     log.info("Started ReflectorRunnable watch for {}", apiTypeClass);
     reListAndSync();
@@ -89,14 +144,18 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     return resyncPeriodMillis;
   }
 
+  public Long getListLimit() {
+    return listLimit;
+  }
+
   private void reListAndSync() {
     store.isPopulated(false);
-    final L list = getList();
-    final String latestResourceVersion = list.getMetadata().getResourceVersion();
-    log.debug("Listing items ({}) for resource {} v{}", list.getItems().size(), apiTypeClass, latestResourceVersion);
+    final List<T> items = new ArrayList<>();
+    final String latestResourceVersion = listAll(items).getMetadata().getResourceVersion();
+    log.debug("Listing items ({}) for resource {} v{}", items.size(), apiTypeClass, latestResourceVersion);
+    store.replace(items, latestResourceVersion);
     lastSyncResourceVersion.set(latestResourceVersion);
-    store.replace(list.getItems(), latestResourceVersion);
-    if (!isActive.get()) {
+    if (!isActive.get() && ownsResyncExecutor) {
       resyncExecutor.shutdown();
     }
   }
@@ -121,7 +180,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       isWatcherStarted.set(true);
       watch.set(
         listerWatcher.watch(new ListOptionsBuilder()
-          .withWatch(Boolean.TRUE).withResourceVersion(lastSyncResourceVersion.get()).withTimeoutSeconds(null).build(),
+          .withWatch(Boolean.TRUE).withResourceVersion(lastSyncResourceVersion.get()).withAllowWatchBookmarks(Boolean.TRUE)
+          .withTimeoutSeconds(null).build(),
         operationContext.getNamespace(), operationContext, watcher)
       );
     }
@@ -68,6 +68,16 @@ public class ReflectorWatcher<T extends HasMetadata> implements Watcher<T> {
     lastSyncResourceVersion.set(resource.getMetadata().getResourceVersion());
   }
 
+  /**
+   * Records the bookmark's resource version, so that the watch is restarted from it
+   * rather than from the version of the last event, which might not be served anymore.
+   */
+  @Override
+  public void onBookmark(String resourceVersion) {
+    log.debug("Bookmark received, resourceVersion {}", resourceVersion);
+    lastSyncResourceVersion.set(resourceVersion);
+  }
+
   @Override
   public void onClose(WatcherException exception) {
     log.warn("Watch closing with exception", exception);
@@ -15,9 +15,13 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.client.informers.EventHandlerMetrics;
+
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -35,16 +39,41 @@ public class SharedProcessor<T> {
   private List<ProcessorListener<T>> listeners;
   private List<ProcessorListener<T>> syncingListeners;
 
-  private ExecutorService executorService;
+  private final Executor executor;
+
+  /**
+   * The thread pool owned by this processor, shut down when the processor is stopped
+   */
+  private final ExecutorService executorService;
 
   public SharedProcessor() {
     this(Executors.newCachedThreadPool());
   }
 
+  /**
+   * Creates a processor that owns the provided thread pool, it is shut down when the processor is stopped.
+   *
+   * @param threadPool thread pool handling the listener notifications
+   */
   public SharedProcessor(ExecutorService threadPool) {
+    this(threadPool, true);
+  }
+
+  /**
+   * Creates a processor that handles the listener notifications using the provided executor.
+   *
+   * @param executor executor handling the listener notifications
+   * @param shutdownExecutorOnStop whether the processor owns the executor and shuts it down when stopped,
+   *                               an executor shared with other processors must not be shut down
+   */
+  public SharedProcessor(Executor executor, boolean shutdownExecutorOnStop) {
+    if (shutdownExecutorOnStop && !(executor instanceof ExecutorService)) {
+      throw new IllegalArgumentException("Only an ExecutorService can be shut down when the processor is stopped");
+    }
     this.listeners = new ArrayList<>();
     this.syncingListeners = new ArrayList<>();
-    this.executorService = threadPool;
+    this.executor = executor;
+    this.executorService = shutdownExecutorOnStop ? (ExecutorService) executor : null;
   }
 
   /**
@@ -58,7 +87,7 @@ public class SharedProcessor<T> {
     try {
       addListenerLocked(processorListener);
 
-      executorService.execute(processorListener);
+      processorListener.start(executor);
     } finally {
       lock.writeLock().unlock();
     }
@@ -92,10 +121,11 @@ public class SharedProcessor<T> {
       if (listeners == null || listeners.isEmpty()) {
         return;
       }
+      if (executorService != null && executorService.isShutdown()) {
+        return;
+      }
       for (ProcessorListener<T> listener : listeners) {
-        if (!executorService.isShutdown()) {
-          executorService.submit(listener);
-        }
+        listener.start(executor);
       }
     } finally {
       lock.readLock().unlock();
@@ -125,6 +155,24 @@ public class SharedProcessor<T> {
     }
   }
 
+  /**
+   * Returns a snapshot of the metrics of the registered processor listeners.
+   *
+   * @return the metrics of the processor listeners
+   */
+  public List<EventHandlerMetrics> getEventHandlerMetrics() {
+    lock.readLock().lock();
+    try {
+      List<EventHandlerMetrics> metrics = new ArrayList<>(listeners.size());
+      for (ProcessorListener<T> listener : listeners) {
+        metrics.add(listener.getMetrics());
+      }
+      return Collections.unmodifiableList(metrics);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   public boolean shouldResync() {
     lock.writeLock().lock();
     boolean resyncNeeded = false;
@@ -148,10 +196,15 @@ public class SharedProcessor<T> {
   public void stop() {
     lock.writeLock().lock();
     try {
+      if (listeners != null) {
+        listeners.forEach(ProcessorListener::stop);
+      }
       listeners = null;
     } finally {
       lock.writeLock().unlock();
     }
-    executorService.shutdownNow();
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
   }
 }
@@ -18,10 +18,15 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.BatchResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.EventHandlerMetrics;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedInformerEventListener;
+import io.fabric8.kubernetes.client.informers.cache.BatchProcessorListener;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ConcurrentCache;
 import io.fabric8.kubernetes.client.informers.cache.Controller;
 import io.fabric8.kubernetes.client.informers.cache.DeltaFIFO;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
@@ -35,8 +40,11 @@ import java.util.AbstractMap;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 public class DefaultSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>> implements SharedIndexInformer<T> {
   private static final Logger log = LoggerFactory.getLogger(DefaultSharedIndexInformer.class);
@@ -60,20 +68,46 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   private Thread controllerThread;
 
+  private final ScheduledExecutorService executor;
+
   private volatile boolean started = false;
   private volatile boolean stopped = false;
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners) {
+    this(apiTypeClass, listerWatcher, resyncPeriod, context, eventListeners, null);
+  }
+
+  public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners, Long listLimit) {
+    this(apiTypeClass, listerWatcher, resyncPeriod, context, eventListeners, listLimit, null);
+  }
+
+  /**
+   * Creates an informer which, when executor is not null, runs its controller, resync and handler
+   * notifications on the provided shared executor instead of dedicated threads. The shared executor is
+   * not shut down when the informer is stopped.
+   */
+  public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners, Long listLimit, ScheduledExecutorService executor) {
+    this(apiTypeClass, listerWatcher, resyncPeriod, context, eventListeners, listLimit, executor, new Cache<>());
+  }
+
+  /**
+   * Creates an informer storing its resources in the provided indexer, e.g. a {@link ConcurrentCache}
+   * instead of the default {@link Cache}.
+   */
+  public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners, Long listLimit, ScheduledExecutorService executor, Indexer<T> indexer) {
     this.resyncCheckPeriodMillis = resyncPeriod;
     this.defaultEventHandlerResyncPeriod = resyncPeriod;
+    this.executor = executor;
 
-    this.processor = new SharedProcessor<>();
-    this.indexer = new Cache();
+    this.processor = executor != null ? new SharedProcessor<>(executor, false) : new SharedProcessor<>();
+    this.indexer = indexer;
 
     DeltaFIFO<T> fifo = new DeltaFIFO<>(Cache::metaNamespaceKeyFunc, this.indexer);
 
-    this.controller = new Controller<>(apiTypeClass, fifo, listerWatcher, this::handleDeltas, processor::shouldResync, resyncCheckPeriodMillis, context, eventListeners);
-    controllerThread = new Thread(controller::run, "informer-controller-" + apiTypeClass.getSimpleName());
+    this.controller = new Controller<>(apiTypeClass, fifo, listerWatcher, this::handleDeltas, processor::shouldResync, resyncCheckPeriodMillis, context, eventListeners, listLimit, executor);
+    if (executor == null) {
+      controllerThread = new Thread(controller::run, "informer-controller-" + apiTypeClass.getSimpleName());
+    }
   }
 
   /**
@@ -88,6 +122,30 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public void addEventHandlerWithResyncPeriod(ResourceEventHandler<T> handler, long resyncPeriodMillis) {
+    addProcessorListener(resyncPeriod -> new ProcessorListener<>(handler, resyncPeriod), resyncPeriodMillis);
+  }
+
+  @Override
+  public void addEventHandlerWithQueueCapacity(ResourceEventHandler<T> handler, long resyncPeriodMillis, int queueCapacity, OverflowPolicy overflowPolicy) {
+    if (overflowPolicy == OverflowPolicy.DROP_AND_RESYNC && resyncCheckPeriodMillis == 0) {
+      throw new IllegalArgumentException("The " + overflowPolicy + " overflow policy requires the informer to have a resync period");
+    }
+    addProcessorListener(resyncPeriod -> new ProcessorListener<>(handler, resyncPeriod, queueCapacity, overflowPolicy, Cache::metaNamespaceKeyFunc),
+      resyncPeriodMillis);
+  }
+
+  @Override
+  public List<EventHandlerMetrics> getEventHandlerMetrics() {
+    return processor.getEventHandlerMetrics();
+  }
+
+  @Override
+  public void addBatchEventHandler(BatchResourceEventHandler<T> handler, int maxBatchSize, long maxBatchDelayMillis) {
+    addProcessorListener(resyncPeriod -> new BatchProcessorListener<>(handler, Cache::metaNamespaceKeyFunc, maxBatchSize, maxBatchDelayMillis, resyncPeriod),
+      defaultEventHandlerResyncPeriod);
+  }
+
+  private void addProcessorListener(LongFunction<ProcessorListener<T>> listenerFactory, long resyncPeriodMillis) {
     if (stopped) {
       log.info("DefaultSharedIndexInformer#Handler was not added to shared informer because it has stopped already");
       return;
@@ -112,7 +170,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       }
     }
 
-    ProcessorListener<T> listener = new ProcessorListener(handler, determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis));
+    ProcessorListener<T> listener = listenerFactory.apply(determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis));
     if (!started) {
       this.processor.addListener(listener);
       return;
@@ -142,7 +200,11 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     started = true;
 
     this.processor.run();
-    controllerThread.start();
+    if (controllerThread != null) {
+      controllerThread.start();
+    } else {
+      executor.execute(controller::run);
+    }
   }
 
   @Override
@@ -153,7 +215,9 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
     stopped = true;
     controller.stop();
-    controllerThread.interrupt();
+    if (controllerThread != null) {
+      controllerThread.interrupt();
+    }
 
     processor.stop();
   }
@@ -181,8 +245,8 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
         case SYNCHRONIZATION:
         case ADDITION:
         case UPDATION:
-          boolean isSync = (deltaType == DeltaFIFO.DeltaType.SYNCHRONIZATION);
           Object oldObj = this.indexer.get((T) delta.getValue());
+          boolean isSync = isResync(deltaType, oldObj, delta.getValue());
           if (oldObj != null) {
             this.indexer.update((T) delta.getValue());
             this.processor.distribute(new ProcessorListener.UpdateNotification(oldObj, delta.getValue()), isSync);
@@ -206,6 +270,23 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
   }
 
+  /**
+   * A synchronization delta only counts as a resync when the cache already holds the object at the same
+   * resourceVersion. Objects the cache has not seen yet (e.g. from the initial list) or that changed in a
+   * relist are delivered to every listener, not only to the ones currently due for a resync.
+   */
+  private static boolean isResync(DeltaFIFO.DeltaType deltaType, Object oldObj, Object newObj) {
+    if (deltaType != DeltaFIFO.DeltaType.SYNCHRONIZATION || !(oldObj instanceof HasMetadata) || !(newObj instanceof HasMetadata)) {
+      return false;
+    }
+    HasMetadata oldResource = (HasMetadata) oldObj;
+    HasMetadata newResource = (HasMetadata) newObj;
+    if (oldResource.getMetadata() == null || newResource.getMetadata() == null) {
+      return false;
+    }
+    return Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion());
+  }
+
   @Override
   public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
     if (started) {
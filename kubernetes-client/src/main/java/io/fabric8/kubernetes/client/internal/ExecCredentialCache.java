@@ -0,0 +1,229 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.OAuthTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the tokens returned by client-go credential plugins (the exec section of a kubeconfig user), so that the
+ * plugin process is only launched when there is no valid token.
+ *
+ * A token is reused until its expirationTimestamp, or until the server rejects it when the plugin doesn't tell.
+ * Tokens in use are refreshed in the background shortly before they expire, and concurrent refreshes of the same
+ * token, e.g. after several requests got a 401, only launch the plugin once.
+ *
+ * At most {@value #MAX_ENTRIES} plugin invocations are cached, the least recently requested ones are evicted first,
+ * and expired credentials are dropped whenever a credential is requested.
+ */
+public class ExecCredentialCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecCredentialCache.class);
+
+  static final Duration REFRESH_BEFORE_EXPIRATION = Duration.ofSeconds(30);
+  static final int MAX_ENTRIES = 32;
+
+  private static final ExecCredentialCache INSTANCE = new ExecCredentialCache(Clock.systemUTC(), null);
+
+  private final Map<Object, CachedCredential> credentials = new LinkedHashMap<Object, CachedCredential>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, CachedCredential> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+  private final Clock clock;
+  private ScheduledExecutorService scheduler;
+
+  ExecCredentialCache(Clock clock, ScheduledExecutorService scheduler) {
+    this.clock = clock;
+    this.scheduler = scheduler;
+  }
+
+  public static ExecCredentialCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the cached credential for the given key, the plugin is only launched once its token is requested.
+   *
+   * @param key identifies the plugin invocation, e.g. its exec config and the kubeconfig file it's read from
+   * @param loader launches the plugin
+   * @return the cached credential
+   */
+  public synchronized CachedCredential get(Object key, CredentialLoader loader) {
+    Instant now = clock.instant();
+    credentials.values().removeIf(cached -> cached.isExpired(now));
+    return credentials.computeIfAbsent(key, k -> new CachedCredential(loader));
+  }
+
+  synchronized int size() {
+    return credentials.size();
+  }
+
+  private synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "Exec credential refresh");
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      scheduler = executor;
+    }
+    return scheduler;
+  }
+
+  @FunctionalInterface
+  public interface CredentialLoader {
+    /**
+     * @return the credential returned by the plugin, null if it didn't return any
+     */
+    Credential load() throws IOException, InterruptedException;
+  }
+
+  public static final class Credential {
+    private final String token;
+    private final Instant expirationTimestamp;
+
+    /**
+     * @param token the bearer token
+     * @param expirationTimestamp when the token expires, null if unknown
+     */
+    public Credential(String token, Instant expirationTimestamp) {
+      this.token = token;
+      this.expirationTimestamp = expirationTimestamp;
+    }
+
+    boolean isExpired(Instant now) {
+      return expirationTimestamp != null && !now.isBefore(expirationTimestamp);
+    }
+  }
+
+  /**
+   * The token of a credential plugin, usable as the token provider of a Config.
+   */
+  public final class CachedCredential implements OAuthTokenProvider {
+
+    private final CredentialLoader loader;
+    private volatile Credential credential;
+    private volatile String previousToken;
+    private volatile boolean used;
+
+    private CachedCredential(CredentialLoader loader) {
+      this.loader = loader;
+    }
+
+    /**
+     * Returns the cached token, launching the plugin if there's none or it expired.
+     *
+     * @return the token, null if the plugin didn't return any
+     */
+    @Override
+    public String getToken() {
+      Credential current = credential;
+      if (current == null || current.isExpired(clock.instant())) {
+        return refresh(current != null ? current.token : null);
+      }
+      used = true;
+      return current.token;
+    }
+
+    /**
+     * Tells whether the token was returned by the plugin, i.e. it's the cached token or the one it replaced.
+     *
+     * @param token the token to check
+     * @return true if the token comes from this credential
+     */
+    public boolean isIssued(String token) {
+      Credential current = credential;
+      return token != null && ((current != null && token.equals(current.token)) || token.equals(previousToken));
+    }
+
+    boolean isExpired(Instant now) {
+      Credential current = credential;
+      return current != null && current.isExpired(now);
+    }
+
+    /**
+     * Replaces a token the server rejected or that is about to expire. The plugin is only launched if the
+     * token is still the cached one, so that concurrent callers share a single refresh.
+     *
+     * @param staleToken the token to replace, null to load the first one
+     * @return the new token, null if the plugin didn't return any
+     */
+    public synchronized String refresh(String staleToken) {
+      Credential current = credential;
+      if (current != null && !Objects.equals(current.token, staleToken) && !current.isExpired(clock.instant())) {
+        used = true;
+        return current.token;
+      }
+      Credential loaded;
+      try {
+        loaded = loader.load();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw KubernetesClientException.launderThrowable(e);
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+      if (loaded == null || loaded.token == null) {
+        // an expired token is never served, the next request launches the plugin again
+        if (current != null && current.isExpired(clock.instant())) {
+          credential = null;
+        }
+        return null;
+      }
+      previousToken = current != null ? current.token : null;
+      credential = loaded;
+      used = false;
+      scheduleRefresh(loaded);
+      return loaded.token;
+    }
+
+    private void scheduleRefresh(Credential loaded) {
+      if (loaded.expirationTimestamp == null) {
+        return;
+      }
+      long delay = Duration.between(clock.instant(), loaded.expirationTimestamp.minus(REFRESH_BEFORE_EXPIRATION)).toMillis();
+      getScheduler().schedule(() -> refreshInBackground(loaded), Math.max(delay, 0), TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshInBackground(Credential expiring) {
+      // tokens nobody asked for since the last refresh are only reloaded when requested again
+      if (credential != expiring || !used) {
+        return;
+      }
+      try {
+        refresh(expiring.token);
+      } catch (Exception e) {
+        LOGGER.warn("Failed to refresh the exec credential before its expiration", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Orders the items of a resource list so that the resources others depend on are applied first: the Namespaces
+ * and CustomResourceDefinitions, then the RBAC resources, then the configuration and policies consumed by the
+ * workloads, and finally the workloads and any other resource.
+ */
+public class ApplyOrder {
+
+  public static final int NAMESPACES_AND_DEFINITIONS = 0;
+  public static final int RBAC = 1;
+  public static final int CONFIGURATION = 2;
+  public static final int WORKLOADS = 3;
+
+  private static final Set<String> NAMESPACES_AND_DEFINITIONS_KINDS = new HashSet<>(Arrays.asList(
+    "Namespace", "CustomResourceDefinition"));
+  private static final Set<String> RBAC_KINDS = new HashSet<>(Arrays.asList(
+    "ServiceAccount", "Role", "ClusterRole", "RoleBinding", "ClusterRoleBinding", "PodSecurityPolicy"));
+  private static final Set<String> CONFIGURATION_KINDS = new HashSet<>(Arrays.asList(
+    "ConfigMap", "Secret", "ResourceQuota", "LimitRange", "PriorityClass", "StorageClass",
+    "PersistentVolume", "PersistentVolumeClaim"));
+
+  private static final String ESTABLISHED = "Established";
+
+  private ApplyOrder() { }
+
+  /**
+   * @param item the resource
+   * @return the phase the resource should be applied in, lower phases come first
+   */
+  public static int phaseOf(HasMetadata item) {
+    final String kind = item.getKind();
+    if (NAMESPACES_AND_DEFINITIONS_KINDS.contains(kind)) {
+      return NAMESPACES_AND_DEFINITIONS;
+    } else if (RBAC_KINDS.contains(kind)) {
+      return RBAC;
+    } else if (CONFIGURATION_KINDS.contains(kind)) {
+      return CONFIGURATION;
+    }
+    return WORKLOADS;
+  }
+
+  /**
+   * Tells whether a CustomResourceDefinition can be used, the custom resources it defines are rejected until
+   * the API server reports it as Established.
+   *
+   * @param item the resource
+   * @return false for a CustomResourceDefinition that isn't established yet, true otherwise
+   */
+  public static boolean isEstablished(HasMetadata item) {
+    if (item instanceof CustomResourceDefinition) {
+      final CustomResourceDefinition crd = (CustomResourceDefinition) item;
+      return crd.getStatus() != null && crd.getStatus().getConditions() != null && crd.getStatus().getConditions().stream()
+        .anyMatch(c -> ESTABLISHED.equals(c.getType()) && "True".equals(c.getStatus()));
+    } else if (item instanceof io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition) {
+      final io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition crd =
+        (io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition) item;
+      return crd.getStatus() != null && crd.getStatus().getConditions() != null && crd.getStatus().getConditions().stream()
+        .anyMatch(c -> ESTABLISHED.equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+    return true;
+  }
+
+  /**
+   * Groups the indices of the items by phase, keeping the original order within each phase.
+   *
+   * @param items the resources to apply
+   * @param reverse true to get the phases from the last to the first, as when deleting the resources
+   * @return the indices of the items of each phase, in the order the phases should be processed
+   */
+  public static List<List<Integer>> phases(List<HasMetadata> items, boolean reverse) {
+    final Map<Integer, List<Integer>> phases = new TreeMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      phases.computeIfAbsent(phaseOf(items.get(i)), phase -> new ArrayList<>()).add(i);
+    }
+    final List<List<Integer>> result = new ArrayList<>(phases.values());
+    if (reverse) {
+      Collections.reverse(result);
+    }
+    return result;
+  }
+}
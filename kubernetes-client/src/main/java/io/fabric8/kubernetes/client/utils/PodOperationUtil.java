@@ -61,7 +61,7 @@ public class PodOperationUtil {
       context.isReloadingFromServer(), context.getGracePeriodSeconds(), context.getPropagationPolicy(),
       context.getWatchRetryInitialBackoffMillis(), context.getWatchRetryBackoffMultiplier(), context.isNamespaceFromGlobalConfig(), context.getDryRun(), null, null, null, null, null,
       null, null, null, null, false, false, false, null, null,
-      null, isPretty, null, null, null, null, null, podLogWaitTimeout));
+      null, isPretty, null, null, null, null, null, podLogWaitTimeout, false, null, null, null, false, null, null, null));
   }
 
   public static List<PodResource<Pod>> getPodOperationsForController(OperationContext context, String controllerUid, Map<String, String> selectorLabels, boolean isPretty, Integer podLogWaitTimeout) {
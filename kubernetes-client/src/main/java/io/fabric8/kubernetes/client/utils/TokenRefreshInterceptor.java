@@ -18,6 +18,8 @@ package io.fabric8.kubernetes.client.utils;
 import io.fabric8.kubernetes.api.model.AuthInfo;
 import io.fabric8.kubernetes.api.model.Context;
 import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.internal.ExecCredentialCache;
 import io.fabric8.kubernetes.client.internal.KubeConfigUtils;
 import okhttp3.Interceptor;
 import okhttp3.Request;
@@ -28,9 +30,11 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 
 /**
- * Interceptor for handling expired OIDC tokens.
+ * Interceptor for handling expired OIDC and credential plugin tokens.
  */
 public class TokenRefreshInterceptor implements Interceptor {
+  private static final String BEARER_PREFIX = "Bearer ";
+
   private Config config;
   public TokenRefreshInterceptor(Config config) {
     this.config = config;
@@ -40,6 +44,9 @@ public class TokenRefreshInterceptor implements Interceptor {
   public Response intercept(Chain chain) throws IOException {
     Request request = chain.request();
     Response response = chain.proceed(request);
+    if (response.code() == HttpURLConnection.HTTP_UNAUTHORIZED && config.getOauthTokenProvider() instanceof ExecCredentialCache.CachedCredential) {
+      return retryWithRefreshedExecCredential(chain, response, (ExecCredentialCache.CachedCredential) config.getOauthTokenProvider());
+    }
     if (response.code() == HttpURLConnection.HTTP_UNAUTHORIZED) {
       io.fabric8.kubernetes.api.model.Config kubeConfig = KubeConfigUtils.parseConfig(new File(Config.getKubeconfigFilename()));
       Context currentContext = null;
@@ -68,4 +75,26 @@ public class TokenRefreshInterceptor implements Interceptor {
     }
     return response;
   }
+
+  /**
+   * Replaces the token of a credential plugin without reading the kubeconfig again. The plugin is only launched
+   * once when several requests are rejected with the same token.
+   */
+  private Response retryWithRefreshedExecCredential(Chain chain, Response response, ExecCredentialCache.CachedCredential credential) throws IOException {
+    String authorization = chain.request().header("Authorization");
+    String rejectedToken = authorization != null && authorization.startsWith(BEARER_PREFIX) ? authorization.substring(BEARER_PREFIX.length()) : null;
+    String newAccessToken;
+    try {
+      newAccessToken = credential.refresh(rejectedToken);
+    } catch (KubernetesClientException e) {
+      response.close();
+      throw new IOException("Failed to refresh the exec credential", e);
+    }
+    if (newAccessToken == null || newAccessToken.equals(rejectedToken)) {
+      return response;
+    }
+    response.close();
+    config.setOauthToken(newAccessToken);
+    return chain.proceed(chain.request().newBuilder().header("Authorization", BEARER_PREFIX + newAccessToken).build());
+  }
 }
@@ -64,6 +64,13 @@ public class WatcherToggle<T> implements Watcher<T> {
     }
   }
 
+  @Override
+  public void onBookmark(String resourceVersion) {
+    if (enabled) {
+      delegate.onBookmark(resourceVersion);
+    }
+  }
+
   @Override
   public boolean reconnecting() {
     return delegate.reconnecting();
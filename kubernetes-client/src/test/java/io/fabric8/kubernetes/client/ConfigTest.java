@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -503,6 +504,31 @@ public class ConfigTest {
     Config config = Config.autoConfigure(null);
     assertNotNull(config);
     assertEquals("HELLO WORLD", config.getOauthToken());
+    // the token is cached, reloading the config doesn't launch the authenticator again
+    assertSame(config.getOauthTokenProvider(), Config.autoConfigure(null).getOauthTokenProvider());
+  }
+
+  @Test
+  void explicitTokenOverridesClientAuthenticatorCommands() throws Exception {
+    if (SystemUtils.IS_OS_WINDOWS) {
+      System.setProperty(Config.KUBERNETES_KUBECONFIG_FILE, TEST_KUBECONFIG_EXEC_WIN_FILE);
+    } else {
+      Files.setPosixFilePermissions(Paths.get(TEST_TOKEN_GENERATOR_FILE), PosixFilePermissions.fromString("rwxrwxr-x"));
+      System.setProperty(Config.KUBERNETES_KUBECONFIG_FILE, TEST_KUBECONFIG_EXEC_FILE);
+    }
+    Config autoConfigured = Config.autoConfigure(null);
+
+    Config copy = new ConfigBuilder(autoConfigured).build();
+    Config explicit = new ConfigBuilder(autoConfigured).withOauthToken("EXPLICIT").build();
+    Config set = Config.autoConfigure(null);
+    set.setOauthToken("SET");
+
+    assertSame(autoConfigured.getOauthTokenProvider(), copy.getOauthTokenProvider());
+    assertEquals("HELLO WORLD", copy.getOauthToken());
+    assertNull(explicit.getOauthTokenProvider());
+    assertEquals("EXPLICIT", explicit.getOauthToken());
+    assertNull(set.getOauthTokenProvider());
+    assertEquals("SET", set.getOauthToken());
   }
 
   @Test
@@ -28,6 +28,8 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
@@ -101,6 +103,16 @@ class BaseOperationTest {
     assertNotNull(operationWithPropagationPolicy.withGracePeriod(10));
   }
 
+  @Test
+  void testPatchAsyncOfReadOnlyResourceCompletesExceptionally() {
+    final BaseOperation<Pod, PodList, Resource<Pod>> operation = new BaseOperation<>(new OperationContext());
+
+    CompletableFuture<Pod> patched = operation.patchAsync(new PodBuilder().build());
+
+    ExecutionException e = Assertions.assertThrows(ExecutionException.class, patched::get);
+    assertThat(e.getCause().getMessage(), is("Cannot update read-only resources"));
+  }
+
   @Test
   void testListOptions() throws MalformedURLException {
     // Given
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.base;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaginatedListIteratorTest {
+
+  private static final MediaType JSON = MediaType.parse("application/json");
+
+  @Test
+  void iteratesOverAllPages() {
+    List<String> continues = new ArrayList<>();
+    PaginatedListIterator<Pod> iterator = new PaginatedListIterator<>(Serialization.jsonMapper(), Pod.class, c -> {
+      continues.add(c);
+      return c == null ?
+        body("{\"kind\":\"PodList\",\"metadata\":{\"continue\":\"next\"},\"items\":[" + pod("pod1") + "," + pod("pod2") + "]}") :
+        body("{\"kind\":\"PodList\",\"metadata\":{},\"items\":[" + pod("pod3") + "]}");
+    }, p -> p.getMetadata().getLabels().put("seen", "true"));
+
+    List<String> names = new ArrayList<>();
+    iterator.forEachRemaining(p -> {
+      assertEquals("true", p.getMetadata().getLabels().get("seen"));
+      names.add(p.getMetadata().getName());
+    });
+
+    assertEquals(Arrays.asList("pod1", "pod2", "pod3"), names);
+    assertEquals(Arrays.asList(null, "next"), continues);
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void readsContinueTokenFollowingTheItems() {
+    List<String> continues = new ArrayList<>();
+    PaginatedListIterator<Pod> iterator = new PaginatedListIterator<>(Serialization.jsonMapper(), Pod.class, c -> {
+      continues.add(c);
+      return c == null ?
+        body("{\"items\":[" + pod("pod1") + "],\"metadata\":{\"continue\":\"next\"}}") :
+        body("{\"items\":null}");
+    }, p -> { });
+
+    assertEquals("pod1", iterator.next().getMetadata().getName());
+    assertFalse(iterator.hasNext());
+    assertEquals(Arrays.asList(null, "next"), continues);
+  }
+
+  @Test
+  void closeStopsFetchingPages() {
+    List<String> continues = new ArrayList<>();
+    PaginatedListIterator<Pod> iterator = new PaginatedListIterator<>(Serialization.jsonMapper(), Pod.class, c -> {
+      continues.add(c);
+      return body("{\"metadata\":{\"continue\":\"next\"},\"items\":[" + pod("pod1") + "]}");
+    }, p -> { });
+
+    assertTrue(iterator.hasNext());
+    iterator.close();
+
+    assertFalse(iterator.hasNext());
+    assertEquals(1, continues.size());
+  }
+
+  @Test
+  void failsOnInvalidResponse() {
+    PaginatedListIterator<Pod> iterator = new PaginatedListIterator<>(Serialization.jsonMapper(), Pod.class,
+      c -> body("[]"), p -> { });
+
+    assertThrows(KubernetesClientException.class, iterator::hasNext);
+  }
+
+  private static ResponseBody body(String json) {
+    return ResponseBody.create(JSON, json);
+  }
+
+  private static String pod(String name) {
+    return "{\"metadata\":{\"name\":\"" + name + "\",\"labels\":{}},\"spec\":{\"containers\":[]}}";
+  }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import okhttp3.WebSocket;
+import okio.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExecWebSocketListenerTest {
+
+  private WebSocket webSocket;
+  private AtomicLong queueSize;
+
+  @BeforeEach
+  void setUp() {
+    queueSize = new AtomicLong();
+    webSocket = Mockito.mock(WebSocket.class);
+    when(webSocket.send(any(ByteString.class))).thenReturn(true);
+    when(webSocket.queueSize()).thenAnswer(i -> queueSize.get());
+  }
+
+  @AfterEach
+  void tearDown() {
+    webSocket = null;
+  }
+
+  @Test
+  void testRedirectedInputWrittenBeforeOpenIsSentOnceOpen() throws Exception {
+    final ExecWebSocketListener listener = redirectingInput(null);
+
+    final CompletableFuture<Void> write = writeAsync(listener, "hi");
+
+    assertThrows(TimeoutException.class, () -> write.get(200, TimeUnit.MILLISECONDS));
+    listener.onOpen(webSocket, null);
+    write.get(10, TimeUnit.SECONDS);
+    verify(webSocket).send(eq(ByteString.encodeUtf8("\u0000hi")));
+    listener.close();
+  }
+
+  @Test
+  void testRedirectedInputBlocksWhileSendQueueIsFull() throws Exception {
+    final ExecWebSocketListener listener = redirectingInput(4);
+    listener.onOpen(webSocket, null);
+    queueSize.set(3);
+
+    final CompletableFuture<Void> write = writeAsync(listener, "hi");
+
+    assertThrows(TimeoutException.class, () -> write.get(200, TimeUnit.MILLISECONDS));
+    verify(webSocket, never()).send(any(ByteString.class));
+    queueSize.set(0);
+    write.get(10, TimeUnit.SECONDS);
+    verify(webSocket).send(eq(ByteString.encodeUtf8("\u0000hi")));
+    listener.close();
+  }
+
+  @Test
+  void testRedirectedInputFailsOnceClosed() throws Exception {
+    final ExecWebSocketListener listener = redirectingInput(null);
+    final CompletableFuture<Void> write = writeAsync(listener, "hi");
+
+    listener.close();
+
+    final ExecutionException result = assertThrows(ExecutionException.class, () -> write.get(10, TimeUnit.SECONDS));
+    assertTrue(result.getCause() instanceof UncheckedIOException);
+    assertThrows(IOException.class, () -> listener.getInput().write(1));
+  }
+
+  @Test
+  void testWritingOutputToChannelWithoutProgressFails() {
+    final WritableByteChannel nonBlocking = new WritableByteChannel() {
+      @Override
+      public int write(ByteBuffer src) {
+        return 0;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    final ExecWebSocketListener listener = new ExecWebSocketListener(new ConfigBuilder().build(), null, null, null, null,
+      null, null, null, null, false, nonBlocking, null, null, null, null);
+    listener.onOpen(webSocket, null);
+
+    assertThrows(KubernetesClientException.class, () -> listener.onMessage(webSocket, ByteString.encodeUtf8("\u0001out")));
+    listener.close();
+  }
+
+  private static ExecWebSocketListener redirectingInput(Integer bufferSize) {
+    return new ExecWebSocketListener(new ConfigBuilder().build(), null, null, null, null,
+      null, null, null, null, true, null, null, null, null, bufferSize);
+  }
+
+  private static CompletableFuture<Void> writeAsync(ExecWebSocketListener listener, String input) {
+    return CompletableFuture.runAsync(() -> {
+      try {
+        listener.getInput().write(input.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+}
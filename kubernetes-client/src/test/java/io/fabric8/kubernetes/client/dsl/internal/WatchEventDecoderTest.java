@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okio.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchEventDecoderTest {
+
+  private final WatchEventDecoder<Pod> decoder = new WatchEventDecoder<>(Pod.class);
+
+  @Test
+  void decodeBytesToWatchedType() {
+    WatchEvent event = decoder.decode(ByteString.encodeUtf8(Serialization.asJson(new WatchEvent(pod(), "ADDED"))));
+
+    assertThat(event.getType()).isEqualTo("ADDED");
+    assertThat(event.getObject()).isEqualTo(pod());
+  }
+
+  @Test
+  void decodeTextWithObjectBeforeType() {
+    String message = "{\"object\":" + Serialization.asJson(pod()) + ",\"type\":\"DELETED\"}";
+
+    WatchEvent event = decoder.decode(message);
+
+    assertThat(event.getType()).isEqualTo("DELETED");
+    assertThat(event.getObject()).isEqualTo(pod());
+  }
+
+  @Test
+  void decodeErrorEventToStatus() {
+    Status status = new StatusBuilder().withCode(410).withMessage("too old resource version").build();
+
+    WatchEvent event = decoder.decode(ByteString.encodeUtf8(Serialization.asJson(new WatchEvent(status, "ERROR"))));
+
+    assertThat(event.getType()).isEqualTo("ERROR");
+    assertThat(event.getObject()).isInstanceOf(Status.class).hasFieldOrPropertyWithValue("code", 410);
+  }
+
+  @Test
+  void decodeStatusWithoutEventType() {
+    String message = "{\"object\":" + Serialization.asJson(new StatusBuilder().withCode(410).build()) + "}";
+
+    WatchEvent event = decoder.decode(message);
+
+    assertThat(event.getType()).isEqualTo("MODIFIED");
+    assertThat(event.getObject()).isInstanceOf(Status.class);
+  }
+
+  @Test
+  void decodeMessageWhichIsNotAWatchEvent() {
+    PodList list = new PodListBuilder().addToItems(pod()).withNewMetadata().withResourceVersion("2").endMetadata().build();
+
+    WatchEvent event = decoder.decode(ByteString.encodeUtf8(Serialization.asJson(list)));
+
+    assertThat(event.getType()).isEqualTo("MODIFIED");
+    assertThat(event.getObject()).isInstanceOf(PodList.class);
+  }
+
+  @Test
+  void decodeBlankMessage() {
+    assertThat(decoder.decode(ByteString.encodeUtf8(" "))).isNull();
+  }
+
+  @Test
+  void decodeWithAbstractWatchedType() {
+    WatchEvent event = new WatchEventDecoder<>(HasMetadata.class)
+      .decode(ByteString.encodeUtf8(Serialization.asJson(new WatchEvent(pod(), "MODIFIED"))));
+
+    assertThat(event.getType()).isEqualTo("MODIFIED");
+    assertThat(event.getObject()).isEqualTo(pod());
+  }
+
+  private static Pod pod() {
+    return new PodBuilder()
+      .withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion("1").endMetadata()
+      .withNewSpec().withNodeName("node1").endSpec()
+      .build();
+  }
+}
@@ -0,0 +1,421 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.fabric8.kubernetes.client.ConfigBuilder;
+
+import io.fabric8.kubernetes.client.dsl.ExecListener;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.Execable;
+import io.fabric8.kubernetes.client.dsl.TtyExecErrorChannelable;
+import io.fabric8.kubernetes.client.dsl.TtyExecErrorable;
+import io.fabric8.kubernetes.client.dsl.TtyExecable;
+import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okio.ByteString;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PodBinaryTransferTest {
+
+  private static final Pattern REMOTE_COMMAND = Pattern.compile(
+    "(?:test -r '[^']+' && )?(cat |wc -c < |tail -c \\+(\\d+) |find )'([^']+)'( -type [df]| \\| head -c (\\d+))?( \\| gzip -\\d)?");
+  private static final Pattern UPLOAD_TARGET = Pattern.compile(">>? '([^']+)'$");
+
+  private OkHttpClient mockClient;
+  private PodOperationContext mockContext;
+  private PodOperationsImpl mockOperation;
+  private List<String> commands;
+  private List<byte[]> stdins;
+  private ByteArrayOutputStream remoteFile;
+  private int lossySession;
+  private Map<String, byte[]> remoteFiles;
+  private List<String> execCommands;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockClient = Mockito.mock(OkHttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    mockContext = Mockito.mock(PodOperationContext.class);
+    mockOperation = Mockito.mock(PodOperationsImpl.class);
+    commands = new ArrayList<>();
+    stdins = new ArrayList<>();
+    remoteFile = new ByteArrayOutputStream();
+    lossySession = -1;
+    remoteFiles = new ConcurrentHashMap<>();
+    execCommands = new ArrayList<>();
+
+    when(mockClient.newBuilder().readTimeout(anyLong(), any(TimeUnit.class)).build()).thenReturn(mockClient);
+    when(mockClient.newWebSocket(any(), any())).thenAnswer(this::openSession);
+    when(mockOperation.getContext()).thenReturn(mockContext);
+    when(mockOperation.getResourceUrl())
+      .thenReturn(new URL("https://openshift.com:8443/api/v1/namespaces/default/pods/mock-pod/"));
+    when(mockContext.isBinaryTransfer()).thenReturn(true);
+    when(mockContext.getCompressionLevel()).thenReturn(null);
+    when(mockContext.getTransferParallelism()).thenReturn(null);
+    when(mockContext.getChunkSize()).thenReturn(null);
+  }
+
+  @Test
+  void testUploadFileShouldSendRawBytes(@TempDir Path tempDir) throws Exception {
+    final Path source = Files.write(tempDir.resolve("file"), new byte[]{0, 1, 2, (byte) 255});
+    when(mockContext.getFile()).thenReturn("/mock/dir/file");
+
+    final boolean result = new PodBinaryTransfer(mockClient, mockOperation).upload(source);
+
+    assertThat(result, equalTo(true));
+    assertThat(commands, equalTo(Collections.singletonList("mkdir -p '/mock/dir' && cat - > '/mock/dir/file'")));
+    assertThat(remoteFile.toByteArray(), equalTo(new byte[]{0, 1, 2, (byte) 255}));
+  }
+
+  @Test
+  void testUploadDirectoryWithoutCompressionShouldSendPlainTar() throws Exception {
+    when(mockContext.getDir()).thenReturn("/mock/dir");
+    when(mockContext.getCompressionLevel()).thenReturn(0);
+
+    new PodBinaryTransfer(mockClient, mockOperation)
+      .upload(new File(PodUpload.class.getResource("/upload").getFile()).toPath());
+
+    assertThat(commands, equalTo(Collections.singletonList("mkdir -p '/mock/dir' && tar -C '/mock/dir' -xf -")));
+    try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(stdins.get(0)))) {
+      final TarArchiveEntry entry = tar.getNextTarEntry();
+      assertThat(entry.getName(), equalTo("upload-sample.txt"));
+    }
+  }
+
+  @Test
+  void testUploadDirectoryInParallelShouldCreateTreeThenSendEachFile(@TempDir Path tempDir) throws Exception {
+    Files.createDirectories(tempDir.resolve("nested"));
+    Files.write(tempDir.resolve("nested").resolve("file"), "content".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getDir()).thenReturn("/mock/dir");
+    when(mockContext.getTransferParallelism()).thenReturn(2);
+
+    new PodBinaryTransfer(mockClient, mockOperation).upload(tempDir);
+
+    assertThat(commands.get(0), equalTo("mkdir -p '/mock/dir' && tar -C '/mock/dir' -xf -"));
+    try (TarArchiveInputStream tar = new TarArchiveInputStream(new ByteArrayInputStream(stdins.get(0)))) {
+      assertThat(tar.getNextTarEntry().getName(), equalTo("nested/"));
+    }
+    assertThat(commands.get(1), equalTo("mkdir -p '/mock/dir/nested' && cat - > '/mock/dir/nested/file'"));
+    assertThat(remoteFile.toString(), equalTo("content"));
+  }
+
+  @Test
+  void testChunkedUploadShouldResumeFromLandedBytes(@TempDir Path tempDir) throws Exception {
+    final Path source = Files.write(tempDir.resolve("file"), "0123456789".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getFile()).thenReturn("/mock/file");
+    when(mockContext.getChunkSize()).thenReturn(4L);
+    stubExec();
+    // only half of the second chunk makes it
+    lossySession = 1;
+
+    new PodBinaryTransfer(mockClient, mockOperation).upload(source);
+
+    assertThat(commands, equalTo(Arrays.asList(
+      "mkdir -p '/mock' && cat - > '/mock/file'",
+      "cat - >> '/mock/file'",
+      "cat - >> '/mock/file'")));
+    assertThat(new String(stdins.get(2), StandardCharsets.UTF_8), equalTo("6789"));
+    assertThat(remoteFile.toString(), equalTo("0123456789"));
+  }
+
+  @Test
+  void testUploadDirectoryShouldNotCompressByDefault() throws Exception {
+    when(mockContext.getDir()).thenReturn("/mock/dir");
+
+    new PodBinaryTransfer(mockClient, mockOperation)
+      .upload(new File(PodUpload.class.getResource("/upload").getFile()).toPath());
+
+    assertThat(commands, equalTo(Collections.singletonList("mkdir -p '/mock/dir' && tar -C '/mock/dir' -xf -")));
+  }
+
+  @Test
+  void testCompressedUploadInParallelShouldCompressEachFile(@TempDir Path tempDir) throws Exception {
+    Files.write(tempDir.resolve("file"), "content".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getDir()).thenReturn("/mock/dir");
+    when(mockContext.getTransferParallelism()).thenReturn(2);
+    when(mockContext.getCompressionLevel()).thenReturn(1);
+
+    new PodBinaryTransfer(mockClient, mockOperation).upload(tempDir);
+
+    assertThat(commands.get(0), equalTo("mkdir -p '/mock/dir' && tar -C '/mock/dir' -xf -"));
+    assertThat(commands.get(1), equalTo("mkdir -p '/mock/dir' && gunzip -c > '/mock/dir/file'"));
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(stdins.get(1)))) {
+      assertThat(new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8), equalTo("content"));
+    }
+  }
+
+  @Test
+  void testChunkedDownloadShouldCopyEveryChunk(@TempDir Path tempDir) throws Exception {
+    remoteFiles.put("/mock/file", "0123456789".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getChunkSize()).thenReturn(4L);
+    stubExec();
+
+    new PodBinaryTransfer(mockClient, mockOperation).copyFile("/mock/file", tempDir.resolve("file"));
+
+    assertThat(execCommands, equalTo(Arrays.asList(
+      "wc -c < '/mock/file'",
+      "test -r '/mock/file' && tail -c +1 '/mock/file' | head -c 4",
+      "test -r '/mock/file' && tail -c +5 '/mock/file' | head -c 4",
+      "test -r '/mock/file' && tail -c +9 '/mock/file' | head -c 2")));
+    assertThat(new String(Files.readAllBytes(tempDir.resolve("file")), StandardCharsets.UTF_8), equalTo("0123456789"));
+  }
+
+  @Test
+  void testCopyDirectoryShouldCopyEveryFile(@TempDir Path tempDir) throws Exception {
+    remoteFiles.put("/mock/dir/file", "file".getBytes(StandardCharsets.UTF_8));
+    remoteFiles.put("/mock/dir/nested/other", "other".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getTransferParallelism()).thenReturn(2);
+    stubExec();
+
+    new PodBinaryTransfer(mockClient, mockOperation).copyDirectory("/mock/dir", tempDir);
+
+    assertThat(new String(Files.readAllBytes(tempDir.resolve("mock/dir/file")), StandardCharsets.UTF_8), equalTo("file"));
+    assertThat(new String(Files.readAllBytes(tempDir.resolve("mock/dir/nested/other")), StandardCharsets.UTF_8), equalTo("other"));
+  }
+
+  @Test
+  void testCompressedDownloadShouldGunzipLocally(@TempDir Path tempDir) throws Exception {
+    remoteFiles.put("/mock/file", "0123456789".getBytes(StandardCharsets.UTF_8));
+    when(mockContext.getCompressionLevel()).thenReturn(6);
+    stubExec();
+
+    new PodBinaryTransfer(mockClient, mockOperation).copyFile("/mock/file", tempDir.resolve("file"));
+
+    assertThat(execCommands, equalTo(Collections.singletonList("test -r '/mock/file' && cat '/mock/file' | gzip -6")));
+    assertThat(new String(Files.readAllBytes(tempDir.resolve("file")), StandardCharsets.UTF_8), equalTo("0123456789"));
+  }
+
+  @Test
+  void testDownloadOfMissingFileShouldFail(@TempDir Path tempDir) {
+    stubExec();
+
+    final IOException failure = assertThrows(IOException.class,
+      () -> new PodBinaryTransfer(mockClient, mockOperation).copyFile("/mock/missing", tempDir.resolve("file")));
+
+    assertThat(failure.getMessage(), containsString("cat: can't open '/mock/missing': No such file or directory"));
+  }
+
+  @Test
+  void testCompressedDownloadOfMissingFileShouldFail(@TempDir Path tempDir) {
+    when(mockContext.getCompressionLevel()).thenReturn(6);
+    stubExec();
+
+    final IOException failure = assertThrows(IOException.class,
+      () -> new PodBinaryTransfer(mockClient, mockOperation).copyFile("/mock/missing", tempDir.resolve("file")));
+
+    assertThat(failure.getMessage(), containsString(
+      "Failed to run: test -r '/mock/missing' && cat '/mock/missing' | gzip -6: command terminated with non-zero exit code"));
+  }
+
+  @Test
+  void testStalledCommandShouldTimeOut(@TempDir Path tempDir) {
+    when(mockContext.getConfig()).thenReturn(new ConfigBuilder().withRequestTimeout(100).build());
+    final ExecWatch watch = mock(ExecWatch.class);
+    stubExec(command -> watch);
+
+    final IOException failure = assertThrows(IOException.class,
+      () -> new PodBinaryTransfer(mockClient, mockOperation).copyFile("/mock/file", tempDir.resolve("file")));
+
+    assertThat(failure.getMessage(), containsString("Timed out after 100 ms"));
+    verify(watch).close();
+  }
+
+  @Test
+  void testShellQuoteShouldEscapeSingleQuotes() {
+    assertThat(PodBinaryTransfer.shellQuote("/tmp/it's here"), equalTo("'/tmp/it'\\''s here'"));
+  }
+
+  private WebSocket openSession(InvocationOnMock invocation) {
+    final String command = invocation.getArgument(0, Request.class).url().queryParameterValues("command").get(2);
+    final int session = commands.size();
+    commands.add(command);
+    final PodUploadWebSocketListener listener = invocation.getArgument(1);
+    final ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+    final WebSocket webSocket = mock(WebSocket.class);
+    when(webSocket.send(any(ByteString.class))).thenAnswer(send -> {
+      final ByteString frame = send.getArgument(0);
+      stdin.write(frame.toByteArray(), 1, frame.size() - 1);
+      return true;
+    });
+    when(webSocket.close(anyInt(), anyString())).thenAnswer(close -> {
+      final byte[] received = stdin.toByteArray();
+      stdins.add(received);
+      if (command.contains("cat - ")) {
+        if (command.contains("cat - > ")) {
+          remoteFile.reset();
+        }
+        remoteFile.write(received, 0, session == lossySession ? received.length / 2 : received.length);
+        final Matcher target = UPLOAD_TARGET.matcher(command);
+        if (target.find()) {
+          remoteFiles.put(target.group(1), remoteFile.toByteArray());
+        }
+      }
+      listener.onClosed(webSocket, 1000, "done");
+      return true;
+    });
+    listener.onOpen(webSocket, null);
+    listener.onMessage(webSocket, ByteString.of((byte) 0));
+    return webSocket;
+  }
+
+  private void stubExec() {
+    stubExec(null);
+  }
+
+  /**
+   * Runs the commands against the remote files, the stalled ones never complete.
+   */
+  @SuppressWarnings("unchecked")
+  private void stubExec(Function<String, ExecWatch> stalled) {
+    when(mockOperation.writingOutput(any(WritableByteChannel.class))).thenAnswer(writing -> {
+      final WritableByteChannel stdout = writing.getArgument(0);
+      final TtyExecErrorable<String, OutputStream, PipedInputStream, ExecWatch> errorable = mock(TtyExecErrorable.class);
+      final TtyExecErrorChannelable<String, OutputStream, PipedInputStream, ExecWatch> errorChannelable = mock(TtyExecErrorChannelable.class);
+      final TtyExecable<String, ExecWatch> execable = mock(TtyExecable.class);
+      final AtomicReference<OutputStream> stderr = new AtomicReference<>();
+      final AtomicReference<OutputStream> status = new AtomicReference<>();
+      when(errorable.writingError(any(OutputStream.class))).thenAnswer(error -> {
+        stderr.set(error.getArgument(0));
+        return errorChannelable;
+      });
+      when(errorChannelable.writingErrorChannel(any(OutputStream.class))).thenAnswer(errorChannel -> {
+        status.set(errorChannel.getArgument(0));
+        return execable;
+      });
+      when(execable.usingListener(any())).thenAnswer(using -> {
+        final ExecListener listener = using.getArgument(0);
+        final Execable<String, ExecWatch> exec = mock(Execable.class);
+        when(exec.exec(any())).thenAnswer(run -> {
+          final String command = run.getArgument(2);
+          synchronized (execCommands) {
+            execCommands.add(command);
+          }
+          if (stalled != null) {
+            return stalled.apply(command);
+          }
+          try {
+            stdout.write(ByteBuffer.wrap(runRemotely(command)));
+            status.get().write("{\"metadata\":{},\"status\":\"Success\"}".getBytes(StandardCharsets.UTF_8));
+          } catch (FileNotFoundException e) {
+            if (e.getMessage() != null) {
+              stderr.get().write(("cat: can't open '" + e.getMessage() + "': No such file or directory").getBytes(StandardCharsets.UTF_8));
+            }
+            status.get().write(("{\"metadata\":{},\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\","
+              + "\"message\":\"command terminated with non-zero exit code: exit status 1\"}").getBytes(StandardCharsets.UTF_8));
+          }
+          listener.onClose(1000, "done");
+          return mock(ExecWatch.class);
+        });
+        return exec;
+      });
+      return errorable;
+    });
+  }
+
+  private byte[] runRemotely(String command) throws IOException {
+    final Matcher matcher = REMOTE_COMMAND.matcher(command);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Unexpected command: " + command);
+    }
+    final String path = matcher.group(3);
+    byte[] output;
+    if (matcher.group(1).equals("find ")) {
+      final String type = matcher.group(4);
+      output = remoteFiles.keySet().stream()
+        .flatMap(file -> type.equals(" -type f") ? Stream.of(file) : Stream.of(file.substring(0, file.lastIndexOf('/'))))
+        .filter(file -> file.startsWith(path))
+        .distinct()
+        .collect(Collectors.joining("\n"))
+        .getBytes(StandardCharsets.UTF_8);
+    } else {
+      final byte[] content = remoteFiles.get(path);
+      if (content == null && command.startsWith("test -r ")) {
+        // the test fails without a message
+        throw new FileNotFoundException();
+      } else if (content == null && matcher.group(5) == null && matcher.group(6) == null) {
+        throw new FileNotFoundException(path);
+      }
+      // like sh, a pipeline reading a missing file exits with the status of its last command, fed nothing
+      output = content != null ? content : new byte[0];
+      if (matcher.group(1).equals("wc -c < ")) {
+        output = (output.length + "\n").getBytes(StandardCharsets.UTF_8);
+      } else if (matcher.group(2) != null) {
+        final int offset = Math.min(Integer.parseInt(matcher.group(2)) - 1, output.length);
+        output = Arrays.copyOfRange(output, offset, Math.min(offset + Integer.parseInt(matcher.group(5)), output.length));
+      }
+    }
+    if (matcher.group(6) != null) {
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(output);
+      }
+      output = compressed.toByteArray();
+    }
+    return output;
+  }
+
+}
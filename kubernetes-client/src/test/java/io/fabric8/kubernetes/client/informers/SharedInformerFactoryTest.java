@@ -15,12 +15,17 @@
  */
 package io.fabric8.kubernetes.client.informers;
 
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.ObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ConcurrentCache;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
 import io.fabric8.kubernetes.model.annotation.Version;
@@ -29,6 +34,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Collections;
 import java.util.concurrent.ExecutorService;
 
 import static io.fabric8.kubernetes.client.informers.SharedInformerFactory.getInformerKey;
@@ -78,6 +84,21 @@ class SharedInformerFactoryTest {
       .withApiGroupVersion("v1beta1")
       .withApiGroupName("extensions")
       .withPlural("deployments"))).isEqualTo("extensions/v1beta1/deployments");
+    assertThat(getInformerKey(new OperationContext()
+      .withApiGroupVersion("v1")
+      .withNamespace("ns1")
+      .withPlural("pods")
+      .withLabels(Collections.singletonMap("app", "foo"))
+      .withFields(Collections.singletonMap("spec.nodeName", "node1")))).isEqualTo("v1/pods/ns1/labels:app=foo/fields:spec.nodeName=node1");
+    assertThat(getInformerKey(new OperationContext()
+      .withApiGroupVersion("v1")
+      .withPlural("pods")
+      .withLabels(Collections.singletonMap("app", "foo"))
+      .withLabelsNot(Collections.singletonMap("canary", new String[]{null}))
+      .withLabelsIn(Collections.singletonMap("tier", new String[]{"web", "api"}))
+      .withLabelsNotIn(Collections.singletonMap("env", new String[]{"dev"}))
+      .withFieldsNot(Collections.singletonMap("status.phase", new String[]{"Failed"}))))
+      .isEqualTo("v1/pods/labels:!canary,app=foo,env notin (dev),tier in (api,web)/fields:status.phase!=Failed");
   }
 
   @Test
@@ -112,6 +133,89 @@ class SharedInformerFactoryTest {
     assertThat(sharedInformerFactory.getExistingSharedIndexInformer(Pod.class)).isNotNull();
   }
 
+  @Test
+  void testInformersForSameTypeWithDifferentSelectors() {
+    // Given
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactory(executorService, mockClient, config);
+
+    // When
+    SharedIndexInformer<Pod> allPods = sharedInformerFactory.sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    SharedIndexInformer<Pod> fooPods = sharedInformerFactory.withLabel("app", "foo").sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    SharedIndexInformer<Pod> barPods = sharedInformerFactory.withLabel("app", "bar").sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    SharedIndexInformer<Pod> barPodsOnNode = sharedInformerFactory.withField("spec.nodeName", "node1").sharedIndexInformerFor(Pod.class, 10 * 1000L);
+
+    // Then
+    assertThat(sharedInformerFactory.getInformers()).hasSize(4);
+    assertThat(sharedInformerFactory.getExistingSharedIndexInformers(Pod.class))
+      .containsExactlyInAnyOrder(allPods, fooPods, barPods, barPodsOnNode);
+  }
+
+  @Test
+  void testSelectorsApplyToAllNextInformersLikeNamespace() {
+    // Given
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactory(executorService, mockClient, config);
+
+    // When
+    sharedInformerFactory.inNamespace("ns1").withLabel("app", "foo").sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    sharedInformerFactory.sharedIndexInformerFor(Deployment.class, 10 * 1000L);
+
+    // Then
+    assertThat(sharedInformerFactory.getInformers())
+      .containsOnlyKeys("v1/pods/ns1/labels:app=foo", "apps/v1/deployments/ns1/labels:app=foo");
+  }
+
+  @Test
+  void testSetBasedSelectors() {
+    // Given
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactory(executorService, mockClient, config);
+
+    // When
+    sharedInformerFactory
+      .withLabelSelector(new LabelSelectorBuilder()
+        .addToMatchLabels("app", "foo")
+        .addNewMatchExpression().withKey("tier").withOperator("In").withValues("web", "api").endMatchExpression()
+        .addNewMatchExpression().withKey("canary").withOperator("DoesNotExist").endMatchExpression()
+        .build())
+      .withLabelNotIn("env", "dev")
+      .withoutField("status.phase", "Failed")
+      .withInvolvedObject(new ObjectReferenceBuilder().withKind("Pod").withName("pod1").build())
+      .sharedIndexInformerFor(Pod.class, 10 * 1000L);
+
+    // Then
+    assertThat(sharedInformerFactory.getInformers())
+      .containsOnlyKeys("v1/pods/labels:!canary,app=foo,env notin (dev),tier in (api,web)" +
+        "/fields:involvedObject.kind=Pod,involvedObject.name=pod1,status.phase!=Failed");
+  }
+
+  @Test
+  void testConcurrentCacheIsOptIn() {
+    // Given
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactory(executorService, mockClient, config);
+
+    // When
+    SharedIndexInformer<Pod> pods = sharedInformerFactory.sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    SharedIndexInformer<Deployment> deployments = sharedInformerFactory.withConcurrentCache(true).sharedIndexInformerFor(Deployment.class, 10 * 1000L);
+
+    // Then
+    assertThat(pods.getIndexer()).isExactlyInstanceOf(Cache.class);
+    assertThat(deployments.getIndexer()).isExactlyInstanceOf(ConcurrentCache.class);
+  }
+
+  @Test
+  void testMetadataInformerCoexistsWithInformerForSameType() {
+    // Given
+    SharedInformerFactory sharedInformerFactory = new SharedInformerFactory(executorService, mockClient, config);
+
+    // When
+    SharedIndexInformer<Pod> pods = sharedInformerFactory.sharedIndexInformerFor(Pod.class, 10 * 1000L);
+    SharedIndexInformer<PartialObjectMetadata> podsMetadata = sharedInformerFactory.sharedIndexInformerForMetadata(Pod.class, 10 * 1000L);
+
+    // Then
+    assertThat(sharedInformerFactory.getInformers()).hasSize(2);
+    assertThat(sharedInformerFactory.getExistingSharedIndexInformers(Pod.class)).containsExactly(pods);
+    assertThat(sharedInformerFactory.getExistingSharedIndexInformers(PartialObjectMetadata.class)).containsExactly(podsMetadata);
+  }
+
   @Test
   void testGetExistingSharedIndexInformerWithKindDifferentFromClassName() {
     // Given
@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.EventType;
+import io.fabric8.kubernetes.client.informers.ResourceEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchProcessorListenerTest {
+
+  @Test
+  void testNotificationsCoalescedPerKey() throws InterruptedException {
+    Pod foo = pod("foo", "1");
+    Pod fooV2 = pod("foo", "2");
+    Pod fooV3 = pod("foo", "3");
+    Pod bar = pod("bar", "1");
+    Pod baz = pod("baz", "1");
+    Pod bazV2 = pod("baz", "2");
+    BlockingQueue<List<ResourceEvent<Pod>>> batches = new LinkedBlockingQueue<>();
+    BatchProcessorListener<Pod> listener = new BatchProcessorListener<>(batches::add, Cache::metaNamespaceKeyFunc, 10, 0, 0);
+
+    listener.add(new ProcessorListener.AddNotification<>(foo));
+    listener.add(new ProcessorListener.UpdateNotification<>(bar, bar));
+    listener.add(new ProcessorListener.UpdateNotification<>(foo, fooV2));
+    listener.add(new ProcessorListener.UpdateNotification<>(baz, bazV2));
+    listener.add(new ProcessorListener.UpdateNotification<>(fooV2, fooV3));
+    listener.add(new ProcessorListener.DeleteNotification<>(bar));
+    listener.add(new ProcessorListener.UpdateNotification<>(bazV2, baz));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      listener.start(executor);
+      List<ResourceEvent<Pod>> events = batches.poll(5, TimeUnit.SECONDS);
+
+      assertNotNull(events);
+      assertEquals(3, events.size());
+      assertEquals(EventType.ADDITION, events.get(0).getType());
+      assertNull(events.get(0).getOldObject());
+      assertEquals(fooV3, events.get(0).getNewObject());
+      assertEquals(EventType.DELETION, events.get(1).getType());
+      assertEquals(bar, events.get(1).getOldObject());
+      assertEquals(EventType.UPDATION, events.get(2).getType());
+      assertEquals(baz, events.get(2).getOldObject());
+      assertEquals(baz, events.get(2).getNewObject());
+    } finally {
+      listener.stop();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testBatchesBoundedBySize() throws InterruptedException {
+    BlockingQueue<List<ResourceEvent<Pod>>> batches = new LinkedBlockingQueue<>();
+    BatchProcessorListener<Pod> listener = new BatchProcessorListener<>(batches::add, Cache::metaNamespaceKeyFunc, 2, 60000, 0);
+    for (int i = 0; i < 5; i++) {
+      listener.add(new ProcessorListener.AddNotification<>(pod("pod" + i, "1")));
+    }
+
+    Thread listenerThread = new Thread(listener::run);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+
+    try {
+      assertEquals(2, batches.poll(5, TimeUnit.SECONDS).size());
+      assertEquals(2, batches.poll(5, TimeUnit.SECONDS).size());
+      // the last batch isn't full, so it's delivered after the delay
+      assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+    } finally {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Test
+  void testBatchesBoundedByDelay() throws InterruptedException {
+    BlockingQueue<List<ResourceEvent<Pod>>> batches = new LinkedBlockingQueue<>();
+    BatchProcessorListener<Pod> listener = new BatchProcessorListener<>(batches::add, Cache::metaNamespaceKeyFunc, 100, 100, 0);
+    Thread listenerThread = new Thread(listener::run);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+
+    try {
+      listener.add(new ProcessorListener.AddNotification<>(pod("pod1", "1")));
+      // the informer distributes the deletions noticed by a re-list as raw notifications
+      listener.add((ProcessorListener.Notification) new ProcessorListener.DeleteNotification<>(new DeltaFIFO.DeletedFinalStateUnknown<>("default/pod2", pod("pod2", "1"))));
+
+      List<ResourceEvent<Pod>> events = batches.poll(5, TimeUnit.SECONDS);
+      assertNotNull(events);
+      assertEquals(2, events.size());
+      assertEquals(EventType.DELETION, events.get(1).getType());
+      assertEquals("pod2", events.get(1).getOldObject().getMetadata().getName());
+      assertTrue(events.get(1).isDeletedFinalStateUnknown());
+    } finally {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Test
+  void testBatchesBoundedByDelayOnExecutor() throws InterruptedException {
+    BlockingQueue<List<ResourceEvent<Pod>>> batches = new LinkedBlockingQueue<>();
+    SharedProcessor<Pod> processor = new SharedProcessor<>();
+    processor.addAndStartListener(new BatchProcessorListener<>(batches::add, Cache::metaNamespaceKeyFunc, 3, 500, 0));
+
+    try {
+      processor.distribute(new ProcessorListener.AddNotification<>(pod("pod1", "1")), false);
+      Thread.sleep(50);
+      processor.distribute(new ProcessorListener.AddNotification<>(pod("pod2", "1")), false);
+      assertEquals(2, batches.poll(5, TimeUnit.SECONDS).size());
+
+      // a full batch doesn't wait for the delay
+      long start = System.nanoTime();
+      for (int i = 0; i < 3; i++) {
+        processor.distribute(new ProcessorListener.AddNotification<>(pod("pod" + i, "2")), false);
+      }
+      assertEquals(3, batches.poll(5, TimeUnit.SECONDS).size());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+    } finally {
+      processor.stop();
+    }
+  }
+
+  @Test
+  void testInvalidBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> new BatchProcessorListener<Pod>(events -> {}, Cache::metaNamespaceKeyFunc, 0, 0, 0));
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion).endMetadata().build();
+  }
+}
@@ -20,12 +20,16 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 class CacheTest {
   private static Cache cache = new Cache("mock", CacheTest::mockIndexFunction, CacheTest::mockKeyFunction);
@@ -125,6 +129,37 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testReplaceOnlyReindexesChangedObjects() {
+    AtomicInteger indexFuncCalls = new AtomicInteger();
+    Cache<Pod> podCache = new Cache<>("node", (Pod pod) -> {
+      indexFuncCalls.incrementAndGet();
+      return Collections.singletonList(pod.getSpec().getNodeName());
+    }, Cache::metaNamespaceKeyFunc);
+    Pod pod1 = podWithResourceVersion("pod1", "node1", "1");
+    Pod pod2 = podWithResourceVersion("pod2", "node1", "1");
+    Pod pod3 = podWithResourceVersion("pod3", "node1", "1");
+    podCache.replace(Arrays.asList(pod1, pod2, pod3), "1");
+    indexFuncCalls.set(0);
+
+    podCache.replace(Arrays.asList(podWithResourceVersion("pod1", "node1", "1"), podWithResourceVersion("pod2", "node2", "2"),
+      podWithResourceVersion("pod4", "node2", "1")), "2");
+
+    // pod2 old and new versions, pod3 deletion and pod4 addition
+    assertEquals(4, indexFuncCalls.get());
+    assertEquals(Arrays.asList("pod1"), podCache.indexKeys("node", "node1"));
+    assertEquals(new HashSet<>(Arrays.asList("pod2", "pod4")), new HashSet<>(podCache.indexKeys("node", "node2")));
+    assertEquals(3, podCache.list().size());
+    assertNull(podCache.getByKey("pod3"));
+  }
+
+  static Pod podWithResourceVersion(String name, String nodeName, String resourceVersion) {
+    return new PodBuilder()
+      .withNewMetadata().withName(name).withResourceVersion(resourceVersion).endMetadata()
+      .withNewSpec().withNodeName(nodeName).endSpec()
+      .build();
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Arrays.asList("null");
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCacheTest {
+
+  @Test
+  void testAddUpdateDelete() {
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>();
+    Pod pod = pod("ns1", "pod1", "node1");
+
+    cache.add(pod);
+    assertEquals(Collections.singletonList("ns1/pod1"), cache.listKeys());
+    assertEquals(pod, cache.getByKey("ns1/pod1"));
+    assertEquals(pod, cache.get(pod));
+
+    Pod updatedPod = pod("ns1", "pod1", "node2");
+    cache.update(updatedPod);
+    assertEquals(1, cache.list().size());
+    assertEquals(updatedPod, cache.getByKey("ns1/pod1"));
+
+    cache.delete(updatedPod);
+    assertTrue(cache.list().isEmpty());
+    assertTrue(cache.byIndex(Cache.NAMESPACE_INDEX, "ns1").isEmpty());
+    assertTrue(cache.indexKeys(Cache.NAMESPACE_INDEX, "ns1").isEmpty());
+  }
+
+  @Test
+  void testIndexUpdatedOnUpdate() {
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>();
+    cache.addIndexers(Collections.singletonMap("node", (Pod p) -> Collections.singletonList(p.getSpec().getNodeName())));
+
+    cache.add(pod("ns1", "pod1", "node1"));
+    cache.add(pod("ns1", "pod2", "node1"));
+    cache.update(pod("ns1", "pod2", "node2"));
+
+    assertEquals(1, cache.byIndex("node", "node1").size());
+    assertEquals(Collections.singletonList("ns1/pod2"), cache.indexKeys("node", "node2"));
+    assertEquals(2, cache.byIndex(Cache.NAMESPACE_INDEX, "ns1").size());
+    assertEquals(2, cache.index(Cache.NAMESPACE_INDEX, pod("ns1", "any", "any")).size());
+  }
+
+  @Test
+  void testReplace() {
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>();
+    cache.add(pod("ns1", "pod1", "node1"));
+
+    cache.replace(Arrays.asList(pod("ns2", "pod2", "node1"), pod("ns2", "pod3", "node1")), "1");
+
+    assertEquals(2, cache.list().size());
+    assertTrue(cache.byIndex(Cache.NAMESPACE_INDEX, "ns1").isEmpty());
+    assertEquals(2, cache.byIndex(Cache.NAMESPACE_INDEX, "ns2").size());
+  }
+
+  @Test
+  void testReplaceOnlyReindexesChangedObjects() {
+    AtomicInteger indexFuncCalls = new AtomicInteger();
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>("node", (Pod pod) -> {
+      indexFuncCalls.incrementAndGet();
+      return Collections.singletonList(pod.getSpec().getNodeName());
+    }, Cache::metaNamespaceKeyFunc);
+    cache.replace(Arrays.asList(CacheTest.podWithResourceVersion("pod1", "node1", "1"),
+      CacheTest.podWithResourceVersion("pod2", "node1", "1"), CacheTest.podWithResourceVersion("pod3", "node1", "1")), "1");
+    indexFuncCalls.set(0);
+
+    cache.replace(Arrays.asList(CacheTest.podWithResourceVersion("pod1", "node1", "1"),
+      CacheTest.podWithResourceVersion("pod2", "node2", "2"), CacheTest.podWithResourceVersion("pod4", "node2", "1")), "2");
+
+    // pod2 old and new versions, pod3 deletion and pod4 addition
+    assertEquals(4, indexFuncCalls.get());
+    assertEquals(Collections.singletonList("pod1"), cache.indexKeys("node", "node1"));
+    assertEquals(new HashSet<>(Arrays.asList("pod2", "pod4")), new HashSet<>(cache.indexKeys("node", "node2")));
+    assertEquals(3, cache.list().size());
+    assertNull(cache.getByKey("pod3"));
+  }
+
+  @Test
+  void testClusterScopedObjectsIndexedUnderNullNamespace() {
+    ConcurrentCache<Namespace> cache = new ConcurrentCache<>();
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+
+    cache.add(namespace);
+
+    assertEquals(Collections.singletonList(namespace), cache.byIndex(Cache.NAMESPACE_INDEX, null));
+    assertEquals(namespace, cache.getByKey("ns1"));
+  }
+
+  @Test
+  void testAddIndexers() {
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>();
+    Map<String, Function<Pod, List<String>>> indexers = new HashMap<>();
+    indexers.put(Cache.NAMESPACE_INDEX, (Pod p) -> Collections.emptyList());
+
+    assertThrows(IllegalArgumentException.class, () -> cache.addIndexers(indexers));
+    assertThrows(IllegalArgumentException.class, () -> cache.byIndex("missing", "value"));
+
+    cache.add(pod("ns1", "pod1", "node1"));
+    assertThrows(IllegalStateException.class, () -> cache.addIndexers(Collections.singletonMap("node", (Pod p) -> Collections.emptyList())));
+  }
+
+  @Test
+  void testReadsWhileWriting() throws Exception {
+    ConcurrentCache<Pod> cache = new ConcurrentCache<>();
+    List<Pod> pods = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      pods.add(pod("ns" + (i % 4), "pod" + i, "node1"));
+    }
+    cache.replace(pods, "1");
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      Future<?> writer = executor.submit(() -> {
+        for (int i = 0; i < 2000; i++) {
+          Pod pod = pods.get(i % pods.size());
+          cache.delete(pod);
+          cache.add(pod);
+          if (i % 500 == 0) {
+            cache.replace(pods, String.valueOf(i));
+          }
+        }
+        writing.set(false);
+      });
+      Future<?> reader = executor.submit(() -> {
+        while (writing.get()) {
+          for (Pod pod : cache.byIndex(Cache.NAMESPACE_INDEX, "ns1")) {
+            assertEquals("ns1", pod.getMetadata().getNamespace());
+          }
+          for (Pod pod : cache.list()) {
+            assertTrue(pods.contains(pod));
+          }
+        }
+      });
+      writer.get(10, TimeUnit.SECONDS);
+      reader.get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(pods.size(), cache.list().size());
+    assertEquals(25, cache.byIndex(Cache.NAMESPACE_INDEX, "ns1").size());
+  }
+
+  private static Pod pod(String namespace, String name, String nodeName) {
+    return new PodBuilder()
+      .withNewMetadata().withNamespace(namespace).withName(name).endMetadata()
+      .withNewSpec().withNodeName(nodeName).endSpec()
+      .build();
+  }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -118,6 +119,44 @@ class DeltaFIFOTest {
     deltaFIFO.getItems().remove(Cache.deletionHandlingMetaNamespaceKeyFunc(foo1));
   }
 
+  @Test
+  void testUpdateCompression() {
+    Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").withResourceVersion("1").endMetadata().build();
+    Pod foo1v2 = new PodBuilder(foo1).editMetadata().withResourceVersion("2").endMetadata().build();
+    Pod foo1v3 = new PodBuilder(foo1).editMetadata().withResourceVersion("3").endMetadata().build();
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, new Cache<>());
+
+    deltaFIFO.add(foo1);
+    deltaFIFO.update(foo1v2);
+    deltaFIFO.update(foo1v3);
+
+    Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>> deltas = deltaFIFO.getItems().get(Cache.deletionHandlingMetaNamespaceKeyFunc(foo1));
+    assertEquals(2, deltas.size());
+    assertEquals(DeltaFIFO.DeltaType.ADDITION, deltas.peekFirst().getKey());
+    assertEquals(foo1, deltas.peekFirst().getValue());
+    assertEquals(DeltaFIFO.DeltaType.UPDATION, deltas.peekLast().getKey());
+    assertEquals(foo1v3, deltas.peekLast().getValue());
+  }
+
+  @Test
+  void testBatchPop() throws InterruptedException {
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, new Cache<>());
+    for (int i = 0; i < 5; i++) {
+      deltaFIFO.add(new PodBuilder().withNewMetadata().withName("foo" + i).withNamespace("default").endMetadata().build());
+    }
+    List<Object> popped = new ArrayList<>();
+
+    assertEquals(3, deltaFIFO.pop(3, deltas -> popped.add(deltas.peekLast().getValue())));
+    assertEquals(2, deltaFIFO.poll(3, deltas -> popped.add(deltas.peekLast().getValue())));
+    assertEquals(0, deltaFIFO.poll(3, deltas -> popped.add(deltas.peekLast().getValue())));
+
+    assertEquals(5, popped.size());
+    for (int i = 0; i < 5; i++) {
+      assertEquals("foo" + i, ((Pod) popped.get(i)).getMetadata().getName());
+    }
+    assertTrue(deltaFIFO.isEmpty());
+  }
+
   @Test
   void testResync() {
     Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").endMetadata().build();
@@ -17,11 +17,23 @@ package io.fabric8.kubernetes.client.informers.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.EventHandlerMetrics;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 class ProcessorListenerTest {
   private static boolean addNotificationReceived, updateNotificationReceived, deleteNotificationReceived;
@@ -66,4 +78,130 @@ class ProcessorListenerTest {
     assertTrue(deleteNotificationReceived);
 
   }
+
+  @Test
+  void testNotificationHandlingWithSharedExecutor() throws InterruptedException {
+    Pod pod = new PodBuilder().withNewMetadata().withName("foo").withNamespace("default").endMetadata().build();
+    CountDownLatch notificationsLatch = new CountDownLatch(3);
+    ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) { notificationsLatch.countDown(); }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) { notificationsLatch.countDown(); }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { notificationsLatch.countDown(); }
+    };
+    ProcessorListener<Pod> listener1 = new ProcessorListener<>(handler, 0);
+    ProcessorListener<Pod> listener2 = new ProcessorListener<>(handler, 0);
+    ExecutorService sharedExecutor = Executors.newSingleThreadExecutor();
+
+    try {
+      // Both listeners share a single thread, which an idle listener must not hold
+      listener1.start(sharedExecutor);
+      listener2.start(sharedExecutor);
+      listener1.add(new ProcessorListener.AddNotification<>(pod));
+      listener2.add(new ProcessorListener.UpdateNotification<>(null, pod));
+      listener1.add(new ProcessorListener.DeleteNotification<>(pod));
+
+      assertTrue(notificationsLatch.await(5, TimeUnit.SECONDS));
+    } finally {
+      listener1.stop();
+      listener2.stop();
+      sharedExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testCoalesceWhenQueueIsFull() {
+    ProcessorListener<Pod> listener = new ProcessorListener<>(recordingHandler(new ArrayList<>()), 0, 2, OverflowPolicy.COALESCE, Cache::metaNamespaceKeyFunc);
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("foo", "1")));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod("foo", "1"), pod("foo", "2")));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod("bar", "1"), pod("bar", "2")));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod("bar", "2"), pod("bar", "3")));
+
+    assertEquals(2, listener.getQueueSize());
+    assertEquals(2, listener.getCoalescedNotifications());
+    assertEquals(0, listener.getDroppedNotifications());
+  }
+
+  @Test
+  void testMetricsSnapshot() {
+    ProcessorListener<Pod> listener = new ProcessorListener<>(recordingHandler(new ArrayList<>()), 0, 2, OverflowPolicy.DROP_AND_RESYNC, Cache::metaNamespaceKeyFunc);
+    listener.add(new ProcessorListener.AddNotification<>(pod("foo", "1")));
+
+    EventHandlerMetrics metrics = listener.getMetrics();
+    listener.add(new ProcessorListener.AddNotification<>(pod("bar", "1")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("baz", "1")));
+
+    assertFalse(metrics instanceof ProcessorListener);
+    assertEquals(1, metrics.getQueueSize());
+    assertEquals(2, metrics.getQueueCapacity());
+    assertEquals(0, metrics.getDroppedNotifications());
+    assertEquals(1, listener.getMetrics().getDroppedNotifications());
+  }
+
+  @Test
+  void testDropAndResyncWhenQueueIsFull() {
+    ProcessorListener<Pod> listener = new ProcessorListener<>(recordingHandler(new ArrayList<>()), 0, 1, OverflowPolicy.DROP_AND_RESYNC, Cache::metaNamespaceKeyFunc);
+    assertFalse(listener.shouldResync(ZonedDateTime.now()));
+
+    listener.add(new ProcessorListener.AddNotification<>(pod("foo", "1")));
+    listener.add(new ProcessorListener.AddNotification<>(pod("bar", "1")));
+
+    assertEquals(1, listener.getQueueSize());
+    assertEquals(1, listener.getDroppedNotifications());
+    assertTrue(listener.shouldResync(ZonedDateTime.now()));
+    assertTrue(listener.getLagMillis() >= 0);
+
+    listener.determineNextResync(ZonedDateTime.now());
+    assertFalse(listener.shouldResync(ZonedDateTime.now()));
+  }
+
+  @Test
+  void testBlockWhenQueueIsFullWithSharedExecutor() throws Exception {
+    List<String> updates = Collections.synchronizedList(new ArrayList<>());
+    ProcessorListener<Pod> listener = new ProcessorListener<>(recordingHandler(updates), 0, 1, OverflowPolicy.BLOCK, Cache::metaNamespaceKeyFunc);
+    ExecutorService sharedExecutor = Executors.newSingleThreadExecutor();
+
+    try {
+      listener.start(sharedExecutor);
+      // the distributor runs on the single shared thread, so the listener's drain tasks can't run until it's done
+      sharedExecutor.submit(() -> {
+        for (int i = 0; i < 10; i++) {
+          listener.add(new ProcessorListener.UpdateNotification<>(null, pod("foo", String.valueOf(i))));
+        }
+      }).get(5, TimeUnit.SECONDS);
+
+      for (int i = 0; i < 50 && updates.size() < 10; i++) {
+        Thread.sleep(100);
+      }
+      assertEquals(10, updates.size());
+      assertEquals("0", updates.get(0));
+      assertEquals("9", updates.get(9));
+      assertEquals(0, listener.getDroppedNotifications());
+    } finally {
+      listener.stop();
+      sharedExecutor.shutdownNow();
+    }
+  }
+
+  private static ResourceEventHandler<Pod> recordingHandler(List<String> updates) {
+    return new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) { updates.add(obj.getMetadata().getResourceVersion()); }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) { updates.add(newObj.getMetadata().getResourceVersion()); }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+    };
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion).endMetadata().build();
+  }
 }
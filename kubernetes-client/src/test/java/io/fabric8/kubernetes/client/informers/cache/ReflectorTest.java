@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReflectorTest {
+  private abstract class AbstractPodListerWatcher implements ListerWatcher<Pod, PodList> {};
+
+  private final ListerWatcher<Pod, PodList> listerWatcher = Mockito.mock(AbstractPodListerWatcher.class);
+  private final Store<Pod> store = Mockito.mock(Store.class);
+  private final OperationContext operationContext = Mockito.mock(OperationContext.class, Mockito.RETURNS_DEEP_STUBS);
+
+  @Test
+  @DisplayName("Paginated list should replace the store once with the items of all pages")
+  void testListInPages() {
+    // Given
+    Pod pod1 = pod("pod1");
+    Pod pod2 = pod("pod2");
+    when(listerWatcher.list(argThat(options -> options != null && options.getContinue() == null), any(), any()))
+      .thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").withContinue("next").endMetadata().withItems(pod1).build());
+    when(listerWatcher.list(argThat(options -> options != null && "next".equals(options.getContinue())), any(), any()))
+      .thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").endMetadata().withItems(pod2).build());
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, listerWatcher, store, operationContext, 0L,
+      Mockito.mock(ScheduledExecutorService.class), 1L);
+
+    // When
+    reflector.listAndWatch();
+
+    // Then
+    verify(store).replace(Arrays.asList(pod1, pod2), "10");
+  }
+
+  @Test
+  @DisplayName("Failure on a later page should leave the store untouched")
+  void testFailureOnLaterPage() {
+    // Given
+    when(listerWatcher.list(argThat(options -> options != null && options.getContinue() == null), any(), any()))
+      .thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").withContinue("expired").endMetadata().withItems(pod("pod1")).build());
+    when(listerWatcher.list(argThat(options -> options != null && "expired".equals(options.getContinue())), any(), any()))
+      .thenThrow(new KubernetesClientException("Internal error", 500, null));
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, listerWatcher, store, operationContext, 0L,
+      Mockito.mock(ScheduledExecutorService.class), 1L);
+
+    // When
+    assertThrows(KubernetesClientException.class, reflector::listAndWatch);
+
+    // Then
+    verify(store, never()).replace(Mockito.anyList(), anyString());
+    verify(listerWatcher, never()).watch(any(ListOptions.class), any(), any(), any());
+    assertNull(reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  @DisplayName("Expired continue token should restart the list without limit")
+  void testExpiredContinueToken() {
+    // Given
+    Pod pod1 = pod("pod1");
+    Pod pod2 = pod("pod2");
+    when(listerWatcher.list(argThat(options -> options != null && options.getLimit() != null && options.getContinue() == null), any(), any()))
+      .thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").withContinue("expired").endMetadata().withItems(pod1).build());
+    when(listerWatcher.list(argThat(options -> options != null && "expired".equals(options.getContinue())), any(), any()))
+      .thenThrow(new KubernetesClientException("Expired", 410, null));
+    when(listerWatcher.list(argThat(options -> options != null && options.getLimit() == null && options.getContinue() == null), any(), any()))
+      .thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("12").endMetadata().withItems(pod1, pod2).build());
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, listerWatcher, store, operationContext, 0L,
+      Mockito.mock(ScheduledExecutorService.class), 1L);
+
+    // When
+    reflector.listAndWatch();
+
+    // Then
+    verify(store).replace(Arrays.asList(pod1, pod2), "12");
+    assertEquals("12", reflector.getLastSyncResourceVersion());
+    verify(listerWatcher).watch(argThat(options -> options != null && "12".equals(options.getResourceVersion())), any(), any(), any());
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withNamespace("test").withName(name).endMetadata().build();
+  }
+}
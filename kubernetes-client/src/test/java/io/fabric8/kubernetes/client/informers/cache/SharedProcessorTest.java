@@ -20,7 +20,12 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SharedProcessorTest {
   @Test
@@ -51,6 +56,27 @@ class SharedProcessorTest {
     assertTrue(expectDeleteHandler.isSatisfied());
   }
 
+  @Test
+  void testSharedExecutorIsNotShutDownOnStop() {
+    ExecutorService shared = Executors.newSingleThreadExecutor();
+    ExecutorService owned = Executors.newSingleThreadExecutor();
+    try {
+      new SharedProcessor<Pod>(shared, false).stop();
+      new SharedProcessor<Pod>(owned, true).stop();
+
+      assertFalse(shared.isShutdown());
+      assertTrue(owned.isShutdown());
+    } finally {
+      shared.shutdownNow();
+      owned.shutdownNow();
+    }
+  }
+
+  @Test
+  void testOwnedExecutorMustBeExecutorService() {
+    assertThrows(IllegalArgumentException.class, () -> new SharedProcessor<Pod>(Runnable::run, true));
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
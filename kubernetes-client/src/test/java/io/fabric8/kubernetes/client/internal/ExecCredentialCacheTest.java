@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ExecCredentialCacheTest {
+
+  private static final Instant NOW = Instant.parse("2021-04-01T10:00:00Z");
+
+  private final MutableClock clock = new MutableClock(NOW);
+  private final AtomicInteger loads = new AtomicInteger();
+  private ScheduledExecutorService scheduler;
+  private ExecCredentialCache cache;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = mock(ScheduledExecutorService.class);
+    cache = new ExecCredentialCache(clock, scheduler);
+  }
+
+  @Test
+  void tokenIsReusedUntilItExpires() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(NOW.plusSeconds(600)));
+
+    assertEquals("token-1", credential.getToken());
+    clock.instant = NOW.plusSeconds(599);
+    assertEquals("token-1", credential.getToken());
+    assertEquals(1, loads.get());
+
+    clock.instant = NOW.plusSeconds(600);
+    assertEquals("token-2", credential.getToken());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void tokenWithoutExpirationIsReusedUntilRejected() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(null));
+
+    assertEquals("token-1", credential.getToken());
+    clock.instant = NOW.plusSeconds(3600 * 24);
+    assertEquals("token-1", credential.getToken());
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    assertEquals("token-2", credential.refresh("token-1"));
+    assertEquals("token-2", credential.getToken());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void sameKeySharesTheCredential() {
+    assertSame(cache.get("key", loader(null)), cache.get("key", loader(null)));
+  }
+
+  @Test
+  void concurrentRefreshesOfTheSameTokenLoadOnce() throws Exception {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(null));
+    credential.getToken();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<String>> refreshes = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        refreshes.add(executor.submit(() -> {
+          start.await();
+          return credential.refresh("token-1");
+        }));
+      }
+      start.countDown();
+      for (Future<String> refresh : refreshes) {
+        assertEquals("token-2", refresh.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void tokenInUseIsRefreshedBeforeItExpires() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(NOW.plusSeconds(600)));
+    credential.getToken();
+    ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(refresh.capture(), eq(570_000L), eq(TimeUnit.MILLISECONDS));
+
+    credential.getToken();
+    clock.instant = NOW.plusSeconds(570);
+    refresh.getValue().run();
+
+    assertEquals(2, loads.get());
+    assertEquals("token-2", credential.getToken());
+  }
+
+  @Test
+  void unusedTokenIsNotRefreshedInTheBackground() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(NOW.plusSeconds(600)));
+    credential.getToken();
+    ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(refresh.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    refresh.getValue().run();
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void missingTokenIsNotCached() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", () -> {
+      loads.incrementAndGet();
+      return null;
+    });
+
+    assertNull(credential.getToken());
+    assertNull(credential.getToken());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void expiredTokenIsNotServedWhenThePluginReturnsNone() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", () ->
+      loads.incrementAndGet() == 1 ? new ExecCredentialCache.Credential("token-1", NOW.plusSeconds(600)) : null);
+    assertEquals("token-1", credential.getToken());
+
+    clock.instant = NOW.plusSeconds(600);
+
+    assertNull(credential.getToken());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void expiredCredentialsAreEvicted() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(NOW.plusSeconds(600)));
+    credential.getToken();
+
+    clock.instant = NOW.plusSeconds(600);
+
+    assertNotSame(credential, cache.get("key", loader(null)));
+  }
+
+  @Test
+  void cacheIsBounded() {
+    ExecCredentialCache.CachedCredential first = cache.get("key-0", loader(null));
+    for (int i = 1; i <= ExecCredentialCache.MAX_ENTRIES; i++) {
+      cache.get("key-" + i, loader(null));
+    }
+
+    assertEquals(ExecCredentialCache.MAX_ENTRIES, cache.size());
+    assertNotSame(first, cache.get("key-0", loader(null)));
+  }
+
+  @Test
+  void issuedTokens() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", loader(null));
+    credential.getToken();
+    credential.refresh("token-1");
+
+    assertTrue(credential.isIssued("token-1"));
+    assertTrue(credential.isIssued("token-2"));
+    assertFalse(credential.isIssued("other"));
+  }
+
+  @Test
+  void loaderFailure() {
+    ExecCredentialCache.CachedCredential credential = cache.get("key", () -> {
+      throw new IOException("plugin not found");
+    });
+
+    assertThrows(KubernetesClientException.class, credential::getToken);
+  }
+
+  private ExecCredentialCache.CredentialLoader loader(Instant expirationTimestamp) {
+    return () -> new ExecCredentialCache.Credential("token-" + loads.incrementAndGet(),
+      expirationTimestamp != null ? expirationTimestamp.plusSeconds(600L * (loads.get() - 1)) : null);
+  }
+
+  private static class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
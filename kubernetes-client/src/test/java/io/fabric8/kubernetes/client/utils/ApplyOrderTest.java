@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.rbac.RoleBindingBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplyOrderTest {
+
+  private final List<HasMetadata> items = Arrays.asList(
+    new DeploymentBuilder().withNewMetadata().withName("app").endMetadata().build(),
+    new RoleBindingBuilder().withNewMetadata().withName("binding").endMetadata().build(),
+    new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata().build(),
+    new PodBuilder().withNewMetadata().withName("pod").endMetadata().build(),
+    new ConfigMapBuilder().withNewMetadata().withName("config").endMetadata().build(),
+    new CustomResourceDefinitionBuilder().withNewMetadata().withName("crd").endMetadata().build(),
+    new ServiceAccountBuilder().withNewMetadata().withName("sa").endMetadata().build());
+
+  @Test
+  void testPhaseOf() {
+    assertEquals(ApplyOrder.NAMESPACES_AND_DEFINITIONS, ApplyOrder.phaseOf(items.get(2)));
+    assertEquals(ApplyOrder.NAMESPACES_AND_DEFINITIONS, ApplyOrder.phaseOf(items.get(5)));
+    assertEquals(ApplyOrder.RBAC, ApplyOrder.phaseOf(items.get(1)));
+    assertEquals(ApplyOrder.CONFIGURATION, ApplyOrder.phaseOf(items.get(4)));
+    assertEquals(ApplyOrder.WORKLOADS, ApplyOrder.phaseOf(items.get(0)));
+  }
+
+  @Test
+  void testPhasesKeepOrderWithinPhase() {
+    assertEquals(Arrays.asList(
+      Arrays.asList(2, 5),
+      Arrays.asList(1, 6),
+      Arrays.asList(4),
+      Arrays.asList(0, 3)), ApplyOrder.phases(items, false));
+  }
+
+  @Test
+  void testPhasesReversedForDeletion() {
+    assertEquals(Arrays.asList(
+      Arrays.asList(0, 3),
+      Arrays.asList(4),
+      Arrays.asList(1, 6),
+      Arrays.asList(2, 5)), ApplyOrder.phases(items, true));
+  }
+
+  @Test
+  void testIsEstablished() {
+    assertFalse(ApplyOrder.isEstablished(items.get(5)));
+    assertFalse(ApplyOrder.isEstablished(new CustomResourceDefinitionBuilder().withNewStatus()
+      .addNewCondition().withType("Established").withStatus("False").endCondition().endStatus().build()));
+    assertTrue(ApplyOrder.isEstablished(new CustomResourceDefinitionBuilder().withNewStatus()
+      .addNewCondition().withType("Established").withStatus("True").endCondition().endStatus().build()));
+    assertFalse(ApplyOrder.isEstablished(new io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinitionBuilder()
+      .withNewMetadata().withName("crd").endMetadata().build()));
+    assertTrue(ApplyOrder.isEstablished(items.get(0)));
+  }
+}
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -41,8 +42,10 @@ import org.mockito.Mockito;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -199,6 +202,15 @@ class PodOperationUtilTest {
       @Override
       public PodList list(ListOptions listOptions) { return null; }
 
+      @Override
+      public PartialObjectMetadataList listMetadata(ListOptions listOptions) { return null; }
+
+      @Override
+      public Stream<Pod> stream(ListOptions listOptions) { return null; }
+
+      @Override
+      public CompletableFuture<PodList> listAsync(ListOptions listOptions) { return null; }
+
       @Override
       public Pod updateStatus(Pod item) { return null; }
 
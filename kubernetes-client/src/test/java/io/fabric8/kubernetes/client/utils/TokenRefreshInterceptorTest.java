@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.internal.ExecCredentialCache;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRefreshInterceptorTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void retriesWithRefreshedExecCredential() throws IOException {
+    Config config = configWithExecCredential();
+    Interceptor.Chain chain = chain("Bearer token-1", HttpURLConnection.HTTP_UNAUTHORIZED, HttpURLConnection.HTTP_OK);
+
+    Response response = new TokenRefreshInterceptor(config).intercept(chain);
+
+    assertEquals(HttpURLConnection.HTTP_OK, response.code());
+    ArgumentCaptor<Request> requests = ArgumentCaptor.forClass(Request.class);
+    verify(chain, times(2)).proceed(requests.capture());
+    assertEquals("Bearer token-2", requests.getAllValues().get(1).header("Authorization"));
+    assertEquals("token-2", config.getOauthToken());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void retriesWithTokenAlreadyRefreshedByAnotherRequest() throws IOException {
+    Config config = configWithExecCredential();
+    new TokenRefreshInterceptor(config).intercept(chain("Bearer token-1", HttpURLConnection.HTTP_UNAUTHORIZED, HttpURLConnection.HTTP_OK));
+    Interceptor.Chain chain = chain("Bearer token-1", HttpURLConnection.HTTP_UNAUTHORIZED, HttpURLConnection.HTTP_OK);
+
+    Response response = new TokenRefreshInterceptor(config).intercept(chain);
+
+    assertEquals(HttpURLConnection.HTTP_OK, response.code());
+    ArgumentCaptor<Request> requests = ArgumentCaptor.forClass(Request.class);
+    verify(chain, times(2)).proceed(requests.capture());
+    assertEquals("Bearer token-2", requests.getAllValues().get(1).header("Authorization"));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void keepsUnauthorizedResponseWhenPluginReturnsNoNewToken() throws IOException {
+    Config config = new ConfigBuilder().build();
+    config.setOauthTokenProvider(ExecCredentialCache.getInstance().get(UUID.randomUUID(),
+      () -> new ExecCredentialCache.Credential("token-1", null)));
+    Interceptor.Chain chain = chain("Bearer token-1", HttpURLConnection.HTTP_UNAUTHORIZED);
+
+    Response response = new TokenRefreshInterceptor(config).intercept(chain);
+
+    assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED, response.code());
+    verify(chain).proceed(any());
+  }
+
+  private Config configWithExecCredential() {
+    Config config = new ConfigBuilder().build();
+    ExecCredentialCache.CachedCredential credential = ExecCredentialCache.getInstance().get(UUID.randomUUID(),
+      () -> new ExecCredentialCache.Credential("token-" + loads.incrementAndGet(), null));
+    config.setOauthTokenProvider(credential);
+    assertEquals("token-1", config.getOauthToken());
+    assertSame(credential, config.getOauthTokenProvider());
+    return config;
+  }
+
+  private static Interceptor.Chain chain(String authorization, int... codes) throws IOException {
+    Interceptor.Chain chain = mock(Interceptor.Chain.class);
+    Request request = new Request.Builder().url("https://localhost:8443/api").header("Authorization", authorization).build();
+    when(chain.request()).thenReturn(request);
+    Response[] responses = new Response[codes.length];
+    for (int i = 0; i < codes.length; i++) {
+      responses[i] = new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(codes[i]).message("")
+        .body(ResponseBody.create(null, "")).build();
+    }
+    Response[] following = new Response[codes.length - 1];
+    System.arraycopy(responses, 1, following, 0, following.length);
+    when(chain.proceed(any())).thenReturn(responses[0], following);
+    return chain;
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Metadata only representation of any resource, returned by the API server when
+ * requesting <code>application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1</code>.
+ *
+ * Any other field is ignored, so that the spec and status of the resource are not retained
+ * when talking to a server answering with the full object. It is {@link Namespaced} as it may
+ * represent a namespaced resource, operations on cluster scoped resources ignore the namespace.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({
+    "apiVersion",
+    "kind",
+    "metadata"
+})
+@JsonDeserialize(using = com.fasterxml.jackson.databind.JsonDeserializer.None.class)
+@ToString
+@EqualsAndHashCode
+@Version("v1")
+@Group("meta.k8s.io")
+public class PartialObjectMetadata implements HasMetadata, Namespaced
+{
+
+  @JsonProperty("apiVersion")
+  private String apiVersion = "meta.k8s.io/v1";
+  @JsonProperty("kind")
+  private String kind = "PartialObjectMetadata";
+  @JsonProperty("metadata")
+  private ObjectMeta metadata;
+
+  /**
+   * No args constructor for use in serialization
+   *
+   */
+  public PartialObjectMetadata() {
+  }
+
+  /**
+   *
+   * @param apiVersion
+   * @param kind
+   * @param metadata
+   */
+  public PartialObjectMetadata(String apiVersion, String kind, ObjectMeta metadata) {
+    this.apiVersion = apiVersion;
+    this.kind = kind;
+    this.metadata = metadata;
+  }
+
+  @Override
+  @JsonProperty("apiVersion")
+  public String getApiVersion() {
+    return apiVersion;
+  }
+
+  @Override
+  @JsonProperty("apiVersion")
+  public void setApiVersion(String apiVersion) {
+    this.apiVersion = apiVersion;
+  }
+
+  @Override
+  @JsonProperty("kind")
+  public String getKind() {
+    return kind;
+  }
+
+  @JsonProperty("kind")
+  public void setKind(String kind) {
+    this.kind = kind;
+  }
+
+  @Override
+  @JsonProperty("metadata")
+  public ObjectMeta getMetadata() {
+    return metadata;
+  }
+
+  @Override
+  @JsonProperty("metadata")
+  public void setMetadata(ObjectMeta metadata) {
+    this.metadata = metadata;
+  }
+
+}
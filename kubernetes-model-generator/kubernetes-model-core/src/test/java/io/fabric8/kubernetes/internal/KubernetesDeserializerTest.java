@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.internal;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,14 +25,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.KubernetesResourceMappingProvider;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Service;
 
 public class KubernetesDeserializerTest {
 
@@ -146,6 +151,67 @@ public class KubernetesDeserializerTest {
 		assertThat(clazz, equalTo(Pod.class));
 	}
 
+	@Test
+	public void shouldDeserializeWithKindAfterOtherFields() throws Exception {
+		// given
+		String json = "{\"metadata\":{\"name\":\"pod1\"},\"spec\":{\"nodeName\":\"node1\"},\"kind\":\"Pod\",\"apiVersion\":\"v1\"}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(Pod.class));
+		assertThat(((Pod) resource).getMetadata().getName(), equalTo("pod1"));
+		assertThat(((Pod) resource).getSpec().getNodeName(), equalTo("node1"));
+	}
+
+	@Test
+	public void shouldDeserializeNestedResourcesAndFollowingFields() throws Exception {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"kind\":\"List\",\"items\":["
+			+ "{\"metadata\":{\"name\":\"svc1\"},\"kind\":\"Service\"},"
+			+ "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}}],"
+			+ "\"metadata\":{\"resourceVersion\":\"42\"}}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(KubernetesList.class));
+		KubernetesList list = (KubernetesList) resource;
+		assertThat(list.getItems().size(), is(2));
+		assertThat(list.getItems().get(0), instanceOf(Service.class));
+		assertThat(list.getItems().get(0).getMetadata().getName(), equalTo("svc1"));
+		assertThat(list.getItems().get(1), instanceOf(Pod.class));
+		assertThat(list.getMetadata().getResourceVersion(), equalTo("42"));
+	}
+
+	@Test
+	public void shouldDeserializeArrayToList() throws Exception {
+		// given
+		String json = "[{\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}},1,{\"kind\":\"Service\"}]";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(KubernetesList.class));
+		assertThat(((KubernetesList) resource).getItems().size(), is(2));
+	}
+
+	@Test
+	public void shouldReturnNullWithoutKind() throws Exception {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"pod1\"}}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, is(nullValue()));
+	}
+
+	@Test
+	public void shouldFailForUnknownKind() {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"kind\":\"Hitchhiker\"}";
+		// when
+		assertThrows(JsonMappingException.class, () -> new ObjectMapper().readValue(json, KubernetesResource.class));
+		// then throws
+	}
+
 	private KubernetesResourceMappingProvider createProvider(Pair<String, Class<? extends KubernetesResource>>... mappings) {
 		return () -> Stream.of(mappings)
 				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
@@ -23,6 +23,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -61,7 +62,7 @@ public class KubernetesAttributesExtractor implements AttributeExtractor<HasMeta
 
   protected static final Pattern PATTERN = Pattern.compile(API_GROUP + VERSION_GROUP + NAMESPACE_GROUP + KIND_GROUP + NAME_GROUP + SUBRESOURCE_MAYBE_GROUP + END_GROUP);
 
-  private static final String LABEL_KEY_PREFIX = "labels:";
+  static final String LABEL_KEY_PREFIX = "labels:";
   private static final String KEY_GROUP = "(?<key>[a-zA-Z0-9-_./]+)";
   // Matches a==b and a=b but not a!=b.
   private static final String EQUALITY_GROUP = "(==|(?<!!)=)";
@@ -96,20 +97,30 @@ public class KubernetesAttributesExtractor implements AttributeExtractor<HasMeta
 
   @Override
   public AttributeSet fromPath(String s) {
+    return new AttributeSet(attributesFromPath(s).values());
+  }
+
+  /**
+   * Same as {@link #fromPath(String)}, with the attributes keyed by name so that their values can be looked up.
+   *
+   * @param s the path and query of the request
+   * @return the attributes by name, empty if the path doesn't address a resource
+   */
+  Map<String, Attribute> attributesFromPath(String s) {
+    Map<String, Attribute> attributes = new LinkedHashMap<>();
     if (s == null || s.isEmpty()) {
-      return new AttributeSet();
+      return attributes;
     }
 
     //Get paths
     HttpUrl url = parseUrlFromPathAndQuery(s);
     Matcher m = PATTERN.matcher(url.encodedPath());
     if (m.matches()) {
-      AttributeSet set = extract(m, crdContexts);
-      set = AttributeSet.merge(set, extractQueryParameters(url));
-      LOGGER.debug("fromPath {} : {}", s, set);
-      return set;
+      extract(m, crdContexts, attributes);
+      extractQueryParameters(url, attributes);
+      LOGGER.debug("fromPath {} : {}", s, attributes);
     }
-    return new AttributeSet();
+    return attributes;
   }
 
   @Override
@@ -167,30 +178,28 @@ public class KubernetesAttributesExtractor implements AttributeExtractor<HasMeta
     return metadataAttributes;
   }
 
-  private static AttributeSet extract(Matcher m, List<CustomResourceDefinitionContext> crdContexts) {
-    AttributeSet attributes = new AttributeSet();
+  private static void extract(Matcher m, List<CustomResourceDefinitionContext> crdContexts, Map<String, Attribute> attributes) {
     if (m.matches()) {
       String kind = m.group(KIND);
       if (!Utils.isNullOrEmpty(kind)) {
         kind = resolveKindFromPlural(crdContexts, kind);
-        attributes = attributes.add(new Attribute(KIND, kind));
+        attributes.put(KIND, new Attribute(KIND, kind));
       }
 
       String namespace = m.group(NAMESPACE);
       if (!Utils.isNullOrEmpty(namespace)) {
-        attributes = attributes.add(new Attribute(NAMESPACE, namespace));
+        attributes.put(NAMESPACE, new Attribute(NAMESPACE, namespace));
       }
 
       try {
         String name = m.group(NAME);
         if (!Utils.isNullOrEmpty(name)) {
-          attributes = attributes.add(new Attribute(NAME, name));
+          attributes.put(NAME, new Attribute(NAME, name));
         }
       } catch (IllegalArgumentException e) {
         //group is missing, which is perfectly valid for create, update etc requests.
       }
     }
-    return attributes;
   }
 
   private static String resolveKindFromPlural(List<CustomResourceDefinitionContext> crdContexts, String kind) {
@@ -225,21 +234,19 @@ public class KubernetesAttributesExtractor implements AttributeExtractor<HasMeta
     return kind;
   }
 
-  private static AttributeSet extractQueryParameters(HttpUrl url) {
-    AttributeSet attributes = new AttributeSet();
+  private static void extractQueryParameters(HttpUrl url, Map<String, Attribute> attributes) {
     String labelSelector = url.queryParameter("labelSelector");
     if (labelSelector != null) {
       for (String requirement : labelSelector.split(",")) {
         Attribute label = parseLabel(requirement);
 
         if (label != null) {
-          attributes = attributes.add(label);
+          attributes.put(label.getKey().toString(), label);
         } else {
           LOGGER.warn("Ignoring unsupported label requirement: {}", requirement);
         }
       }
     }
-    return attributes;
   }
 
   private static Attribute parseLabel(String label) {
@@ -33,22 +33,32 @@ import io.fabric8.mockwebserver.crud.AttributeSet;
 import io.fabric8.mockwebserver.crud.CrudDispatcher;
 import io.fabric8.mockwebserver.crud.ResponseComposer;
 import io.fabric8.zjsonpatch.JsonPatch;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import okhttp3.mockwebserver.RecordedRequest;
@@ -67,10 +77,20 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
   private static final String DELETE = "DELETE";
 
   private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String ERROR = "ERROR";
+  private static final String CONTINUE_SEPARATOR = "/";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesCrudDispatcher.class);
   public static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  /**
+   * Default number of changes that watches can resume from, see {@link #KubernetesCrudDispatcher(KubernetesCrudAttributesExtractor, ResponseComposer, int)}.
+   */
+  public static final int DEFAULT_HISTORY_SIZE = 10000;
   private final Set<WatchEventsListener> watchEventListeners = new CopyOnWriteArraySet<>();
+  private final KubernetesCrudAttributesExtractor kubernetesAttributesExtractor;
+  private final KubernetesCrudStore store;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
   public KubernetesCrudDispatcher() {
     this(Collections.emptyList());
@@ -81,29 +101,64 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
   }
 
   public KubernetesCrudDispatcher(KubernetesCrudAttributesExtractor attributeExtractor, ResponseComposer responseComposer) {
+    this(attributeExtractor, responseComposer, DEFAULT_HISTORY_SIZE);
+  }
+
+  /**
+   * Creates a dispatcher keeping the given number of changes. Watches resuming from an older resource version, and
+   * lists continued from a page of an older resource version, fail with 410 Gone as with a compacted API server.
+   *
+   * @param attributeExtractor the attribute extractor
+   * @param responseComposer the composer of list responses
+   * @param historySize the number of changes watches can resume from
+   */
+  public KubernetesCrudDispatcher(KubernetesCrudAttributesExtractor attributeExtractor, ResponseComposer responseComposer, int historySize) {
     super(new Context(Serialization.jsonMapper()), attributeExtractor, responseComposer);
+    this.kubernetesAttributesExtractor = attributeExtractor;
+    this.map = new LinkedHashMap<>();
+    this.store = new KubernetesCrudStore(map, historySize);
   }
 
+  /**
+   * Dispatches the request. Reads are served concurrently, writes and watch registrations are serialized.
+   *
+   * @param request the request
+   * @return The {@link MockResponse}
+   */
   @Override
-  public synchronized MockResponse dispatch(RecordedRequest request) {
+  public MockResponse dispatch(RecordedRequest request) {
     String path = request.getPath();
     String method = request.getMethod();
     switch (method.toUpperCase()) {
       case POST:
-        return handleCreate(path, request.getBody().readUtf8());
+        String created = request.getBody().readUtf8();
+        return locked(lock.writeLock(), () -> handleCreate(path, created));
       case PUT:
-        return handleReplace(path, request.getBody().readUtf8());
+        String replaced = request.getBody().readUtf8();
+        return locked(lock.writeLock(), () -> handleReplace(path, replaced));
       case PATCH:
-        return handlePatch(path, request.getBody().readUtf8());
+        String patch = request.getBody().readUtf8();
+        return locked(lock.writeLock(), () -> handlePatch(path, patch));
       case GET:
-        return detectWatchMode(path)? handleWatch(path): handleGet(path);
+        return detectWatchMode(path)
+          ? locked(lock.writeLock(), () -> handleWatch(path))
+          : locked(lock.readLock(), () -> handleGet(path));
       case DELETE:
-        return handleDelete(path);
+        return locked(lock.writeLock(), () -> handleDelete(path));
       default:
         return null;
     }
   }
 
+  private static <T> T locked(Lock lock, Supplier<T> action) {
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * Adds the specified object to the in-memory db.
    *
@@ -126,7 +181,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
     if (doDelete(path, null) == 404) {
       return new MockResponse().setResponseCode(404);
     }
-    return validateRequestBodyAndHandleRequest(s, () -> new MockResponse().setResponseCode(doCreate(path, s, "MODIFIED")).setBody(s));
+    return validateRequestBodyAndHandleRequest(s, () -> new MockResponse().setResponseCode(doCreate(path, s, MODIFIED)).setBody(s));
   }
 
   /**
@@ -139,10 +194,11 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
   public MockResponse handleGet(String path) {
     MockResponse response = new MockResponse();
     List<String> items = new ArrayList<>();
-    AttributeSet query = attributeExtractor.fromPath(path);
+    Map<String, Attribute> attributes = kubernetesAttributesExtractor.attributesFromPath(path);
+    AttributeSet query = new AttributeSet(attributes.values());
 
-    map.entrySet().stream().filter(entry -> entry.getKey()
-      .matches(query)).forEach(entry -> {
+    List<Map.Entry<AttributeSet, String>> entries = store.find(query, KubernetesCrudStore.values(attributes.values()));
+    entries.forEach(entry -> {
       LOGGER.debug("Entry found for query {} : {}", query, entry);
       items.add(entry.getValue());
     });
@@ -155,12 +211,94 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
         response.setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
       }
     } else {
-      response.setBody(responseComposer.compose(items));
+      HttpUrl url = url(path);
+      if (url.queryParameter("limit") != null || url.queryParameter("continue") != null) {
+        return handleListPage(entries, url);
+      }
+      response.setBody(composeList(items, store.getResourceVersion(), null, null));
       response.setResponseCode(HttpURLConnection.HTTP_OK);
     }
     return response;
   }
 
+  /**
+   * Returns a page of the list, sorted by namespace and name as by an API server. The continue token carries the
+   * resource version of the first page, reported by every page so that a watch started once the list is complete
+   * replays the changes that happened while paging. The resources changed since then are left out of the next
+   * pages, since they will be replayed; the mock doesn't keep their previous state.
+   */
+  private MockResponse handleListPage(List<Map.Entry<AttributeSet, String>> entries, HttpUrl url) {
+    long resourceVersion = store.getResourceVersion();
+    String start = null;
+    String continueToken = url.queryParameter("continue");
+    if (continueToken != null && !continueToken.isEmpty()) {
+      String decoded;
+      try {
+        decoded = new String(Base64.getUrlDecoder().decode(continueToken), StandardCharsets.UTF_8);
+        resourceVersion = Long.parseLong(decoded.substring(0, decoded.indexOf(CONTINUE_SEPARATOR)));
+      } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+        return statusResponse(HttpURLConnection.HTTP_BAD_REQUEST, "BadRequest", "continue key is not valid: " + continueToken);
+      }
+      if (resourceVersion < store.getCompactedResourceVersion()) {
+        return statusResponse(HttpURLConnection.HTTP_GONE, "Expired",
+          "The provided continue parameter is too old to display a consistent list result. You can start a new list without the continue parameter.");
+      }
+      start = decoded.substring(decoded.indexOf(CONTINUE_SEPARATOR) + 1);
+    }
+    long limit;
+    try {
+      limit = url.queryParameter("limit") != null ? Long.parseLong(url.queryParameter("limit")) : 0;
+    } catch (NumberFormatException e) {
+      return statusResponse(HttpURLConnection.HTTP_BAD_REQUEST, "BadRequest", "limit is not valid: " + url.queryParameter("limit"));
+    }
+
+    TreeMap<String, String> sorted = new TreeMap<>();
+    for (Map.Entry<AttributeSet, String> entry : entries) {
+      if (resourceVersionOf(entry.getValue()) > resourceVersion) {
+        continue;
+      }
+      Map<String, String> values = store.getValues(entry.getKey());
+      String key = values.getOrDefault(KubernetesAttributesExtractor.NAMESPACE, "") + CONTINUE_SEPARATOR
+        + values.getOrDefault(KubernetesAttributesExtractor.NAME, "");
+      sorted.put(key, entry.getValue());
+    }
+    SortedMap<String, String> remaining = start != null ? sorted.tailMap(start, false) : sorted;
+    List<String> page = new ArrayList<>();
+    String lastKey = null;
+    for (Map.Entry<String, String> entry : remaining.entrySet()) {
+      if (limit > 0 && page.size() == limit) {
+        break;
+      }
+      page.add(entry.getValue());
+      lastKey = entry.getKey();
+    }
+    String nextToken = null;
+    Long remainingItemCount = null;
+    if (page.size() < remaining.size()) {
+      nextToken = Base64.getUrlEncoder().encodeToString(
+        (resourceVersion + CONTINUE_SEPARATOR + lastKey).getBytes(StandardCharsets.UTF_8));
+      remainingItemCount = (long) (remaining.size() - page.size());
+    }
+    return new MockResponse().setResponseCode(HttpURLConnection.HTTP_OK)
+      .setBody(composeList(page, resourceVersion, nextToken, remainingItemCount));
+  }
+
+  private long resourceVersionOf(String resource) {
+    try {
+      JsonNode resourceVersion = context.getMapper().readTree(resource).path("metadata").path("resourceVersion");
+      return parseResourceVersion(resourceVersion.asText(null)).orElse(0L);
+    } catch (JsonProcessingException e) {
+      return 0L;
+    }
+  }
+
+  private String composeList(List<String> items, long resourceVersion, String continueToken, Long remainingItemCount) {
+    if (responseComposer instanceof KubernetesResponseComposer) {
+      return ((KubernetesResponseComposer) responseComposer).compose(items, Long.toString(resourceVersion), continueToken, remainingItemCount);
+    }
+    return responseComposer.compose(items);
+  }
+
   /**
    * Patches the specified object to the in-memory db.
    *
@@ -179,34 +317,23 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
         JsonNode patch = context.getMapper().readTree(s);
         JsonNode source = context.getMapper().readTree(body);
         JsonNode updated = JsonPatch.apply(patch, source);
+        long resourceVersion = store.nextResourceVersion();
+        setResourceVersion(updated, resourceVersion);
         String updatedAsString = context.getMapper().writeValueAsString(updated);
 
-        AttributeSet attributeSet;
-
-        AttributeSet query = attributeExtractor.fromPath(path);
-
-        attributeSet = map.entrySet().stream()
-          .filter(entry -> entry.getKey().matches(query))
+        AttributeSet attributeSet = find(path).stream()
           .findFirst().orElseThrow(IllegalStateException::new).getKey();
 
-        map.remove(attributeSet);
-        AttributeSet newAttributeSet = AttributeSet.merge(attributeSet, attributeExtractor.fromResource(updatedAsString));
-        map.put(newAttributeSet, updatedAsString);
-
-        final AtomicBoolean flag = new AtomicBoolean(false);
-        AttributeSet finalAttributeSet = attributeSet;
-        watchEventListeners.stream()
-          .filter(watchEventsListener -> watchEventsListener.attributeMatches(finalAttributeSet))
-          .forEach(watchEventsListener -> {
-              flag.set(true);
-              watchEventsListener.sendWebSocketResponse(updatedAsString, "MODIFIED");
-          });
-
-        if (!flag.get()) {
-          watchEventListeners.stream()
-            .filter(watchEventsListener -> watchEventsListener.attributeMatches(newAttributeSet))
-            .forEach(watchEventsListener -> watchEventsListener.sendWebSocketResponse(updatedAsString, ADDED));
-        }
+        Map<String, String> values = new LinkedHashMap<>(store.getValues(attributeSet));
+        store.remove(attributeSet);
+        HasMetadata updatedResource = toKubernetesResource(updatedAsString);
+        AttributeSet newAttributeSet = updatedResource != null
+          ? AttributeSet.merge(attributeSet, kubernetesAttributesExtractor.extract(updatedResource))
+          : attributeSet;
+        values.putAll(KubernetesCrudStore.values(updatedResource));
+        store.put(newAttributeSet, values, updatedAsString);
+
+        publish(new KubernetesCrudStore.Event(resourceVersion, MODIFIED, newAttributeSet, attributeSet, updatedAsString));
 
         response.setResponseCode(HttpURLConnection.HTTP_ACCEPTED);
         response.setBody(updatedAsString);
@@ -237,21 +364,110 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
   public MockResponse handleWatch(String path) {
     MockResponse mockResponse = new MockResponse();
     String resourceName = fetchResourceNameFromWatchRequestPath(path);
-    AttributeSet query = attributeExtractor.fromPath(path);
+    Map<String, Attribute> attributes = kubernetesAttributesExtractor.attributesFromPath(path);
     if (resourceName != null) {
-      query = query.add(new Attribute("name", resourceName));
+      attributes.put(KubernetesAttributesExtractor.NAME, new Attribute(KubernetesAttributesExtractor.NAME, resourceName));
     }
+    AttributeSet query = new AttributeSet(attributes.values());
+    HttpUrl url = url(path);
+    String resourceVersion = url.queryParameter("resourceVersion");
     WatchEventsListener watchEventListener = new WatchEventsListener(context, query, watchEventListeners, LOGGER,
-      watch -> {
-        map.entrySet().stream()
-          .filter(entry -> watch.attributeMatches(entry.getKey()))
-          .forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), ADDED));
-      });
+      Boolean.parseBoolean(url.queryParameter("allowWatchBookmarks")),
+      parseResourceVersion(resourceVersion).filter(rv -> rv > 0).orElse(store.getResourceVersion()));
+    if (resourceVersion == null || resourceVersion.isEmpty() || resourceVersion.equals("0")) {
+      // Start at the most recent version, with synthetic ADDED events for the existing resources
+      store.find(query, KubernetesCrudStore.values(attributes.values()))
+        .forEach(entry -> watchEventListener.sendWebSocketResponse(entry.getValue(), ADDED));
+    } else {
+      List<KubernetesCrudStore.Event> events = parseResourceVersion(resourceVersion)
+        .map(store::eventsSince).orElse(null);
+      if (events == null) {
+        watchEventListener.send(status(HttpURLConnection.HTTP_GONE, "Expired",
+          "too old resource version: " + resourceVersion + " (" + store.getCompactedResourceVersion() + ")"), ERROR);
+        mockResponse.setSocketPolicy(SocketPolicy.KEEP_OPEN);
+        return mockResponse.withWebSocketUpgrade(watchEventListener);
+      }
+      events.forEach(event -> deliver(watchEventListener, event));
+    }
+    Attribute kind = attributes.get(KubernetesAttributesExtractor.KIND);
+    if (kind != null) {
+      AttributeSet kindQuery = new AttributeSet(kind);
+      store.find(kindQuery, KubernetesCrudStore.values(Collections.singletonList(kind))).stream().findFirst()
+        .ifPresent(entry -> watchEventListener.bookmarkTemplate(entry.getValue()));
+    }
     watchEventListeners.add(watchEventListener);
     mockResponse.setSocketPolicy(SocketPolicy.KEEP_OPEN);
     return mockResponse.withWebSocketUpgrade(watchEventListener);
   }
 
+  /**
+   * Records the change and sends it to the matching watches, watches with bookmarks that didn't get any event for
+   * half the history get a bookmark instead so that they can still resume once reconnected.
+   */
+  private void publish(KubernetesCrudStore.Event event) {
+    store.record(event);
+    long bookmarkLag = Math.max(1, store.getHistorySize() / 2);
+    watchEventListeners.forEach(listener -> {
+      if (!deliver(listener, event)) {
+        listener.bookmark(event.getResourceVersion(), bookmarkLag);
+      }
+    });
+  }
+
+  private static boolean deliver(WatchEventsListener listener, KubernetesCrudStore.Event event) {
+    if (event.getPreviousAttributes() != null && listener.attributeMatches(event.getPreviousAttributes())) {
+      listener.sendWebSocketResponse(event.getResource(), MODIFIED);
+    } else if (listener.attributeMatches(event.getAttributes())) {
+      listener.sendWebSocketResponse(event.getResource(), event.getPreviousAttributes() != null ? ADDED : event.getType());
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private List<Map.Entry<AttributeSet, String>> find(String path) {
+    Map<String, Attribute> attributes = kubernetesAttributesExtractor.attributesFromPath(path);
+    return store.find(new AttributeSet(attributes.values()), KubernetesCrudStore.values(attributes.values()));
+  }
+
+  private String withResourceVersion(String resource, long resourceVersion) {
+    try {
+      JsonNode node = context.getMapper().readTree(resource);
+      setResourceVersion(node, resourceVersion);
+      return context.getMapper().writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private static void setResourceVersion(JsonNode resource, long resourceVersion) {
+    JsonNode metadata = resource.get("metadata");
+    if (metadata instanceof ObjectNode) {
+      ((ObjectNode) metadata).put("resourceVersion", Long.toString(resourceVersion));
+    }
+  }
+
+  private static Optional<Long> parseResourceVersion(String resourceVersion) {
+    try {
+      return Optional.of(Long.parseLong(resourceVersion));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static HttpUrl url(String path) {
+    return HttpUrl.parse("http://localhost" + (path.startsWith("/") ? "" : "/") + path);
+  }
+
+  private static Status status(int code, String reason, String message) {
+    return new StatusBuilder().withStatus("Failure").withCode(code).withReason(reason).withMessage(message)
+      .withNewMetadata().endMetadata().build();
+  }
+
+  private static MockResponse statusResponse(int code, String reason, String message) {
+    return new MockResponse().setResponseCode(code).setBody(Serialization.asJson(status(code, reason, message)));
+  }
+
   private boolean detectWatchMode(String path) {
     String queryString = null;
     try {
@@ -291,11 +507,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
 
   private String fetchResource(String path) {
     List<String> items = new ArrayList<>();
-    AttributeSet query = attributeExtractor.fromPath(path);
-
-    map.entrySet().stream()
-      .filter(entry -> entry.getKey().matches(query))
-      .forEach(entry -> items.add(entry.getValue()));
+    find(path).forEach(entry -> items.add(entry.getValue()));
 
     if (items.isEmpty()) {
       return null;
@@ -308,45 +520,43 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
 
 
   private int doDelete(String path, String event) {
-    List<AttributeSet> items = new ArrayList<>();
-    AttributeSet query = attributeExtractor.fromPath(path);
-
-    map.entrySet().stream()
-      .filter(entry -> entry.getKey().matches(query))
-      .forEach(entry -> items.add(entry.getKey()));
+    List<Map.Entry<AttributeSet, String>> items = find(path);
 
     if (items.isEmpty()) return HttpURLConnection.HTTP_NOT_FOUND;
 
 
     items.forEach(item -> {
+      store.remove(item.getKey());
       if (event != null && !event.isEmpty()) {
-        watchEventListeners.stream()
-          .filter(listener -> listener.attributeMatches(item))
-          .forEach(listener -> listener.sendWebSocketResponse(map.get(item), event));
+        long resourceVersion = store.nextResourceVersion();
+        publish(new KubernetesCrudStore.Event(resourceVersion, event, item.getKey(), null,
+          withResourceVersion(item.getValue(), resourceVersion)));
       }
-      map.remove(item);
     });
     return HttpURLConnection.HTTP_OK;
   }
 
   private int doCreate(String path, String initial, String event) {
-    AttributeSet fromPath = attributeExtractor.fromPath(path);
+    Map<String, Attribute> pathAttributes = kubernetesAttributesExtractor.attributesFromPath(path);
+    AttributeSet fromPath = new AttributeSet(pathAttributes.values());
 
-    String s = setDefaultMetadata(initial, fromPath);
+    long resourceVersion = store.nextResourceVersion();
+    String s = setDefaultMetadata(initial, fromPath, resourceVersion);
 
-    AttributeSet features = AttributeSet.merge(fromPath, attributeExtractor.fromResource(s));
+    HasMetadata resource = toKubernetesResource(s);
+    AttributeSet features = resource != null
+      ? AttributeSet.merge(fromPath, kubernetesAttributesExtractor.extract(resource))
+      : fromPath;
+    Map<String, String> values = KubernetesCrudStore.values(pathAttributes.values());
+    values.putAll(KubernetesCrudStore.values(resource));
 
-    map.put(features, s);
+    store.put(features, values, s);
 
-    if (event != null && !event.isEmpty()) {
-      watchEventListeners.stream()
-        .filter(listener -> listener.attributeMatches(features))
-        .forEach(listener -> listener.sendWebSocketResponse(s, event));
-    }
+    publish(new KubernetesCrudStore.Event(resourceVersion, event, features, null, s));
     return HttpURLConnection.HTTP_OK;
   }
 
-  private String setDefaultMetadata(String s, AttributeSet fromPath) {
+  private String setDefaultMetadata(String s, AttributeSet fromPath, long resourceVersion) {
     try {
       JsonNode source = context.getMapper().readTree(s);
       ObjectNode metadata = (ObjectNode)source.findValue("metadata");
@@ -360,7 +570,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
           metadata.put("namespace", fromPath.getAttribute("namespace").getValue().toString());
       }*/
       metadata.put("uid", uuid.toString());
-      metadata.put("resourceVersion", "1");
+      metadata.put("resourceVersion", Long.toString(resourceVersion));
       metadata.put("generation", 1);
       metadata.put("creationTimestamp", ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ISO_INSTANT));
 
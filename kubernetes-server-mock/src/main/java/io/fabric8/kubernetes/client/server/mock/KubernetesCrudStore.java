@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.mockwebserver.crud.Attribute;
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import io.fabric8.mockwebserver.crud.AttributeType;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.fabric8.kubernetes.client.server.mock.KubernetesAttributesExtractor.KIND;
+import static io.fabric8.kubernetes.client.server.mock.KubernetesAttributesExtractor.LABEL_KEY_PREFIX;
+import static io.fabric8.kubernetes.client.server.mock.KubernetesAttributesExtractor.NAME;
+import static io.fabric8.kubernetes.client.server.mock.KubernetesAttributesExtractor.NAMESPACE;
+
+/**
+ * In-memory store backing the {@link KubernetesCrudDispatcher}.
+ *
+ * <p> Besides the map of the dispatcher, entries are indexed by kind, kind and namespace, kind and name, and kind
+ * and label so that a query only evaluates the entries that can possibly match it instead of the whole store.
+ * {@link AttributeSet#matches(AttributeSet)} remains the final word on what matches, the indices only narrow down
+ * the candidates. Queries without a kind fall back to a full scan.
+ *
+ * <p> Every change gets the next resource version and is recorded in a bounded history of events, so that
+ * watches can resume from a resource version. Once a change is evicted from the history, the resource versions
+ * before it are compacted and can no longer be resumed from, as with the etcd compaction of an API server.
+ *
+ * <p> Not thread safe, the dispatcher guards it with a read-write lock.
+ */
+class KubernetesCrudStore {
+
+  private static final String WILDCARD = "*";
+
+  private final Map<AttributeSet, String> map;
+  private final Map<AttributeSet, Map<String, String>> values = new HashMap<>();
+  private final Map<String, Set<AttributeSet>> index = new HashMap<>();
+  private final int historySize;
+  private final Deque<Event> history = new ArrayDeque<>();
+  private long resourceVersion;
+  private long compactedResourceVersion;
+
+  KubernetesCrudStore(Map<AttributeSet, String> map, int historySize) {
+    this.map = map;
+    this.historySize = historySize;
+  }
+
+  long nextResourceVersion() {
+    return ++resourceVersion;
+  }
+
+  int getHistorySize() {
+    return historySize;
+  }
+
+  long getResourceVersion() {
+    return resourceVersion;
+  }
+
+  /**
+   * Returns the latest resource version that can no longer be resumed from, 0 until the history is first full.
+   *
+   * @return the compacted resource version
+   */
+  long getCompactedResourceVersion() {
+    return compactedResourceVersion;
+  }
+
+  void record(Event event) {
+    history.addLast(event);
+    while (history.size() > historySize) {
+      compactedResourceVersion = history.removeFirst().getResourceVersion();
+    }
+  }
+
+  /**
+   * Returns the events that happened after the given resource version, oldest first.
+   *
+   * @param fromResourceVersion the resource version to resume from
+   * @return the events, or null if some of them were compacted
+   */
+  List<Event> eventsSince(long fromResourceVersion) {
+    if (fromResourceVersion < compactedResourceVersion) {
+      return null;
+    }
+    List<Event> events = new ArrayList<>();
+    for (Event event : history) {
+      if (event.getResourceVersion() > fromResourceVersion) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  /**
+   * Stores the resource, replacing any entry with the same attributes.
+   *
+   * @param attributes the attributes of the entry
+   * @param attributeValues the values of the attributes of the entry, see {@link #values(Collection)}
+   * @param resource the resource
+   */
+  void put(AttributeSet attributes, Map<String, String> attributeValues, String resource) {
+    remove(attributes);
+    map.put(attributes, resource);
+    values.put(attributes, attributeValues);
+    for (String key : indexKeys(attributeValues)) {
+      index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(attributes);
+    }
+  }
+
+  String remove(AttributeSet attributes) {
+    Map<String, String> attributeValues = values.remove(attributes);
+    if (attributeValues != null) {
+      for (String key : indexKeys(attributeValues)) {
+        Set<AttributeSet> entries = index.get(key);
+        entries.remove(attributes);
+        if (entries.isEmpty()) {
+          index.remove(key);
+        }
+      }
+    }
+    return map.remove(attributes);
+  }
+
+  String get(AttributeSet attributes) {
+    return map.get(attributes);
+  }
+
+  Map<String, String> getValues(AttributeSet attributes) {
+    return values.getOrDefault(attributes, Collections.emptyMap());
+  }
+
+  /**
+   * Returns the entries matching the query, in insertion order.
+   *
+   * @param query the query
+   * @param queryValues the values of the attributes that entries must have, see {@link #values(Collection)}
+   * @return the matching entries
+   */
+  List<Map.Entry<AttributeSet, String>> find(AttributeSet query, Map<String, String> queryValues) {
+    List<Map.Entry<AttributeSet, String>> result = new ArrayList<>();
+    for (AttributeSet candidate : candidates(queryValues)) {
+      if (candidate.matches(query)) {
+        result.add(new AbstractMap.SimpleImmutableEntry<>(candidate, map.get(candidate)));
+      }
+    }
+    return result;
+  }
+
+  private Collection<AttributeSet> candidates(Map<String, String> queryValues) {
+    String kind = queryValues.get(KIND);
+    if (kind == null || queryValues.containsValue(WILDCARD)) {
+      return new ArrayList<>(map.keySet());
+    }
+    Set<AttributeSet> smallest = null;
+    for (String key : indexKeys(queryValues)) {
+      Set<AttributeSet> entries = index.getOrDefault(key, Collections.emptySet());
+      if (smallest == null || entries.size() < smallest.size()) {
+        smallest = entries;
+      }
+    }
+    return new ArrayList<>(smallest);
+  }
+
+  private static List<String> indexKeys(Map<String, String> attributeValues) {
+    String kind = attributeValues.get(KIND);
+    if (kind == null) {
+      return Collections.emptyList();
+    }
+    List<String> keys = new ArrayList<>();
+    keys.add(kind);
+    for (Map.Entry<String, String> value : attributeValues.entrySet()) {
+      if (!KIND.equals(value.getKey())) {
+        keys.add(kind + "/" + value.getKey() + "=" + value.getValue());
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the values of the indexed attributes that an entry must have to match, that is the kind, namespace,
+   * name and label attributes of the {@link AttributeType#WITH} type.
+   *
+   * @param attributes the attributes
+   * @return the values by attribute name
+   */
+  static Map<String, String> values(Collection<Attribute> attributes) {
+    Map<String, String> result = new LinkedHashMap<>();
+    for (Attribute attribute : attributes) {
+      String key = attribute.getKey().toString();
+      if (attribute.getType() == AttributeType.WITH && isIndexed(key)) {
+        result.put(key, attribute.getValue().toString());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the values of the indexed attributes of a resource, as extracted by the
+   * {@link KubernetesCrudAttributesExtractor}.
+   *
+   * @param resource the resource
+   * @return the values by attribute name
+   */
+  static Map<String, String> values(HasMetadata resource) {
+    Map<String, String> result = new LinkedHashMap<>();
+    if (resource != null && resource.getMetadata() != null) {
+      if (!Utils.isNullOrEmpty(resource.getMetadata().getName())) {
+        result.put(NAME, resource.getMetadata().getName());
+      }
+      if (!Utils.isNullOrEmpty(resource.getMetadata().getNamespace())) {
+        result.put(NAMESPACE, resource.getMetadata().getNamespace());
+      }
+      if (resource.getMetadata().getLabels() != null) {
+        resource.getMetadata().getLabels().forEach((key, value) -> result.put(LABEL_KEY_PREFIX + key, value));
+      }
+    }
+    return result;
+  }
+
+  private static boolean isIndexed(String key) {
+    return KIND.equals(key) || NAMESPACE.equals(key) || NAME.equals(key) || key.startsWith(LABEL_KEY_PREFIX);
+  }
+
+  /**
+   * A change of the store, as sent to the matching watches.
+   */
+  static final class Event {
+
+    private final long resourceVersion;
+    private final String type;
+    private final AttributeSet attributes;
+    private final AttributeSet previousAttributes;
+    private final String resource;
+
+    /**
+     * @param resourceVersion the resource version of the change
+     * @param type the type of the watch event
+     * @param attributes the attributes of the changed entry
+     * @param previousAttributes the attributes of the entry before a patch, null otherwise
+     * @param resource the resource after the change
+     */
+    Event(long resourceVersion, String type, AttributeSet attributes, AttributeSet previousAttributes, String resource) {
+      this.resourceVersion = resourceVersion;
+      this.type = type;
+      this.attributes = attributes;
+      this.previousAttributes = previousAttributes;
+      this.resource = resource;
+    }
+
+    long getResourceVersion() {
+      return resourceVersion;
+    }
+
+    String getType() {
+      return type;
+    }
+
+    AttributeSet getAttributes() {
+      return attributes;
+    }
+
+    AttributeSet getPreviousAttributes() {
+      return previousAttributes;
+    }
+
+    String getResource() {
+      return resource;
+    }
+  }
+}
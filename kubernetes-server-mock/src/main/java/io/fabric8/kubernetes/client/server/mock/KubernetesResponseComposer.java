@@ -38,9 +38,29 @@ public class KubernetesResponseComposer implements ResponseComposer {
 
   @Override
   public String compose(Collection<String> collection) {
+    return compose(collection, "", null, null);
+  }
+
+  /**
+   * Composes a list with the given list metadata.
+   *
+   * @param collection the items
+   * @param resourceVersion the resource version of the list
+   * @param continueToken the token of the next page, null for the last page
+   * @param remainingItemCount the number of items after this page, null for the last page
+   * @return the list
+   */
+  public String compose(Collection<String> collection, String resourceVersion, String continueToken, Long remainingItemCount) {
+    StringBuilder metadata = new StringBuilder("\"resourceVersion\": \"").append(resourceVersion).append("\", \"selfLink\": \"\"");
+    if (continueToken != null) {
+      metadata.append(", \"continue\": \"").append(continueToken).append("\"");
+    }
+    if (remainingItemCount != null) {
+      metadata.append(", \"remainingItemCount\": ").append(remainingItemCount);
+    }
     return String.format(
         "{\"apiVersion\":\"v1\",\"kind\":\"List\", \"items\": [%s], " +
-         "\"metadata\": {\"resourceVersion\": \"\", \"selfLink\": \"\"}}",
-        join(",", collection));
+         "\"metadata\": {%s}}",
+        join(",", collection), metadata);
   }
 }
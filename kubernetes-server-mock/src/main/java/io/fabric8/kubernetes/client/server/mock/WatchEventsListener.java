@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client.server.mock;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.utils.Serialization;
@@ -27,37 +29,53 @@ import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
 
 class WatchEventsListener extends WebSocketListener {
+  static final String BOOKMARK = "BOOKMARK";
+
   private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
   private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
   private final AttributeSet attributeSet;
   private final Context context;
   private final Set<WatchEventsListener> watchEventListenerList;
   private final Logger logger;
-  private final Consumer<WatchEventsListener> onOpenAction;
+  private final boolean bookmarks;
+  // messages sent before the WebSocket is open, flushed in order once it is
+  private final List<WebSocketMessage> pending = new ArrayList<>();
+  private boolean open;
+  private volatile long resourceVersion;
+  private volatile KubernetesResource bookmarkTemplate;
 
-  public WatchEventsListener(Context context, AttributeSet attributeSet, final Set<WatchEventsListener> watchEventListenerList, Logger logger, Consumer<WatchEventsListener> onOpenAction) {
+  /**
+   * @param resourceVersion the resource version the watch starts from, bookmarks are only due once the store has
+   *                        moved far enough past it
+   */
+  public WatchEventsListener(Context context, AttributeSet attributeSet, final Set<WatchEventsListener> watchEventListenerList, Logger logger, boolean bookmarks, long resourceVersion) {
     this.logger = logger;
     this.context = context;
     this.attributeSet = attributeSet;
     this.watchEventListenerList = watchEventListenerList;
-    this.onOpenAction = onOpenAction;
+    this.bookmarks = bookmarks;
+    this.resourceVersion = resourceVersion;
   }
 
   public boolean attributeMatches(AttributeSet set) {
     return set.matches(attributeSet);
   }
+
   @Override
-  public void onOpen(WebSocket webSocket, Response response) {
+  public synchronized void onOpen(WebSocket webSocket, Response response) {
     webSocketRef.set(webSocket);
-    onOpenAction.accept(this);
+    open = true;
+    pending.forEach(this::schedule);
+    pending.clear();
   }
 
   @Override
@@ -95,7 +113,69 @@ class WatchEventsListener extends WebSocketListener {
 
 
   public void sendWebSocketResponse(String object, String eventType) {
-    WebSocketMessage message = toWebSocketMessage(context, new WatchEvent(Serialization.unmarshal(object, KubernetesResource.class), eventType));
+    send(Serialization.unmarshal(object, KubernetesResource.class), eventType);
+  }
+
+  /**
+   * Sends the event, queuing it until the WebSocket is open.
+   *
+   * @param object the object of the event
+   * @param eventType the type of the event
+   */
+  synchronized void send(KubernetesResource object, String eventType) {
+    if (object instanceof HasMetadata) {
+      HasMetadata resource = (HasMetadata) object;
+      bookmarkTemplate = resource;
+      if (resource.getMetadata() != null && resource.getMetadata().getResourceVersion() != null) {
+        try {
+          resourceVersion = Math.max(resourceVersion, Long.parseLong(resource.getMetadata().getResourceVersion()));
+        } catch (NumberFormatException e) {
+          logger.debug("Ignoring non numeric resource version {}", resource.getMetadata().getResourceVersion());
+        }
+      }
+    }
+    WebSocketMessage message = toWebSocketMessage(context, new WatchEvent(object, eventType));
+    if (open) {
+      schedule(message);
+    } else {
+      pending.add(message);
+    }
+  }
+
+  /**
+   * Sends a BOOKMARK event with the given resource version if bookmarks were requested and the watch hasn't
+   * received any event since the given number of versions, so that it can resume from a retained version.
+   *
+   * @param currentResourceVersion the current resource version of the store
+   * @param lag the number of versions after which a bookmark is sent
+   */
+  void bookmark(long currentResourceVersion, long lag) {
+    KubernetesResource template = bookmarkTemplate;
+    if (bookmarks && template != null && currentResourceVersion - resourceVersion >= lag) {
+      HasMetadata resource = (HasMetadata) template;
+      ObjectNode bookmark = context.getMapper().createObjectNode()
+        .put("apiVersion", resource.getApiVersion())
+        .put("kind", resource.getKind());
+      bookmark.putObject("metadata").put("resourceVersion", Long.toString(currentResourceVersion));
+      send(Serialization.unmarshal(bookmark.toString(), KubernetesResource.class), BOOKMARK);
+    }
+  }
+
+  /**
+   * Uses the given resource as the template of the BOOKMARK events, unless an event was already sent.
+   *
+   * @param object a resource of the watched kind
+   */
+  void bookmarkTemplate(String object) {
+    if (bookmarkTemplate == null) {
+      KubernetesResource resource = Serialization.unmarshal(object, KubernetesResource.class);
+      if (resource instanceof HasMetadata) {
+        bookmarkTemplate = resource;
+      }
+    }
+  }
+
+  private void schedule(WebSocketMessage message) {
     executor.schedule(() -> webSocketRef.get().send(message.getBody()), message.getDelay(), TimeUnit.SECONDS);
   }
 
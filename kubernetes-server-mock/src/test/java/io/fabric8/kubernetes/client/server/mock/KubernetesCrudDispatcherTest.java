@@ -0,0 +1,220 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.mockwebserver.Context;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+class KubernetesCrudDispatcherTest {
+
+  KubernetesClient client;
+
+  @Test
+  void concurrentClientsShouldSeeConsistentStore() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        int offset = thread * 50;
+        futures.add(executor.submit(() -> {
+          for (int i = offset; i < offset + 50; i++) {
+            client.pods().inNamespace("ns-" + (i % 2)).create(pod("pod-" + i, "app-" + (i % 5)));
+            assertNotNull(client.pods().inNamespace("ns-" + (i % 2)).withName("pod-" + i).get());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(200, client.pods().inAnyNamespace().list().getItems().size());
+    assertEquals(100, client.pods().inNamespace("ns-1").list().getItems().size());
+    assertEquals(20, client.pods().inNamespace("ns-1").withLabel("app", "app-1").list().getItems().size());
+    assertEquals(20, client.pods().inNamespace("ns-0").withLabel("app", "app-2").list().getItems().size());
+  }
+
+  @Test
+  void patchShouldMoveResourceToNewLabelIndex() {
+    client.pods().inNamespace("ns").create(pod("pod", "before"));
+
+    client.pods().inNamespace("ns").withName("pod").edit(p -> new PodBuilder(p).editMetadata().addToLabels("app", "after").endMetadata().build());
+
+    assertEquals(0, client.pods().inNamespace("ns").withLabel("app", "before").list().getItems().size());
+    assertEquals(1, client.pods().inNamespace("ns").withLabel("app", "after").list().getItems().size());
+    client.pods().inNamespace("ns").withName("pod").delete();
+    assertNull(client.pods().inNamespace("ns").withName("pod").get());
+    assertEquals(0, client.pods().inNamespace("ns").withLabel("app", "after").list().getItems().size());
+  }
+
+  @Test
+  void changesShouldGetIncreasingResourceVersions() {
+    client.pods().inNamespace("ns").create(pod("pod", "before"));
+    Pod created = client.pods().inNamespace("ns").withName("pod").get();
+    Pod patched = client.pods().inNamespace("ns").withName("pod")
+      .edit(p -> new PodBuilder(p).editMetadata().addToLabels("app", "after").endMetadata().build());
+    client.pods().inNamespace("ns").create(pod("other", "other"));
+
+    long createdVersion = Long.parseLong(created.getMetadata().getResourceVersion());
+    long patchedVersion = Long.parseLong(patched.getMetadata().getResourceVersion());
+    assertTrue(patchedVersion > createdVersion);
+    assertEquals(Long.toString(patchedVersion + 1), client.pods().inNamespace("ns").list().getMetadata().getResourceVersion());
+  }
+
+  @Test
+  void listWithLimitShouldReturnSortedPages() throws InterruptedException {
+    for (int i = 9; i >= 0; i--) {
+      client.pods().inNamespace("ns").create(pod("pod-" + i, "app"));
+    }
+    String listVersion = client.pods().inNamespace("ns").list().getMetadata().getResourceVersion();
+
+    PodList first = client.pods().inNamespace("ns").list(new ListOptionsBuilder().withLimit(4L).build());
+    client.pods().inNamespace("ns").create(pod("pod-99", "app"));
+    PodList second = client.pods().inNamespace("ns").list(new ListOptionsBuilder().withLimit(4L)
+      .withContinue(first.getMetadata().getContinue()).build());
+    PodList last = client.pods().inNamespace("ns").list(new ListOptionsBuilder().withLimit(4L)
+      .withContinue(second.getMetadata().getContinue()).build());
+
+    assertEquals(Arrays.asList("pod-0", "pod-1", "pod-2", "pod-3"), names(first));
+    assertEquals(Long.valueOf(6), first.getMetadata().getRemainingItemCount());
+    assertEquals(Arrays.asList("pod-4", "pod-5", "pod-6", "pod-7"), names(second));
+    assertEquals(Arrays.asList("pod-8", "pod-9"), names(last));
+    assertNull(last.getMetadata().getContinue());
+    assertEquals(listVersion, last.getMetadata().getResourceVersion());
+    BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    try (Watch ignored = client.pods().inNamespace("ns").watch(new ListOptionsBuilder().withResourceVersion(listVersion).build(),
+      new Watcher<Pod>() {
+        @Override
+        public void eventReceived(Action action, Pod resource) {
+          events.add(action + " " + resource.getMetadata().getName());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+        }
+      })) {
+      assertEquals("ADDED pod-99", events.poll(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void watchFromResourceVersionShouldReplayLaterChangesOnly() throws InterruptedException {
+    client.pods().inNamespace("ns").create(pod("existing", "app"));
+    String resourceVersion = client.pods().inNamespace("ns").list().getMetadata().getResourceVersion();
+    client.pods().inNamespace("ns").create(pod("added", "app"));
+    client.pods().inNamespace("ns").withName("existing").delete();
+    BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+    try (Watch ignored = client.pods().inNamespace("ns").watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(),
+      new Watcher<Pod>() {
+        @Override
+        public void eventReceived(Action action, Pod resource) {
+          events.add(action + " " + resource.getMetadata().getName());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+        }
+      })) {
+      assertEquals("ADDED added", events.poll(10, TimeUnit.SECONDS));
+      assertEquals("DELETED existing", events.poll(10, TimeUnit.SECONDS));
+      client.pods().inNamespace("ns").create(pod("live", "app"));
+      assertEquals("ADDED live", events.poll(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void compactedResourceVersionsShouldBeGone() throws InterruptedException {
+    KubernetesMockServer server = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(),
+      new KubernetesCrudDispatcher(new KubernetesCrudAttributesExtractor(), new KubernetesResponseComposer(), 2), false);
+    server.init();
+    try (NamespacedKubernetesClient compactedClient = server.createClient()) {
+      for (int i = 0; i < 3; i++) {
+        compactedClient.pods().inNamespace("ns").create(pod("pod-" + i, "app"));
+      }
+      String continueToken = compactedClient.pods().inNamespace("ns").list(new ListOptionsBuilder().withLimit(1L).build())
+        .getMetadata().getContinue();
+      for (int i = 3; i < 6; i++) {
+        compactedClient.pods().inNamespace("ns").create(pod("pod-" + i, "app"));
+      }
+      CompletableFuture<WatcherException> closed = new CompletableFuture<>();
+
+      compactedClient.pods().inNamespace("ns").watch(new ListOptionsBuilder().withResourceVersion("1").build(), new Watcher<Pod>() {
+        @Override
+        public void eventReceived(Action action, Pod resource) {
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+          closed.complete(cause);
+        }
+      });
+      KubernetesClientException listGone = assertThrows(KubernetesClientException.class,
+        () -> compactedClient.pods().inNamespace("ns").list(new ListOptionsBuilder().withLimit(1L).withContinue(continueToken).build()));
+
+      assertEquals(HttpURLConnection.HTTP_GONE, listGone.getCode());
+      assertTrue(closed.get(10, TimeUnit.SECONDS).isHttpGone());
+    } catch (ExecutionException | TimeoutException e) {
+      throw new AssertionError(e);
+    } finally {
+      server.destroy();
+    }
+  }
+
+  private static List<String> names(PodList list) {
+    return list.getItems().stream().map(p -> p.getMetadata().getName()).collect(Collectors.toList());
+  }
+
+  private static Pod pod(String name, String app) {
+    return new PodBuilder().withNewMetadata().withName(name).addToLabels("app", app).endMetadata().build();
+  }
+}
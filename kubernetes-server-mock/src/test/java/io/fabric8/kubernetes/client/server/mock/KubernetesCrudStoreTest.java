@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.server.mock;
+
+import io.fabric8.mockwebserver.crud.Attribute;
+import io.fabric8.mockwebserver.crud.AttributeSet;
+import io.fabric8.mockwebserver.crud.AttributeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KubernetesCrudStoreTest {
+
+  private KubernetesCrudStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new KubernetesCrudStore(new LinkedHashMap<>(), 10);
+    for (int i = 0; i < 100; i++) {
+      put("pod-" + i, new Attribute("kind", "pod"), new Attribute("namespace", "ns-" + (i % 2)),
+        new Attribute("name", "pod-" + i), new Attribute("labels:app", "app-" + (i % 10)));
+    }
+    put("node-1", new Attribute("kind", "node"), new Attribute("name", "node-1"), new Attribute("labels:app", "app-1"));
+  }
+
+  @Test
+  void findByNameIgnoresOtherKindsAndNamespaces() {
+    assertEquals(Arrays.asList("pod-3"), find(new Attribute("kind", "pod"), new Attribute("namespace", "ns-1"), new Attribute("name", "pod-3")));
+    assertTrue(find(new Attribute("kind", "pod"), new Attribute("namespace", "ns-0"), new Attribute("name", "pod-3")).isEmpty());
+    assertTrue(find(new Attribute("kind", "service"), new Attribute("name", "pod-3")).isEmpty());
+  }
+
+  @Test
+  void findByLabelAppliesAllRequirements() {
+    List<String> found = find(new Attribute("kind", "pod"), new Attribute("namespace", "ns-1"),
+      new Attribute("labels:app", "app-1"),
+      new Attribute("name", "pod-11", AttributeType.WITHOUT));
+    assertEquals(Arrays.asList("pod-1", "pod-21", "pod-31", "pod-41", "pod-51", "pod-61", "pod-71", "pod-81", "pod-91"), found);
+  }
+
+  @Test
+  void findWithoutKindScansAllEntries() {
+    assertEquals(Arrays.asList("pod-1"), find(new Attribute("name", "pod-1")));
+    assertEquals(Arrays.asList("node-1"), find(new Attribute("name", "node-1")));
+    assertEquals(11, find(new Attribute("labels:app", "app-1")).size());
+  }
+
+  @Test
+  void removeUpdatesIndices() {
+    Attribute[] query = {new Attribute("kind", "pod"), new Attribute("name", "pod-1")};
+    AttributeSet pod = store.find(query(query), values(query)).get(0).getKey();
+
+    assertEquals("pod-1", store.remove(pod));
+
+    assertTrue(find(new Attribute("kind", "pod"), new Attribute("name", "pod-1")).isEmpty());
+    assertEquals(9, find(new Attribute("kind", "pod"), new Attribute("labels:app", "app-1")).size());
+    assertEquals(99, find(new Attribute("kind", "pod")).size());
+  }
+
+  private void put(String resource, Attribute... attributes) {
+    store.put(query(attributes), values(attributes), resource);
+  }
+
+  private List<String> find(Attribute... attributes) {
+    return store.find(query(attributes), values(attributes)).stream().map(Map.Entry::getValue).collect(Collectors.toList());
+  }
+
+  private static AttributeSet query(Attribute... attributes) {
+    return new AttributeSet(Arrays.asList(attributes));
+  }
+
+  private static Map<String, String> values(Attribute... attributes) {
+    return KubernetesCrudStore.values(Arrays.asList(attributes));
+  }
+}
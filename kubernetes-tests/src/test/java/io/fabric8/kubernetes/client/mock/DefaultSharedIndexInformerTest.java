@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.api.model.ListMetaBuilder;
 import io.fabric8.kubernetes.api.model.Namespace;
 import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
@@ -38,6 +40,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBindingBuilder;
 import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ResourceEvent;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
@@ -59,7 +62,12 @@ import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -67,6 +75,9 @@ import java.util.function.Function;
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @EnableKubernetesMockClient
 class DefaultSharedIndexInformerTest {
@@ -103,7 +114,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, getList(startResourceVersion, Pod.class)).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -139,6 +150,86 @@ class DefaultSharedIndexInformerTest {
     assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
   }
 
+  @Test
+  @DisplayName("Pod Informer should deliver the events received within the batch delay in a single batch")
+  void testPodInformerWithBatchEventHandler() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, getList(startResourceVersion, Pod.class)).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1001").endMetadata().build(), "ADDED"))
+      .waitFor(50L)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod2").withResourceVersion("1002").endMetadata().build(), "ADDED"))
+      .waitFor(50L)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod3").withResourceVersion("1003").endMetadata().build(), "ADDED"))
+      .done().always();
+
+    // When
+    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    SharedIndexInformer<Pod> podInformer = factory.inNamespace("test").withScheduler(scheduler).sharedIndexInformerFor(Pod.class, 60 * 1000L);
+    BlockingQueue<List<ResourceEvent<Pod>>> batches = new LinkedBlockingQueue<>();
+    podInformer.addBatchEventHandler(batches::add, 10, 2000L);
+    try {
+      factory.startAllRegisteredInformers();
+      List<ResourceEvent<Pod>> batch = batches.poll(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+      // Then
+      assertNotNull(batch);
+      assertEquals(3, batch.size());
+      assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+    } finally {
+      factory.stopAllRegisteredInformers();
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Pod Informer should track the resource version of bookmarks")
+  void testPodInformerWithBookmarks() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000", endResourceVersion = "1001", bookmarkResourceVersion = "1500";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, getList(startResourceVersion, Pod.class)).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withResourceVersion(bookmarkResourceVersion).endMetadata().build(), "BOOKMARK"))
+      .done().always();
+
+    // When
+    SharedIndexInformer<Pod> podInformer = factory.inNamespace("test").sharedIndexInformerFor(Pod.class, 0L);
+    CountDownLatch addedPods = new CountDownLatch(1);
+    podInformer.addEventHandler(
+      new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          addedPods.countDown();
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) { }
+
+        @Override
+        public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    // Then
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> bookmarkResourceVersion.equals(podInformer.lastSyncResourceVersion()));
+    assertEquals(0L, addedPods.getCount());
+    assertEquals(1, podInformer.getIndexer().list().size());
+  }
+
   @Test
   void testInformerWithNamespaceAndNameConfigured() throws InterruptedException {
     // Given
@@ -146,7 +237,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces/test/pods?fieldSelector=" + Utils.toUrlEncoded("metadata.name=pod1"))
       .andReturn(200, getList(startResourceVersion, Pod.class)).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?fieldSelector=" + Utils.toUrlEncoded("metadata.name=pod1") + "&resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?fieldSelector=" + Utils.toUrlEncoded("metadata.name=pod1") + "&resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -182,6 +273,97 @@ class DefaultSharedIndexInformerTest {
     assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
   }
 
+  @Test
+  @DisplayName("Pod Informers with different label selectors should coexist and only cache the matching pods")
+  void testInformersWithLabelSelectors() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    for (String app : new String[] { "foo", "bar" }) {
+      server.expect().withPath("/api/v1/namespaces/test/pods?labelSelector=" + Utils.toUrlEncoded("app=" + app))
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+          .addNewItem().withNewMetadata().withNamespace("test").withName(app + "1").addToLabels("app", app).endMetadata().endItem()
+          .build()).once();
+      server.expect().withPath("/api/v1/namespaces/test/pods?labelSelector=" + Utils.toUrlEncoded("app=" + app) + "&resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(WATCH_EVENT_EMIT_TIME)
+        .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withNamespace("test").withName(app + "2").addToLabels("app", app)
+          .withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+        .done().always();
+    }
+
+    // When
+    SharedIndexInformer<Pod> fooInformer = factory.inNamespace("test").withLabel("app", "foo").sharedIndexInformerFor(Pod.class, 0L);
+    SharedIndexInformer<Pod> barInformer = factory.inNamespace("test").withLabel("app", "bar").sharedIndexInformerFor(Pod.class, 0L);
+    factory.startAllRegisteredInformers();
+
+    // Then
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> fooInformer.getIndexer().list().size() == 2 && barInformer.getIndexer().list().size() == 2);
+    assertTrue(fooInformer.getIndexer().list().stream().allMatch(pod -> pod.getMetadata().getName().startsWith("foo")));
+    assertTrue(barInformer.getIndexer().list().stream().allMatch(pod -> pod.getMetadata().getName().startsWith("bar")));
+    assertEquals(2, factory.getExistingSharedIndexInformers(Pod.class).size());
+  }
+
+  @Test
+  @DisplayName("Pod Informer should list and watch with set based and negated selectors")
+  void testInformerWithSetBasedSelectors() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    String selectors = "labelSelector=%21canary%2Capp%20in%20%28bar%2Cfoo%29&fieldSelector=status.phase%21%3DFailed";
+    server.expect().withPath("/api/v1/namespaces/test/pods?" + selectors)
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .addNewItem().withNewMetadata().withNamespace("test").withName("foo1").addToLabels("app", "foo").endMetadata().endItem()
+        .build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?" + selectors + "&resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withNamespace("test").withName("bar1").addToLabels("app", "bar")
+        .withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .done().always();
+
+    // When
+    SharedIndexInformer<Pod> podInformer = factory.inNamespace("test")
+      .withoutLabel("canary")
+      .withLabelIn("app", "bar", "foo")
+      .withoutField("status.phase", "Failed")
+      .sharedIndexInformerFor(Pod.class, 0L);
+    factory.startAllRegisteredInformers();
+
+    // Then
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> podInformer.getIndexer().list().size() == 2);
+    assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
+  }
+
+  @Test
+  @DisplayName("Metadata Informer should only cache the metadata of the pods")
+  void testPodMetadataInformer() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PartialObjectMetadataList("meta.k8s.io/v1", Collections.singletonList(
+          new PartialObjectMetadata("meta.k8s.io/v1", "PartialObjectMetadata", new ObjectMetaBuilder().withNamespace("test").withName("pod1").withResourceVersion(startResourceVersion).build())),
+        "PartialObjectMetadataList", new ListMetaBuilder().withResourceVersion(startResourceVersion).build())).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PartialObjectMetadata("meta.k8s.io/v1", "PartialObjectMetadata",
+        new ObjectMetaBuilder().withNamespace("test").withName("pod2").withResourceVersion(endResourceVersion).build()), "ADDED"))
+      .done().always();
+
+    // When
+    SharedIndexInformer<PartialObjectMetadata> podInformer = factory.inNamespace("test").sharedIndexInformerForMetadata(Pod.class, 0L);
+    factory.startAllRegisteredInformers();
+
+    // Then
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS).until(() -> podInformer.getIndexer().list().size() == 2);
+    assertEquals(endResourceVersion, podInformer.getIndexer().getByKey("test/pod2").getMetadata().getResourceVersion());
+    assertEquals("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1", server.getLastRequest().getHeader("Accept"));
+  }
+
   @Test
   @DisplayName("Pod Informer should watch in all namespaces")
   void testAllNamespacedInformer() throws InterruptedException {
@@ -190,7 +372,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -232,7 +414,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -243,7 +425,7 @@ class DefaultSharedIndexInformerTest {
     server.expect().withPath("/api/v1/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(mid2ResourceVersion).endMetadata().withItems(
               new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion(endResourceVersion).endMetadata().build()).build()).times(2);
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + mid2ResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + mid2ResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -286,7 +468,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -325,6 +507,92 @@ class DefaultSharedIndexInformerTest {
     assertEquals(0, podInformer.getIndexer().list().size());
   }
 
+  @Test
+  @DisplayName("Pod Informer should list resources in chunks when a limit is configured")
+  void testPodInformerWithListLimit() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000";
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).withContinue("pod2").endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion(startResourceVersion).endMetadata().build()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1&continue=pod2")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod2").withResourceVersion(startResourceVersion).endMetadata().build()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .done().always();
+
+    // When
+    SharedIndexInformer<Pod> podInformer = factory.inNamespace("test").withLimit(1L).sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    CountDownLatch foundPod1 = new CountDownLatch(1);
+    CountDownLatch foundPod2 = new CountDownLatch(1);
+    podInformer.addEventHandler(new TestResourceHandler<>(foundPod1, "pod1"));
+    podInformer.addEventHandler(new TestResourceHandler<>(foundPod2, "pod2"));
+    factory.startAllRegisteredInformers();
+    foundPod1.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    foundPod2.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals(0, foundPod1.getCount());
+    assertEquals(0, foundPod2.getCount());
+    await().atMost(1, TimeUnit.SECONDS).until(podInformer::hasSynced);
+    assertEquals(2, podInformer.getIndexer().list().size());
+  }
+
+  @Test
+  @DisplayName("Informers created with a shared scheduler should run on its threads")
+  void testInformersWithSharedScheduler() throws InterruptedException {
+    // Given
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion(startResourceVersion).endMetadata().build()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod2").withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .done().always();
+    server.expect().withPath("/api/v1/namespaces/test/serviceaccounts")
+      .andReturn(200, getList(startResourceVersion, ServiceAccount.class)).once();
+    server.expect().withPath("/api/v1/namespaces/test/serviceaccounts?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new ServiceAccountBuilder().withNewMetadata().withNamespace("test").withName("sa1").withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .done().always();
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    try {
+      // When
+      factory.inNamespace("test").withScheduler(scheduler);
+      SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, 0L);
+      SharedIndexInformer<ServiceAccount> serviceAccountInformer = factory.sharedIndexInformerFor(ServiceAccount.class, 0L);
+      CountDownLatch foundPod1 = new CountDownLatch(1);
+      CountDownLatch foundPod2 = new CountDownLatch(1);
+      CountDownLatch foundServiceAccount = new CountDownLatch(1);
+      podInformer.addEventHandler(new TestResourceHandler<>(foundPod1, "pod1"));
+      podInformer.addEventHandler(new TestResourceHandler<>(foundPod2, "pod2"));
+      serviceAccountInformer.addEventHandler(new TestResourceHandler<>(foundServiceAccount, "sa1"));
+      factory.startAllRegisteredInformers();
+      foundPod1.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+      foundPod2.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+      foundServiceAccount.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+
+      // Then
+      assertEquals(0, foundPod1.getCount());
+      assertEquals(0, foundPod2.getCount());
+      assertEquals(0, foundServiceAccount.getCount());
+      await().atMost(1, TimeUnit.SECONDS).until(podInformer::hasSynced);
+      assertEquals(2, podInformer.getIndexer().list().size());
+      factory.stopAllRegisteredInformers(false);
+      assertFalse(scheduler.isShutdown());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
   @Test
   @DisplayName("PodInformer's hasSynced() method should return false when it's not able to resync")
   void testHasSynced() {
@@ -332,7 +600,7 @@ class DefaultSharedIndexInformerTest {
     String startResourceVersion = "1000", endResourceVersion = "1001";
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -797,7 +1065,7 @@ class DefaultSharedIndexInformerTest {
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
 
     // initial watch - terminates with an exception
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -807,7 +1075,7 @@ class DefaultSharedIndexInformerTest {
       .done().always();
 
     // should pick this up after the termination
-    server.expect().withPath("/api/v1/pods?resourceVersion=" + midResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/pods?resourceVersion=" + midResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -903,7 +1171,7 @@ class DefaultSharedIndexInformerTest {
       watchUrl += "?";
     }
 
-    watchUrl += "resourceVersion=" + startResourceVersion + "&watch=true";
+    watchUrl += "resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true";
     server.expect().withPath(watchUrl)
       .andUpgradeToWebSocket()
       .open()
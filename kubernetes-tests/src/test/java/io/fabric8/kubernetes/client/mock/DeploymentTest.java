@@ -44,6 +44,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -342,6 +343,50 @@ class DeploymentTest {
       .updateImage("");
   }
 
+  @Test
+  void testRollingPatchAsync() throws Exception {
+    Deployment deployment = new DeploymentBuilder()
+      .withNewMetadata()
+      .withName("deployment1")
+      .withNamespace("ns1")
+      .endMetadata()
+      .withNewSpec()
+      .withReplicas(1)
+      .withNewSelector()
+      .withMatchLabels(Collections.singletonMap("service", "http-server"))
+      .endSelector()
+      .withNewTemplate()
+      .withNewMetadata().withLabels(Collections.singletonMap("service", "http-server")).endMetadata()
+      .withNewSpec()
+      .addNewContainer().withName("nginx").withImage("nginx:1.10.2").endContainer()
+      .endSpec()
+      .endTemplate()
+      .endSpec()
+      .build();
+    Deployment updated = new DeploymentBuilder(deployment)
+      .editSpec().editTemplate().editSpec().editFirstContainer().withImage("nginx:1.11.0").endContainer().endSpec().endTemplate().endSpec()
+      .build();
+
+    server.expect().withPath("/apis/apps/v1/namespaces/ns1/deployments/deployment1").andReturn(200, deployment).always();
+    server.expect().withPath("/api/v1/namespaces/ns1/pods?labelSelector=service%3Dhttp-server").andReturn(200, new KubernetesListBuilder().build()).once();
+    server.expect().post().withPath("/apis/apps/v1/namespaces/ns1/deployments").andReturn(201, deployment).times(2);
+
+    Deployment result = client.apps().deployments().inNamespace("ns1")
+      .withName("deployment1")
+      .rolling()
+      .withTimeout(5, TimeUnit.MINUTES)
+      .patchAsync(updated)
+      .get(30, TimeUnit.SECONDS);
+
+    assertNotNull(result);
+    // the rolling update creates a new deployment instead of only patching the existing one
+    List<String> methods = new ArrayList<>();
+    for (int i = 0; i < server.getRequestCount(); i++) {
+      methods.add(server.takeRequest().getMethod());
+    }
+    assertTrue(methods.contains("POST"));
+  }
+
   @Test
   void testListFromServer() {
     DeploymentBuilder deploymentBuilder = new DeploymentBuilder()
@@ -18,6 +18,11 @@ package io.fabric8.kubernetes.client.mock;
 
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -50,6 +55,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PipedOutputStream;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
@@ -58,13 +64,21 @@ import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -110,6 +124,81 @@ class PodTest {
     assertEquals(3, podList.getItems().size());
   }
 
+  @Test
+  void testListMetadata() throws InterruptedException {
+    server.expect().withPath("/api/v1/namespaces/ns1/pods?labelSelector=" + Utils.toUrlEncoded("app=foo")).andReturn(200, new PartialObjectMetadataList(
+      "meta.k8s.io/v1", Arrays.asList(
+        new PartialObjectMetadata("meta.k8s.io/v1", "PartialObjectMetadata", new ObjectMetaBuilder().withName("pod1").withResourceVersion("1").build()),
+        new PartialObjectMetadata("meta.k8s.io/v1", "PartialObjectMetadata", new ObjectMetaBuilder().withName("pod2").withResourceVersion("2").build())),
+      "PartialObjectMetadataList", new ListMetaBuilder().withResourceVersion("2").build())).once();
+
+    PartialObjectMetadataList podList = client.pods().inNamespace("ns1").withLabel("app", "foo").listMetadata();
+
+    assertNotNull(podList);
+    assertEquals(2, podList.getItems().size());
+    assertEquals("pod1", podList.getItems().get(0).getMetadata().getName());
+    assertEquals("2", podList.getMetadata().getResourceVersion());
+    assertEquals("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1", server.getLastRequest().getHeader("Accept"));
+  }
+
+  @Test
+  void testListMetadataIgnoresSpecAndStatus() {
+    server.expect().withPath("/api/v1/namespaces/ns1/pods").andReturn(200, new PodListBuilder()
+      .addNewItem().withNewMetadata().withName("pod1").endMetadata().withNewSpec().withNodeName("node1").endSpec().and()
+      .build()).once();
+
+    PartialObjectMetadataList podList = client.pods().inNamespace("ns1").listMetadata();
+
+    assertEquals(1, podList.getItems().size());
+    assertEquals("pod1", podList.getItems().get(0).getMetadata().getName());
+  }
+
+  @Test
+  void testStreamFetchesPagesOnDemand() {
+    server.expect().withPath("/api/v1/namespaces/ns1/pods?limit=2&labelSelector=" + Utils.toUrlEncoded("app=foo")).andReturn(200, new PodListBuilder()
+      .withNewMetadata().withContinue("page2").endMetadata()
+      .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+      .addNewItem().withNewMetadata().withName("pod2").endMetadata().and()
+      .build()).once();
+    server.expect().withPath("/api/v1/namespaces/ns1/pods?limit=2&continue=page2&labelSelector=" + Utils.toUrlEncoded("app=foo")).andReturn(200, new PodListBuilder()
+      .withNewMetadata().endMetadata()
+      .addNewItem().withNewMetadata().withName("pod3").endMetadata().and()
+      .build()).once();
+
+    int requestCount = server.getRequestCount();
+    try (Stream<Pod> pods = client.pods().inNamespace("ns1").withLabel("app", "foo")
+      .stream(new ListOptionsBuilder().withLimit(2L).build())) {
+      Iterator<Pod> iterator = pods.iterator();
+
+      assertEquals("pod1", iterator.next().getMetadata().getName());
+      assertEquals("pod2", iterator.next().getMetadata().getName());
+      assertEquals(requestCount + 1, server.getRequestCount());
+      assertEquals("pod3", iterator.next().getMetadata().getName());
+      assertFalse(iterator.hasNext());
+      assertEquals(requestCount + 2, server.getRequestCount());
+    }
+  }
+
+  @Test
+  void testStreamUsesDefaultPageSize() {
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=500").andReturn(200, new PodListBuilder()
+      .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+      .build()).once();
+
+    List<String> names = client.pods().stream().map(p -> p.getMetadata().getName()).collect(Collectors.toList());
+
+    assertEquals(Collections.singletonList("pod1"), names);
+  }
+
+  @Test
+  void testStreamFailure() {
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=500").andReturn(403, "forbidden").once();
+
+    Stream<Pod> pods = client.pods().stream();
+
+    assertThrows(KubernetesClientException.class, pods::count);
+  }
+
   @Test
   void testListWithLabels() {
    server.expect().withPath("/api/v1/namespaces/test/pods?labelSelector=" + Utils.toUrlEncoded("key1=value1,key2=value2,key3=value3")).andReturn(200, new PodListBuilder().build()).always();
@@ -157,6 +246,52 @@ class PodTest {
   }
 
 
+  @Test
+  void testAsyncOperations() throws Exception {
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod).always();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod2").andReturn(404, "").once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods").andReturn(200, new PodListBuilder()
+      .addNewItem().and()
+      .addNewItem().and().build()).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(201, pod).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, new PodBuilder(pod)
+      .editMetadata().addToLabels("patched", "true").endMetadata().build()).once();
+
+    CompletableFuture<Pod> got = client.pods().withName("pod1").getAsync();
+    CompletableFuture<Pod> missing = client.pods().withName("pod2").getAsync();
+    CompletableFuture<PodList> list = client.pods().listAsync();
+    CompletableFuture<Pod> created = client.pods().createAsync(pod);
+    CompletableFuture<Pod> patched = client.pods().withName("pod1")
+      .patchAsync(new PodBuilder(pod).editMetadata().addToLabels("patched", "true").endMetadata().build());
+
+    assertEquals("pod1", got.get(10, TimeUnit.SECONDS).getMetadata().getName());
+    assertNull(missing.get(10, TimeUnit.SECONDS));
+    assertEquals(2, list.get(10, TimeUnit.SECONDS).getItems().size());
+    assertEquals("pod1", created.get(10, TimeUnit.SECONDS).getMetadata().getName());
+    assertEquals("true", patched.get(10, TimeUnit.SECONDS).getMetadata().getLabels().get("patched"));
+    assertEquals("PATCH", server.getLastRequest().getMethod());
+  }
+
+  @Test
+  void testCreateAsyncWithoutItem() {
+    CompletableFuture<Pod> created = client.pods().createAsync(null);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> created.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  void testGetAsyncFailure() {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(500, "internal error").once();
+
+    CompletableFuture<Pod> got = client.pods().withName("pod1").getAsync();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> got.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof KubernetesClientException);
+    assertEquals(500, ((KubernetesClientException) e.getCause()).getCode());
+  }
+
   @Test
   void testEditMissing() {
     // Given
@@ -324,6 +459,64 @@ class PodTest {
     watch.close();
   }
 
+  @Test
+  void testExecWritingOutputToChannel() throws InterruptedException {
+    String expectedOutput = "file1 file2";
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1/exec?command=ls&stdout=true")
+            .andUpgradeToWebSocket()
+                .open(new OutputStreamMessage(expectedOutput))
+                .done()
+            .always();
+
+    final CountDownLatch execLatch = new CountDownLatch(1);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ExecWatch watch = client.pods().withName("pod1").writingOutput(Channels.newChannel(baos)).usingListener(new ExecListener() {
+      @Override
+      public void onOpen(Response response) {
+      }
+
+      @Override
+      public void onFailure(Throwable t , Response response) {
+        execLatch.countDown();
+      }
+
+      @Override
+      public void onClose(int code, String reason) {
+        execLatch.countDown();
+      }
+    }).exec("ls");
+
+    execLatch.await(10, TimeUnit.SECONDS);
+    assertEquals(expectedOutput, baos.toString());
+    watch.close();
+  }
+
+  @Test
+  void testExecRedirectingInputSendsFramesDirectly() throws Exception {
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1/exec?command=cat&stdin=true&stdout=true")
+            .andUpgradeToWebSocket()
+                .open()
+                .expect("\u0000hello").andEmit(new OutputStreamMessage("hello")).always()
+                .done()
+            .always();
+
+    CompletableFuture<String> output = new CompletableFuture<>();
+    ExecWatch watch = client.pods().withName("pod1").redirectingInput()
+      .writingOutput(Channels.newChannel(new ByteArrayOutputStream() {
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+          output.complete(new String(b, off, len, StandardCharsets.UTF_8));
+        }
+      }))
+      .exec("cat");
+
+    watch.getInput().write("hello".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("hello", output.get(10, TimeUnit.SECONDS));
+    assertFalse(watch.getInput() instanceof PipedOutputStream);
+    watch.close();
+  }
+
 
   @Test
   void testWatch() throws InterruptedException {
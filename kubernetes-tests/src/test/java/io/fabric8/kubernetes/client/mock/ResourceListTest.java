@@ -22,15 +22,22 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientApplyException;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.dsl.ListVisitFromServerGetDeleteRecreateWaitApplicable;
@@ -47,7 +54,9 @@ import java.util.function.Predicate;
 
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_GONE;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -306,6 +315,88 @@ public class ResourceListTest {
       .containsExactlyInAnyOrder(pod1, pod2);
   }
 
+  @Test
+  void testCreateOrReplaceInParallelCreatesNamespacesFirst() throws InterruptedException {
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns1").and().build();
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns1/pods").andReturn(HTTP_CREATED, pod1).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns1/pods").andReturn(HTTP_CREATED, pod2).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, pod2, namespace).withParallelism(4).createOrReplace();
+
+    assertThat(response).containsExactlyInAnyOrder(namespace, pod1, pod2);
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/ns1/pods", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/ns1/pods", server.takeRequest().getPath());
+  }
+
+  @Test
+  void testCreateOrReplaceInParallelReportsEachItem() {
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+    ServiceAccount serviceAccount = new ServiceAccountBuilder().withNewMetadata().withName("sa1").withNamespace("ns2").endMetadata().build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns2/serviceaccounts").andReturn(HTTP_FORBIDDEN, new StatusBuilder().withCode(HTTP_FORBIDDEN).build()).once();
+    ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(pod1, serviceAccount, namespace).withParallelism(2);
+
+    KubernetesClientApplyException ex = assertThrows(KubernetesClientApplyException.class, ops::createOrReplace);
+
+    assertThat(ex.getProcessed()).containsExactly(namespace);
+    assertThat(ex.getFailures()).extracting(KubernetesClientApplyException.Failure::getItem).containsExactly(serviceAccount);
+    assertThat(ex.getSkipped()).containsExactly(pod1);
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  void testDeleteInParallel() throws InterruptedException {
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods/pod1").andReturn(HTTP_OK, pod1).once();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1").andReturn(HTTP_OK, namespace).once();
+
+    Boolean deleted = client.resourceList(namespace, pod1).withParallelism(2).delete();
+
+    assertTrue(deleted);
+    assertEquals("/api/v1/namespaces/ns1/pods/pod1", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/ns1", server.takeRequest().getPath());
+  }
+
+  @Test
+  void testDeleteInParallelStopsLikeSequentialDelete() {
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    server.expect().delete().withPath("/api/v1/namespaces/ns1/pods/pod1").andReturn(HTTP_NOT_FOUND, pod1).once();
+
+    Boolean deleted = client.resourceList(namespace, pod1).withParallelism(2).delete();
+
+    assertFalse(deleted);
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void testCreateOrReplaceInParallelWaitsForDefinitionsToBeEstablished() throws InterruptedException {
+    CustomResourceDefinition crd = new CustomResourceDefinitionBuilder()
+      .withNewMetadata().withName("crontabs.stable.example.com").endMetadata().build();
+    CustomResourceDefinition established = new CustomResourceDefinitionBuilder(crd)
+      .editMetadata().withResourceVersion("2").endMetadata()
+      .withNewStatus().addNewCondition().withType("Established").withStatus("True").endCondition().endStatus()
+      .build();
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns1").and().build();
+    server.expect().post().withPath("/apis/apiextensions.k8s.io/v1/customresourcedefinitions").andReturn(HTTP_CREATED, crd).once();
+    server.expect().get().withPath("/apis/apiextensions.k8s.io/v1/customresourcedefinitions/crontabs.stable.example.com")
+      .andReturn(HTTP_OK, established).once();
+    server.expect().post().withPath("/api/v1/namespaces/ns1/pods").andReturn(HTTP_CREATED, pod1).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, crd).withParallelism(2).createOrReplace();
+
+    assertThat(response).containsExactlyInAnyOrder(established, pod1);
+    assertEquals("/apis/apiextensions.k8s.io/v1/customresourcedefinitions", server.takeRequest().getPath());
+    assertEquals("/apis/apiextensions.k8s.io/v1/customresourcedefinitions/crontabs.stable.example.com", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/ns1/pods", server.takeRequest().getPath());
+  }
+
   private static Pod createReadyFrom(Pod pod, String status) {
     return new PodBuilder(pod)
       .withNewStatus()
@@ -118,6 +118,35 @@ class ServiceTest {
       recordedRequest.getBody().readUtf8());
   }
 
+  @Test
+  void testPatchAsyncKeepsClusterIp() throws Exception {
+    Service serviceFromServer = new ServiceBuilder(service)
+      .editOrNewMetadata().withResourceVersion("1").endMetadata()
+      .editOrNewSpec().withClusterIP("10.96.129.1").endSpec().build();
+    Service serviceUpdated = new ServiceBuilder(service)
+      .editMetadata().addToAnnotations("foo", "bar").endMetadata()
+      .build();
+
+    server.expect().get()
+      .withPath("/api/v1/namespaces/test/services/httpbin")
+      .andReturn(HttpURLConnection.HTTP_OK, serviceFromServer)
+      .always();
+    server.expect().patch()
+      .withPath("/api/v1/namespaces/test/services/httpbin")
+      .andReturn(HttpURLConnection.HTTP_OK, serviceFromServer)
+      .once();
+
+    Service responseSvc = client.services().inNamespace("test").withName("httpbin").patchAsync(serviceUpdated)
+      .get(10, TimeUnit.SECONDS);
+
+    assertNotNull(responseSvc);
+    RecordedRequest recordedRequest = server.getLastRequest();
+    assertEquals("PATCH", recordedRequest.getMethod());
+    // the cluster IP assigned by the server must not be removed by the patch
+    assertEquals("[{\"op\":\"add\",\"path\":\"/metadata/annotations\",\"value\":{\"foo\":\"bar\"}}]",
+      recordedRequest.getBody().readUtf8());
+  }
+
   @Test
   void testDelete() {
     server.expect().delete()
@@ -30,6 +30,7 @@ import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Watchable;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -270,6 +271,40 @@ class WatchTest {
     watch.close();
   }
 
+  @Test
+  @DisplayName("HTTP watch, streams events then GONE and reconnects in between, should receive events and then close")
+  void testHttpWatchReconnectsThenReceivesGone() throws InterruptedException {
+    // Given the WebSocket upgrade is answered with a 200, so the watch falls back to a streaming HTTP GET
+    final Pod pod1update = new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1")
+      .withResourceVersion("10").endMetadata().build();
+    server.expect()
+      .withPath("/api/v1/namespaces/test/pods?fieldSelector=metadata.name%3Dpod1&resourceVersion=1&watch=true")
+      .andReturn(200, Serialization.asJson(new WatchEvent(pod1update, "MODIFIED")) + "\n").times(2);
+    server.expect()
+      .withPath("/api/v1/namespaces/test/pods?fieldSelector=metadata.name%3Dpod1&resourceVersion=10&watch=true")
+      .andReturn(200, Serialization.asJson(new WatchEvent(pod1update, "DELETED")) + "\n" + Serialization.asJson(outdatedEvent()) + "\n")
+      .once();
+    final CountDownLatch eventLatch = new CountDownLatch(2);
+    final CountDownLatch closeLatch = new CountDownLatch(1);
+    // When
+    try (Watch watch = client.pods().inNamespace("test").withName("pod1").withResourceVersion("1").watch(new Watcher<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        eventLatch.countDown();
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+        assertTrue(cause.isHttpGone());
+        closeLatch.countDown();
+      }
+    })) {
+      // Then
+      assertTrue(eventLatch.await(10, TimeUnit.SECONDS));
+      assertTrue(closeLatch.await(10, TimeUnit.SECONDS));
+    }
+  }
+
   private static WatchEvent outdatedEvent() {
     return new WatchEventBuilder().withStatusObject(
       new StatusBuilder().withCode(HttpURLConnection.HTTP_GONE)
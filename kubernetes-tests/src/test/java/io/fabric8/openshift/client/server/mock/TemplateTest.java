@@ -16,6 +16,8 @@
 package io.fabric8.openshift.client.server.mock;
 
 import io.fabric8.kubernetes.api.model.APIGroupListBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -251,6 +253,30 @@ class TemplateTest {
     assertNotNull(list);
   }
 
+  @Test
+  void testProcessLocallyWithNestedParameters() {
+    server.expect().withPath("/apis/template.openshift.io/v1/namespaces/test/templates/tmpl1").andReturn(200, new TemplateBuilder()
+      .withNewMetadata().withName("tmpl1").endMetadata()
+      .addToObjects(new ConfigMapBuilder()
+        .withNewMetadata().withName("${NAME}").endMetadata()
+        .addToData("url", "https://${HOST}")
+        .addToData("${NAME}.port", "${{PORT}}")
+        .build())
+      .withParameters(
+        new ParameterBuilder().withName("NAME").withValue("app").build(),
+        new ParameterBuilder().withName("HOST").withValue("${NAME}.${DOMAIN}").build(),
+        new ParameterBuilder().withName("DOMAIN").build(),
+        new ParameterBuilder().withName("PORT").withValue("8080").build())
+      .build()).once();
+
+    KubernetesList list = client.templates().withName("tmpl1").processLocally(singletonMap("DOMAIN", "example.com"));
+
+    ConfigMap configMap = (ConfigMap) list.getItems().get(0);
+    assertEquals("app", configMap.getMetadata().getName());
+    assertEquals("https://app.example.com", configMap.getData().get("url"));
+    assertEquals("8080", configMap.getData().get("app.port"));
+  }
+
   @Test
   void testCreateOrReplaceOpenShif4() {
     // Given
@@ -45,6 +45,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -123,6 +124,14 @@ public class DeploymentConfigOperationsImpl extends OpenShiftOperation<Deploymen
     return super.patch(item);
   }
 
+  @Override
+  public CompletableFuture<DeploymentConfig> patchAsync(DeploymentConfig item) {
+    if (isCascading()) {
+      return newInstance(context.withCascading(false).withPropagationPolicy(null)).patchAsync(item);
+    }
+    return super.patchAsync(item);
+  }
+
   @Override
   public DeploymentConfig deployLatest() {
     return deployLatest(false);
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.openshift.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the {@code ${NAME}} and {@code ${{NAME}}} references to template parameters while the objects are
+ * serialized, so that all of them are resolved in a single pass over the JSON tokens without ever rendering the
+ * document as a string.
+ * <p>
+ * References found in the value of a parameter, or in the name of another reference as in {@code ${A_${B}}}, are
+ * resolved recursively. References to unknown parameters, and to a parameter from within its own value, are left as
+ * they are. A string made of a single {@code ${{NAME}}} reference is replaced by the JSON value of the parameter, or
+ * by its text when the value isn't valid JSON.
+ */
+class ParameterSubstitutor {
+
+  private static final String REFERENCE_START = "${";
+
+  private final ObjectMapper mapper;
+  private final Map<String, String> values;
+
+  ParameterSubstitutor(ObjectMapper mapper, Map<String, String> values) {
+    this.mapper = mapper;
+    this.values = values;
+  }
+
+  /**
+   * Converts the source to the given type, substituting parameter references in every string and field name.
+   *
+   * @param source the object to convert
+   * @param type the type to convert to
+   * @param <T> the type to convert to
+   * @return the converted object
+   * @throws IOException if the converted tokens can't be bound to the type
+   */
+  <T> T substitute(Object source, Class<T> type) throws IOException {
+    TokenBuffer buffer = new TokenBuffer(mapper, false);
+    mapper.writeValue(new SubstitutingGenerator(buffer), source);
+    return mapper.readValue(buffer.asParser(), type);
+  }
+
+  /**
+   * Replaces the parameter references in the given text.
+   *
+   * @param text the text
+   * @return the text with the references replaced
+   */
+  String substitute(String text) {
+    if (text == null || !text.contains(REFERENCE_START)) {
+      return text;
+    }
+    StringBuilder result = new StringBuilder(text.length());
+    expand(text, result, new HashSet<>());
+    return result.toString();
+  }
+
+  private void expand(String text, StringBuilder out, Set<String> resolving) {
+    int position = 0;
+    while (position < text.length()) {
+      int start = text.indexOf(REFERENCE_START, position);
+      if (start < 0) {
+        out.append(text, position, text.length());
+        return;
+      }
+      out.append(text, position, start);
+      position = reference(text, start, out, resolving);
+    }
+  }
+
+  /**
+   * Appends the expansion of the reference starting at the given index and returns the index following it. An
+   * unterminated reference only consumes its leading {@code $}, so that the references after it are still expanded.
+   */
+  private int reference(String text, int start, StringBuilder out, Set<String> resolving) {
+    boolean doubleBraced = text.startsWith("{", start + REFERENCE_START.length());
+    String closing = doubleBraced ? "}}" : "}";
+    StringBuilder name = new StringBuilder();
+    int position = start + REFERENCE_START.length() + (doubleBraced ? 1 : 0);
+    while (position < text.length() && !text.startsWith(closing, position)) {
+      if (text.startsWith(REFERENCE_START, position)) {
+        position = reference(text, position, name, resolving);
+      } else {
+        name.append(text.charAt(position++));
+      }
+    }
+    if (position >= text.length()) {
+      out.append('$');
+      return start + 1;
+    }
+    String key = name.toString();
+    String value = values.get(key);
+    if (value == null || !resolving.add(key)) {
+      out.append(REFERENCE_START).append(doubleBraced ? "{" : "").append(key).append(closing);
+    } else {
+      expand(value, out, resolving);
+      resolving.remove(key);
+    }
+    return position + closing.length();
+  }
+
+  private JsonNode jsonValue(String text) {
+    if (!text.startsWith("${{") || !text.endsWith("}}")) {
+      return null;
+    }
+    StringBuilder expanded = new StringBuilder();
+    if (reference(text, 0, expanded, new HashSet<>()) != text.length()) {
+      return null;
+    }
+    try {
+      JsonNode node = mapper.readTree(expanded.toString());
+      return node == null || node.isMissingNode() ? null : node;
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private class SubstitutingGenerator extends JsonGeneratorDelegate {
+
+    SubstitutingGenerator(JsonGenerator delegate) {
+      super(delegate, false);
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+      super.writeFieldName(substitute(name));
+    }
+
+    @Override
+    public void writeFieldName(SerializableString name) throws IOException {
+      if (name.getValue().contains(REFERENCE_START)) {
+        writeFieldName(name.getValue());
+      } else {
+        super.writeFieldName(name);
+      }
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+      if (text == null || !text.contains(REFERENCE_START)) {
+        super.writeString(text);
+        return;
+      }
+      JsonNode node = jsonValue(text);
+      if (node != null) {
+        delegate.writeTree(node);
+      } else {
+        super.writeString(substitute(text));
+      }
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int len) throws IOException {
+      writeString(new String(text, offset, len));
+    }
+
+    @Override
+    public void writeString(SerializableString text) throws IOException {
+      if (text.getValue().contains(REFERENCE_START)) {
+        writeString(text.getValue());
+      } else {
+        super.writeString(text);
+      }
+    }
+  }
+}
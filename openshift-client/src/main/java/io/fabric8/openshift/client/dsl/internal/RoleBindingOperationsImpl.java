@@ -29,6 +29,7 @@ import okhttp3.OkHttpClient;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static io.fabric8.openshift.client.OpenShiftAPIGroups.AUTHORIZATION;
@@ -67,11 +68,21 @@ public class RoleBindingOperationsImpl extends OpenShiftOperation<RoleBinding, R
     return super.patch(enriched);
   }
 
+  @Override
+  public CompletableFuture<RoleBinding> patchAsync(RoleBinding item) {
+    return super.patchAsync(item != null ? enrichRoleBinding(item) : null);
+  }
+
   @Override
   protected RoleBinding handleCreate(RoleBinding resource) throws ExecutionException, InterruptedException, IOException {
     return super.handleCreate(enrichRoleBinding(resource));
   }
 
+  @Override
+  public CompletableFuture<RoleBinding> createAsync(RoleBinding resource) {
+    return super.createAsync(resource != null ? enrichRoleBinding(resource) : null);
+  }
+
   private RoleBinding enrichRoleBinding(RoleBinding binding) {
     RoleBindingBuilder builder = new RoleBindingBuilder(binding);
 
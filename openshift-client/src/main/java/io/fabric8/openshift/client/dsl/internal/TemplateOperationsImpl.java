@@ -186,41 +186,41 @@ public class TemplateOperationsImpl
       .build();
 
     try {
-      String json = JSON_MAPPER.writeValueAsString(list);
-      if (parameters != null && !parameters.isEmpty()) {
-        // lets make a few passes in case there's expressions in values
-        for (int i = 0; i < 5; i++) {
-          for (Parameter parameter : parameters) {
-            String parameterName = parameter.getName();
-            String parameterValue;
-            if (valuesMap.containsKey(parameterName)) {
-              parameterValue = valuesMap.get(parameterName);
-            } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
-              parameterValue = parameter.getValue();
-            } else if (EXPRESSION.equals(parameter.getGenerate())) {
-              Generex generex = new Generex(parameter.getFrom());
-              parameterValue = generex.random();
-            } else if (parameter.getRequired() == null || !parameter.getRequired()) {
-              parameterValue = "";
-            } else {
-              throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
-            }
-            if (parameterValue == null) {
-              logger.debug("Parameter {} has a null value", parameterName);
-              parameterValue = "";
-            }
-            json = Utils.interpolateString(json, Collections.singletonMap(parameterName, parameterValue));
-          }
-        }
-      }
-
-      list = JSON_MAPPER.readValue(json, KubernetesList.class);
+      list = new ParameterSubstitutor(JSON_MAPPER, parameterValues(parameters, valuesMap)).substitute(list, KubernetesList.class);
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(e);
     }
     return list;
   }
 
+  private static Map<String, String> parameterValues(List<Parameter> parameters, Map<String, String> valuesMap) {
+    Map<String, String> values = new HashMap<>();
+    if (parameters == null) {
+      return values;
+    }
+    for (Parameter parameter : parameters) {
+      String parameterName = parameter.getName();
+      String parameterValue;
+      if (valuesMap.containsKey(parameterName)) {
+        parameterValue = valuesMap.get(parameterName);
+      } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
+        parameterValue = parameter.getValue();
+      } else if (EXPRESSION.equals(parameter.getGenerate())) {
+        Generex generex = new Generex(parameter.getFrom());
+        parameterValue = generex.random();
+      } else if (parameter.getRequired() == null || !parameter.getRequired()) {
+        parameterValue = "";
+      } else {
+        throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
+      }
+      if (parameterValue == null) {
+        logger.debug("Parameter {} has a null value", parameterName);
+        parameterValue = "";
+      }
+      values.put(parameterName, parameterValue);
+    }
+    return values;
+  }
 
   private URL getProcessUrl() throws MalformedURLException {
     URL requestUrl = getRootUrl();
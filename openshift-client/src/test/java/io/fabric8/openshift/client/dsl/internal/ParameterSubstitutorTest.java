@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.openshift.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParameterSubstitutorTest {
+
+  private final Map<String, String> values = new HashMap<>();
+  private final ParameterSubstitutor substitutor = new ParameterSubstitutor(Serialization.jsonMapper(), values);
+
+  @Test
+  void shouldReplaceAllReferences() {
+    values.put("NAME", "app");
+    values.put("PORT", "8080");
+    assertEquals("app:8080/app", substitutor.substitute("${NAME}:${{PORT}}/${NAME}"));
+    assertEquals("no references", substitutor.substitute("no references"));
+  }
+
+  @Test
+  void shouldResolveReferencesInValuesAndNames() {
+    values.put("HOST", "${NAME}.${DOMAIN}");
+    values.put("NAME", "app");
+    values.put("DOMAIN", "example.com");
+    values.put("IMAGE_prod", "quay.io/app:1.0");
+    values.put("ENV", "prod");
+    assertEquals("https://app.example.com", substitutor.substitute("https://${HOST}"));
+    assertEquals("quay.io/app:1.0", substitutor.substitute("${IMAGE_${ENV}}"));
+  }
+
+  @Test
+  void shouldLeaveUnknownUnterminatedAndRecursiveReferences() {
+    values.put("SELF", "x${SELF}");
+    values.put("NAME", "app");
+    assertEquals("${UNKNOWN}-${{UNKNOWN}}", substitutor.substitute("${UNKNOWN}-${{UNKNOWN}}"));
+    assertEquals("${NAME-app", substitutor.substitute("${NAME-${NAME}"));
+    assertEquals("x${SELF}", substitutor.substitute("${SELF}"));
+  }
+
+  @Test
+  void shouldSubstituteWhileConvertingObjects() throws IOException {
+    values.put("NAME", "app");
+    values.put("KEY", "config.${NAME}");
+    values.put("SETTINGS", "{\"debug\":true}");
+    values.put("REPLICAS", "3");
+    KubernetesList list = new KubernetesListBuilder().addToItems(new ConfigMapBuilder()
+      .withNewMetadata().withName("${NAME}-config").addToLabels("app", "${NAME}").endMetadata()
+      .addToData("${KEY}", "${{REPLICAS}}")
+      .addToData("settings", "${SETTINGS}")
+      .addToData("literal", "${{UNKNOWN}}")
+      .build()).build();
+
+    KubernetesList result = substitutor.substitute(list, KubernetesList.class);
+
+    ConfigMap configMap = (ConfigMap) result.getItems().get(0);
+    assertEquals("app-config", configMap.getMetadata().getName());
+    assertEquals("app", configMap.getMetadata().getLabels().get("app"));
+    assertEquals("3", configMap.getData().get("config.app"));
+    assertEquals("{\"debug\":true}", configMap.getData().get("settings"));
+    assertEquals("${{UNKNOWN}}", configMap.getData().get("literal"));
+    assertEquals("${NAME}-config", ((ConfigMap) list.getItems().get(0)).getMetadata().getName());
+  }
+}